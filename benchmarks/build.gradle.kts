@@ -0,0 +1,68 @@
+plugins {
+    id("java")
+    id("com.diffplug.spotless")
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+var versions = mapOf(
+    "jmh" to "1.37",
+    "h2" to "2.3.232",
+    "commons-csv" to "1.10.0",
+    "slf4j" to "2.0.17"
+)
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(11)
+    }
+}
+
+repositories {
+    maven {
+        url = uri("https://git.dnpm.dev/api/packages/public-snapshots/maven")
+    }
+    maven {
+        url = uri("https://git.dnpm.dev/api/packages/public/maven")
+    }
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":"))
+    jmh("org.springframework:spring-jdbc") {
+        version {
+            strictly("[4.3.8.RELEASE, )")
+            prefer("4.3.8.RELEASE")
+        }
+    }
+    jmh("com.h2database:h2:${versions["h2"]}")
+    // Baseline of gene lookups parsing the list of genes
+    jmh("org.apache.commons:commons-csv:${versions["commons-csv"]}")
+    jmh("org.slf4j:slf4j-nop:${versions["slf4j"]}")
+}
+
+jmh {
+    jmhVersion = versions["jmh"]
+    fork = 1
+    warmupIterations = 3
+    warmup = "5s"
+    iterations = 5
+    timeOnIteration = "10s"
+    resultFormat = "JSON"
+    // Select benchmarks using `-Pbenchmarks=<regex>`
+    providers.gradleProperty("benchmarks").orNull?.let { includes = listOf(it) }
+    // Select profilers using `-Pprofilers=<name>[,<name>]`, e.g. `gc` for allocation rates
+    providers.gradleProperty("profilers").orNull?.let { profilers = it.split(",") }
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+}
+
+spotless {
+    java {
+        importOrder()
+        removeUnusedImports()
+        googleJavaFormat()
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.benchmarks;
+
+/**
+ * Complexity of generated cases used by benchmarks
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public enum CaseComplexity {
+  /** One care plan with one recommendation and a few variants */
+  SMALL(1, 1, 5),
+  /** Some care plans with multiple recommendations and variants */
+  MEDIUM(2, 4, 20),
+  /** Many care plans and recommendations and a large NGS report */
+  LARGE(5, 8, 100);
+
+  private final int carePlans;
+  private final int recommendationsPerCarePlan;
+  private final int variantsPerReport;
+
+  CaseComplexity(
+      final int carePlans, final int recommendationsPerCarePlan, final int variantsPerReport) {
+    this.carePlans = carePlans;
+    this.recommendationsPerCarePlan = recommendationsPerCarePlan;
+    this.variantsPerReport = variantsPerReport;
+  }
+
+  /**
+   * Get the number of care plans (Therapieplan) of each case
+   *
+   * @return The number of care plans
+   */
+  public int getCarePlans() {
+    return carePlans;
+  }
+
+  /**
+   * Get the number of recommendations (Einzelempfehlung) of each care plan
+   *
+   * @return The number of recommendations
+   */
+  public int getRecommendationsPerCarePlan() {
+    return recommendationsPerCarePlan;
+  }
+
+  /**
+   * Get the number of simple variants of each NGS report (Molekulargenetik)
+   *
+   * @return The number of variants
+   */
+  public int getVariantsPerReport() {
+    return variantsPerReport;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.benchmarks;
+
+import dev.pcvolkmer.mv64e.datamapper.genes.Gene;
+import dev.pcvolkmer.mv64e.datamapper.genes.GeneUtils;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+import org.apache.commons.csv.CSVFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of gene lookups using {@link GeneUtils}.
+ *
+ * <p>The benchmark {@code parseAndScanBySymbol} uses the former implementation parsing the list of
+ * genes on each lookup and scanning all entries as a baseline.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GeneUtilsBenchmark {
+
+  @Param({"BRAF", "ZZZ3", "BRCA 2", "UNKNOWN"})
+  String symbol;
+
+  @Benchmark
+  public Optional<Gene> findBySymbol() {
+    return GeneUtils.findBySymbol(symbol);
+  }
+
+  @Benchmark
+  public Optional<Gene> findByHgncId() {
+    return GeneUtils.findByHgncId("HGNC:1097");
+  }
+
+  @Benchmark
+  public Optional<String> parseAndScanBySymbol() {
+    var inputStream =
+        Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("genes.csv"));
+    try (var parser =
+        CSVFormat.RFC4180
+            .builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setDelimiter('\t')
+            .build()
+            .parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      return StreamSupport.stream(parser.spliterator(), false)
+          .filter(row -> row.get("Approved symbol").equalsIgnoreCase(symbol))
+          .map(row -> row.get("HGNC ID"))
+          .findFirst();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.pcvolkmer.mv64e.datamapper.genes.GeneUtils;
+import dev.pcvolkmer.mv64e.datamapper.mapper.JsonToMedicationMapper;
+import dev.pcvolkmer.mv64e.datamapper.mapper.JsonToMolAltVarianteMapper;
+import dev.pcvolkmer.mv64e.datamapper.mapper.JsonToStudyMapper;
+import dev.pcvolkmer.mv64e.mtb.GeneAlterationReference;
+import dev.pcvolkmer.mv64e.mtb.Reference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of mapping the JSON form fields of one Einzelempfehlung row.
+ *
+ * <p>The benchmark {@code wirkstoffRowPerCallObjectMapper} uses a new {@link ObjectMapper} and type
+ * reference for each field as the former implementation did and serves as a baseline. The
+ * MolAltVariante benchmarks {@code variantenIds} and {@code varianten} are compared to the same
+ * mapping using a new {@link ObjectMapper} on each call.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonFormFieldsBenchmark {
+
+  private static final String WIRKSTOFFE_JSON =
+      "[{\"code\":\"L01EC01\",\"name\":\"Vemurafenib\",\"system\":\"ATC\","
+          + "\"version\":\"2024\"},"
+          + "{\"code\":\"L01EE02\",\"name\":\"Cobimetinib\",\"system\":\"ATC\","
+          + "\"version\":\"2024\"}]";
+
+  private static final String VARIANTEN_JSON =
+      "[{\"id\":22641112,\"ergebnis\":\"Einfache Variante (Mutation)\",\"gen\":\"BRAF\","
+          + "\"exon\":\"15\",\"pathogenitaetsklasse\":\"5\"},"
+          + "{\"id\":22641113,\"ergebnis\":\"Einfache Variante (Mutation)\",\"gen\":\"TP53\","
+          + "\"exon\":\"5\",\"pathogenitaetsklasse\":\"4\"}]";
+
+  private static final String STUDIEN_JSON =
+      "[{\"nct\":\"NCT12345678\",\"studie\":\"Studie 1\",\"system\":\"NCT\"},"
+          + "{\"nct\":\"NCT87654321\",\"studie\":\"Studie 2\",\"system\":\"NCT\"}]";
+
+  @Benchmark
+  public void wirkstoffRow(Blackhole blackhole) {
+    blackhole.consume(JsonToMedicationMapper.map(WIRKSTOFFE_JSON));
+    blackhole.consume(JsonToMolAltVarianteMapper.mapIds(VARIANTEN_JSON));
+  }
+
+  @Benchmark
+  public void studieRow(Blackhole blackhole) {
+    blackhole.consume(JsonToMedicationMapper.map(WIRKSTOFFE_JSON));
+    blackhole.consume(JsonToStudyMapper.map(STUDIEN_JSON));
+    blackhole.consume(JsonToMolAltVarianteMapper.map(VARIANTEN_JSON));
+  }
+
+  @Benchmark
+  public void wirkstoffRowPerCallObjectMapper(Blackhole blackhole) throws JsonProcessingException {
+    blackhole.consume(
+        new ObjectMapper()
+            .readValue(WIRKSTOFFE_JSON, new TypeReference<List<Map<String, Object>>>() {}));
+    blackhole.consume(
+        new ObjectMapper()
+            .readValue(VARIANTEN_JSON, new TypeReference<List<Map<String, Object>>>() {}));
+  }
+
+  @Benchmark
+  public List<Integer> variantenIds() {
+    return JsonToMolAltVarianteMapper.mapIds(VARIANTEN_JSON);
+  }
+
+  @Benchmark
+  public List<Integer> variantenIdsPerCallObjectMapper() throws JsonProcessingException {
+    return new ObjectMapper()
+        .readValue(VARIANTEN_JSON, new TypeReference<List<Map<String, Object>>>() {}).stream()
+            .map(variante -> Integer.parseInt(String.valueOf(variante.get("id"))))
+            .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public List<GeneAlterationReference> varianten() {
+    return JsonToMolAltVarianteMapper.map(VARIANTEN_JSON);
+  }
+
+  @Benchmark
+  public List<GeneAlterationReference> variantenPerCallObjectMapper()
+      throws JsonProcessingException {
+    return new ObjectMapper()
+        .readValue(VARIANTEN_JSON, new TypeReference<List<Map<String, Object>>>() {}).stream()
+            .map(
+                variante -> {
+                  var resultBuilder = GeneAlterationReference.builder();
+                  GeneUtils.findBySymbol(String.valueOf(variante.get("gen")))
+                      .ifPresent(
+                          gene ->
+                              resultBuilder
+                                  .gene(GeneUtils.toCoding(gene))
+                                  .variant(
+                                      Reference.builder()
+                                          .id(String.valueOf(variante.get("id")))
+                                          .type("Variant")
+                                          .build()));
+                  return resultBuilder.build();
+                })
+            .filter(it -> it.getVariant() != null)
+            .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.benchmarks;
+
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.DataCatalogueFactory;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.InstrumentedJdbcTemplate;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.QueryStatistics;
+import dev.pcvolkmer.mv64e.datamapper.mapper.MtbDataMapper;
+import dev.pcvolkmer.mv64e.mtb.Mtb;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * End-to-end benchmarks of {@link MtbDataMapper} using an embedded database with generated cases.
+ *
+ * <p>Besides throughput and sampled latencies (including percentiles) the number of executed
+ * statements and exports is reported as auxiliary counters "queries" and "exports" to get the
+ * number of queries per export.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MtbDataMapperBenchmark {
+
+  /** Number of generated cases. Benchmarks cycle through all of them. */
+  private static final int CASES = 20;
+
+  @State(Scope.Benchmark)
+  public static class ExportState {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    CaseComplexity complexity;
+
+    OnkostarDatabase database;
+    MtbDataMapper mapper;
+    List<Integer> kpaIds;
+    List<String> caseIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      database = OnkostarDatabase.create(complexity, CASES);
+      var jdbcTemplate = new InstrumentedJdbcTemplate(database.getDataSource());
+      mapper = MtbDataMapper.create(jdbcTemplate);
+      kpaIds = database.getKpaIds();
+      caseIds = database.getCaseIds();
+
+      var problems = DataCatalogueFactory.instance().validateStatements();
+      if (!problems.isEmpty()) {
+        throw new IllegalStateException("Schema does not match catalogue statements: " + problems);
+      }
+
+      var result = mapper.getByIdWithStatistics(kpaIds.get(0));
+      System.out.printf(
+          "%nStatements of one %s export: %s%n", complexity, result.getQueryStatistics());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+      database.close();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    int next(final int size) {
+      var current = next;
+      next = (next + 1) % size;
+      return current;
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class QueryCounters {
+    public long queries;
+    public long exports;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      queries = 0;
+      exports = 0;
+    }
+
+    Mtb count(final QueryStatistics statistics, final Mtb mtb) {
+      queries += statistics.getStatementCount();
+      exports++;
+      return mtb;
+    }
+  }
+
+  @Benchmark
+  public Mtb getById(final ExportState state, final Cursor cursor, final QueryCounters counters) {
+    var result =
+        state.mapper.getByIdWithStatistics(state.kpaIds.get(cursor.next(state.kpaIds.size())));
+    return counters.count(result.getQueryStatistics(), result.getMtb());
+  }
+
+  @Benchmark
+  public Mtb getByCaseId(
+      final ExportState state, final Cursor cursor, final QueryCounters counters) {
+    try (var statistics = QueryStatistics.record()) {
+      var mtb = state.mapper.getByCaseId(state.caseIds.get(cursor.next(state.caseIds.size())));
+      return counters.count(statistics, mtb);
+    }
+  }
+}
@@ -0,0 +1,348 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.benchmarks;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+/**
+ * Embedded in-memory database (H2 in MariaDB mode) providing a stand-in of the Onkostar database
+ * schema filled with generated cases.
+ *
+ * <p>Each generated case consists of a patient, a KPA form with histology, ECOG and consent, a
+ * sequencing report (Molekulargenetik) with simple variants and care plans (Therapieplan) with
+ * systemic therapy recommendations referring to these variants.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public final class OnkostarDatabase implements AutoCloseable {
+
+  private static final String URL =
+      "jdbc:h2:mem:onkostar;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+  private static final int ICD10_VERSION = 1;
+  private static final int ICDO3_TOPOGRAPHY_VERSION = 2;
+  private static final int ICDO3_MORPHOLOGY_VERSION = 3;
+  private static final int HEALTH_INSURANCE_TYPE_VERSION = 4;
+  private static final int FIXATION_VERSION = 5;
+
+  private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+  // Gene symbol, HGNC ID, chromosome, transcript, cDNA and protein change, ref, alt and position
+  private static final String[] VARIANTS = {
+    "BRAF;HGNC:1097;chr7;ENST00000646891;c.1799T>A;p.Val600Glu;T;A;140753336",
+    "KRAS;HGNC:6407;chr12;ENST00000311936;c.35G>A;p.Gly12Asp;G;A;25245350",
+    "EGFR;HGNC:3236;chr7;ENST00000275493;c.2573T>G;p.Leu858Arg;T;G;55191822",
+    "PIK3CA;HGNC:8975;chr3;ENST00000263967;c.3140A>G;p.His1047Arg;A;G;179234297",
+    "TP53;HGNC:11998;chr17;ENST00000269305;c.524G>A;p.Arg175His;G;A;7675088"
+  };
+
+  private final JdbcConnectionPool dataSource;
+  private final JdbcTemplate jdbcTemplate;
+  private final List<Integer> kpaIds = new ArrayList<>();
+  private final List<String> caseIds = new ArrayList<>();
+
+  private int nextId = 1;
+
+  private OnkostarDatabase(final JdbcConnectionPool dataSource) {
+    this.dataSource = dataSource;
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+  }
+
+  /**
+   * Create the database schema and generate cases of given complexity. Existing data of a
+   * previously created database will be dropped.
+   *
+   * @param complexity The complexity of generated cases
+   * @param cases The number of cases to be generated
+   * @return The initialized database
+   */
+  public static OnkostarDatabase create(final CaseComplexity complexity, final int cases) {
+    var database = new OnkostarDatabase(JdbcConnectionPool.create(URL, "sa", ""));
+    database.jdbcTemplate.execute("DROP ALL OBJECTS");
+    new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(database.dataSource);
+    database.insertPropertyCatalogues();
+    for (var i = 0; i < cases; i++) {
+      database.insertCase(complexity, i);
+    }
+    return database;
+  }
+
+  /**
+   * Get the data source to access the database
+   *
+   * @return The data source
+   */
+  public DataSource getDataSource() {
+    return dataSource;
+  }
+
+  /**
+   * Get the procedure ids of all generated KPA forms
+   *
+   * @return The KPA procedure ids
+   */
+  public List<Integer> getKpaIds() {
+    return List.copyOf(kpaIds);
+  }
+
+  /**
+   * Get the case ids (Fallnummer MV) of all generated cases
+   *
+   * @return The case ids
+   */
+  public List<String> getCaseIds() {
+    return List.copyOf(caseIds);
+  }
+
+  @Override
+  public void close() {
+    dataSource.dispose();
+  }
+
+  private void insertPropertyCatalogues() {
+    insertPropertyCatalogue(
+        ICD10_VERSION,
+        "2.16.840.1.113883.6.3",
+        "ICD-10-GM 2025",
+        "C34.1",
+        "Bösartige Neubildung: Oberlappen (-Bronchus)");
+    insertPropertyCatalogue(
+        ICDO3_TOPOGRAPHY_VERSION,
+        "2.16.840.1.113883.6.43.1",
+        "ICD-O-3 Topographie",
+        "C34.1",
+        "Oberlappen der Lunge");
+    insertPropertyCatalogue(
+        ICDO3_MORPHOLOGY_VERSION,
+        "2.16.840.1.113883.6.43.1",
+        "ICD-O-3 Morphologie",
+        "8140/3",
+        "Adenokarzinom o.n.A.");
+    insertPropertyCatalogue(
+        HEALTH_INSURANCE_TYPE_VERSION, "", "Art der Krankenkasse", "GKV", "Gesetzlich");
+    insertPropertyCatalogue(FIXATION_VERSION, "", "Materialfixierung", "3", "FFPE");
+  }
+
+  private void insertPropertyCatalogue(
+      final int version,
+      final String oid,
+      final String description,
+      final String code,
+      final String shortdesc) {
+    jdbcTemplate.update(
+        "INSERT INTO property_catalogue_version (id, oid, description) VALUES (?, ?, ?)",
+        version,
+        oid,
+        description);
+    jdbcTemplate.update(
+        "INSERT INTO property_catalogue_version_entry (id, property_version_id, code, shortdesc, description) VALUES (?, ?, ?, ?, ?)",
+        version,
+        version,
+        code,
+        shortdesc,
+        shortdesc);
+  }
+
+  private void insertCase(final CaseComplexity complexity, final int index) {
+    var date = Date.valueOf(BASE_DATE.plusDays(index));
+
+    var patientId = nextId();
+    jdbcTemplate.update(
+        "INSERT INTO patient (id, patienten_id, geschlecht, geburtsdatum, gkz) VALUES (?, ?, ?, ?, ?)",
+        patientId,
+        String.format("2000%04d", index),
+        index % 2 == 0 ? "M" : "F",
+        Date.valueOf(LocalDate.of(1960, 1, 1).plusDays(index)),
+        "09663000");
+
+    var consentId = insertProcedure(patientId, null);
+    jdbcTemplate.update("INSERT INTO dk_dnpm_consentmv (id) VALUES (?)", consentId);
+    jdbcTemplate.update(
+        "INSERT INTO dk_dnpm_uf_consentmvverlauf (id, date, version, sequencing, caseidentification, reidentification) VALUES (?, ?, ?, ?, ?, ?)",
+        insertProcedure(patientId, consentId),
+        date,
+        "2.0",
+        "permit",
+        "permit",
+        "permit");
+
+    var kpaId = insertProcedure(patientId, null);
+    var caseId = String.format("F%08d", index);
+    jdbcTemplate.update(
+        "INSERT INTO dk_dnpm_kpa (id, fallnummermv, anmeldedatummtb, datumerstdiagnose, icd10, icd10_propcat_version, icdo3lokalisation, icdo3lokalisation_propcat_version, consentmv64e, geschlecht, geburtsdatum, krankenkasse, artderkrankenkasse, artderkrankenkasse_propcat_version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        kpaId,
+        caseId,
+        date,
+        date,
+        "C34.1",
+        ICD10_VERSION,
+        "C34.1",
+        ICDO3_TOPOGRAPHY_VERSION,
+        consentId,
+        index % 2 == 0 ? "m" : "w",
+        Date.valueOf(LocalDate.of(1960, 1, 1).plusDays(index)),
+        "109519005",
+        "GKV",
+        HEALTH_INSURANCE_TYPE_VERSION);
+
+    var diseaseId = nextId();
+    jdbcTemplate.update(
+        "INSERT INTO erkrankung (id, patient_id, tumoridentifikator) VALUES (?, ?, ?)",
+        diseaseId,
+        patientId,
+        1);
+    jdbcTemplate.update(
+        "INSERT INTO erkrankung_prozedur (erkrankung_id, prozedur_id) VALUES (?, ?)",
+        diseaseId,
+        kpaId);
+
+    jdbcTemplate.update(
+        "INSERT INTO dk_dnpm_uf_ecog (id, datum, ecog) VALUES (?, ?, ?)",
+        insertProcedure(patientId, kpaId),
+        date,
+        "1");
+
+    var molekulargenetikId = insertProcedure(patientId, null);
+    jdbcTemplate.update(
+        "INSERT INTO dk_molekulargenetik (id, einsendenummer, datum, artdersequenzierung, tumorzellgehalt, materialfixierung, materialfixierung_propcat_version, probenmaterial, entnahmedatum, entnahmemethode) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        molekulargenetikId,
+        String.format("H/2025/%04d", index),
+        date,
+        "PanelKit",
+        60,
+        "3",
+        FIXATION_VERSION,
+        "T",
+        date,
+        "B");
+    jdbcTemplate.update(
+        "INSERT INTO dk_molekulargenetik_merkmale (eintrag_id, feldname, feldwert) VALUES (?, ?, ?)",
+        molekulargenetikId,
+        "AnalyseMethoden",
+        "S");
+
+    jdbcTemplate.update(
+        "INSERT INTO dk_dnpm_uf_histologie (id, histologie, erstellungsdatum, morphologie, morphologie_propcat_version, tumorzellgehalt) VALUES (?, ?, ?, ?, ?, ?)",
+        insertProcedure(patientId, kpaId),
+        molekulargenetikId,
+        date,
+        "8140/3",
+        ICDO3_MORPHOLOGY_VERSION,
+        60);
+
+    var variantIds = new ArrayList<Integer>();
+    for (var i = 0; i < complexity.getVariantsPerReport(); i++) {
+      variantIds.add(insertVariant(patientId, molekulargenetikId, i));
+    }
+
+    for (var i = 0; i < complexity.getCarePlans(); i++) {
+      var carePlanId = insertProcedure(patientId, null);
+      jdbcTemplate.update(
+          "INSERT INTO dk_dnpm_therapieplan (id, ref_dnpm_klinikanamnese, datum, mit_einzelempfehlung, humangen_beratung, protokollauszug) VALUES (?, ?, ?, ?, ?, ?)",
+          carePlanId,
+          kpaId,
+          Date.valueOf(BASE_DATE.plusDays(index + i)),
+          1,
+          0,
+          "Empfehlung einer zielgerichteten Therapie");
+
+      for (var j = 0; j < complexity.getRecommendationsPerCarePlan(); j++) {
+        var variant = (i * complexity.getRecommendationsPerCarePlan() + j) % variantIds.size();
+        insertRecommendation(
+            patientId,
+            carePlanId,
+            molekulargenetikId,
+            variantIds.get(variant),
+            VARIANTS[variant % VARIANTS.length].split(";")[0],
+            j + 1);
+      }
+    }
+
+    kpaIds.add(kpaId);
+    caseIds.add(caseId);
+  }
+
+  private int insertVariant(final int patientId, final int molekulargenetikId, final int index) {
+    var variant = VARIANTS[index % VARIANTS.length].split(";");
+    var id = insertProcedure(patientId, molekulargenetikId);
+    // Every second variant only contains the gene symbol and requires a gene catalogue lookup
+    var complete = index % 2 == 0;
+    jdbcTemplate.update(
+        "INSERT INTO dk_molekulargenuntersuchung (id, ergebnis, untersucht, evhgncid, evchromosom, evensemblid, cdnanomenklatur, proteinebenenomenklatur, allelfrequenz, evreaddepth, evrefnucleotide, evaltnucleotide, evstart, evende) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        id,
+        "P",
+        variant[0],
+        complete ? variant[1] : null,
+        complete ? variant[2] : null,
+        complete ? variant[3] : null,
+        variant[4],
+        variant[5],
+        25,
+        500,
+        variant[6],
+        variant[7],
+        Double.valueOf(variant[8]),
+        Double.valueOf(variant[8]));
+    return id;
+  }
+
+  private void insertRecommendation(
+      final int patientId,
+      final int carePlanId,
+      final int molekulargenetikId,
+      final int variantId,
+      final String gene,
+      final int priority) {
+    jdbcTemplate.update(
+        "INSERT INTO dk_dnpm_uf_einzelempfehlung (id, ref_molekulargenetik, datum, prio, evidenzlevel, empfehlungskategorie, wirkstoffe_json, st_mol_alt_variante_json) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+        insertProcedure(patientId, carePlanId),
+        molekulargenetikId,
+        Date.valueOf(BASE_DATE),
+        priority,
+        "1",
+        "systemisch",
+        "[{\"code\":\"L01EC01\",\"name\":\"Vemurafenib\",\"system\":\"ATC\",\"version\":\"2025\"}]",
+        String.format("[{\"id\":\"%d\",\"gen\":\"%s\"}]", variantId, gene));
+  }
+
+  private int insertProcedure(final int patientId, final Integer parentId) {
+    var id = nextId();
+    jdbcTemplate.update(
+        "INSERT INTO prozedur (id, patient_id, hauptprozedur_id, geloescht) VALUES (?, ?, ?, 0)",
+        id,
+        patientId,
+        parentId);
+    return id;
+  }
+
+  private int nextId() {
+    return nextId++;
+  }
+}
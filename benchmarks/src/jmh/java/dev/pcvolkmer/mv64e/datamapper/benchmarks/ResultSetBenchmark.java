@@ -0,0 +1,76 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.benchmarks;
+
+import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of {@link ResultSet#getString(String)} for clean strings, Integer values and strings
+ * containing invalid code points.
+ *
+ * <p>The benchmark {@code sanitizeOnEachCall} removes invalid code points on each call as the
+ * former implementation did and serves as a baseline. Run with {@code -Pprofilers=gc} to compare
+ * allocated bytes per call.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResultSetBenchmark {
+
+  private final ResultSet resultSet =
+      ResultSet.from(
+          Map.of("clean", "Clean ASCII value", "integer", 4711, "invalid", "Invalid\uD800 value"));
+
+  @Param({"clean", "integer", "invalid"})
+  String column;
+
+  @Benchmark
+  public String getString() {
+    return resultSet.getString(column);
+  }
+
+  @Benchmark
+  public String sanitizeOnEachCall() {
+    var sb = new StringBuilder();
+    resultSet
+        .getRawData()
+        .get(column)
+        .toString()
+        .trim()
+        .codePoints()
+        .filter(Character::isValidCodePoint)
+        .filter(cp -> !Character.isSurrogate((char) cp))
+        .forEach(sb::appendCodePoint);
+    return sb.toString();
+  }
+}
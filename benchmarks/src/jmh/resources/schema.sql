@@ -0,0 +1,221 @@
+-- Minimal stand-in of the Onkostar database schema used by mv64e-onkostar-data.
+-- Only columns queried by the data catalogues or read by the data mappers are present.
+
+CREATE TABLE patient (
+    id INT PRIMARY KEY,
+    patienten_id VARCHAR(32) NOT NULL,
+    geschlecht VARCHAR(1),
+    geburtsdatum DATE,
+    sterbedatum DATE,
+    gkz VARCHAR(8)
+);
+
+CREATE TABLE prozedur (
+    id INT PRIMARY KEY,
+    patient_id INT NOT NULL,
+    hauptprozedur_id INT,
+    geloescht INT DEFAULT 0 NOT NULL
+);
+
+CREATE INDEX idx_prozedur_patient_id ON prozedur (patient_id);
+CREATE INDEX idx_prozedur_hauptprozedur_id ON prozedur (hauptprozedur_id);
+
+CREATE TABLE erkrankung (
+    id INT PRIMARY KEY,
+    patient_id INT NOT NULL,
+    tumoridentifikator INT
+);
+
+CREATE TABLE erkrankung_prozedur (
+    erkrankung_id INT NOT NULL,
+    prozedur_id INT NOT NULL
+);
+
+CREATE INDEX idx_erkrankung_prozedur_prozedur_id ON erkrankung_prozedur (prozedur_id);
+
+CREATE TABLE property_catalogue_version (
+    id INT PRIMARY KEY,
+    oid VARCHAR(255),
+    description VARCHAR(255)
+);
+
+CREATE TABLE property_catalogue_version_entry (
+    id INT PRIMARY KEY,
+    property_version_id INT NOT NULL,
+    code VARCHAR(64) NOT NULL,
+    shortdesc VARCHAR(255),
+    description VARCHAR(1024)
+);
+
+CREATE INDEX idx_property_catalogue_version_entry ON property_catalogue_version_entry (property_version_id, code);
+
+-- KPA and subforms
+
+CREATE TABLE dk_dnpm_kpa (
+    id INT PRIMARY KEY,
+    fallnummermv VARCHAR(64),
+    anmeldedatummtb DATE,
+    datumerstdiagnose DATE,
+    diagnosetyp VARCHAR(32),
+    icd10 VARCHAR(16),
+    icd10_propcat_version INT,
+    icdo3lokalisation VARCHAR(16),
+    icdo3lokalisation_propcat_version INT,
+    consentmv64e INT,
+    geschlecht VARCHAR(1),
+    geburtsdatum DATE,
+    todesdatum DATE,
+    krankenkasse VARCHAR(16),
+    artderkrankenkasse VARCHAR(16),
+    artderkrankenkasse_propcat_version INT
+);
+
+CREATE INDEX idx_dk_dnpm_kpa_fallnummermv ON dk_dnpm_kpa (fallnummermv);
+
+CREATE TABLE dk_dnpm_uf_histologie (
+    id INT PRIMARY KEY,
+    histologie INT,
+    erstellungsdatum DATE,
+    morphologie VARCHAR(16),
+    morphologie_propcat_version INT,
+    tumorzellgehalt INT
+);
+
+CREATE TABLE dk_dnpm_uf_ecog (
+    id INT PRIMARY KEY,
+    datum DATE,
+    ecog VARCHAR(1)
+);
+
+CREATE TABLE dk_dnpm_uf_tumorausbreitung (id INT PRIMARY KEY);
+CREATE TABLE dk_dnpm_uf_tumorgrading (id INT PRIMARY KEY);
+CREATE TABLE dk_dnpm_uf_keimbahndiagnose (id INT PRIMARY KEY);
+CREATE TABLE dk_dnpm_uf_prozedur (id INT PRIMARY KEY);
+CREATE TABLE dk_dnpm_uf_verwandte (id INT PRIMARY KEY);
+CREATE TABLE dk_dnpm_therapielinie (id INT PRIMARY KEY);
+CREATE TABLE dk_dnpm_vorbefunde (id INT PRIMARY KEY);
+
+-- Consent
+
+CREATE TABLE dk_dnpm_consentmv (id INT PRIMARY KEY);
+
+CREATE TABLE dk_dnpm_uf_consentmvverlauf (
+    id INT PRIMARY KEY,
+    date DATE,
+    version VARCHAR(16),
+    sequencing VARCHAR(16),
+    caseidentification VARCHAR(16),
+    reidentification VARCHAR(16)
+);
+
+-- Therapieplan and subforms
+
+CREATE TABLE dk_dnpm_therapieplan (
+    id INT PRIMARY KEY,
+    ref_dnpm_klinikanamnese INT,
+    refdnpmklinikanamnese INT,
+    ref_no_empf_molgen INT,
+    datum DATE,
+    mit_einzelempfehlung INT,
+    humangen_beratung INT,
+    datum_tk_humangenber DATE,
+    protokollauszug VARCHAR(1024),
+    status_begruendung VARCHAR(64)
+);
+
+CREATE INDEX idx_dk_dnpm_therapieplan_kpa ON dk_dnpm_therapieplan (ref_dnpm_klinikanamnese);
+
+CREATE TABLE dk_dnpm_uf_einzelempfehlung (
+    id INT PRIMARY KEY,
+    ref_molekulargenetik INT,
+    datum DATE,
+    prio INT,
+    evidenzlevel VARCHAR(8),
+    empfehlungskategorie VARCHAR(32),
+    wirkstoffe_json VARCHAR(4096),
+    st_mol_alt_variante_json VARCHAR(4096)
+);
+
+CREATE TABLE dk_dnpm_uf_rebiopsie (
+    id INT PRIMARY KEY,
+    ref_molekulargenetik INT,
+    datum DATE
+);
+
+CREATE TABLE dk_dnpm_uf_reevaluation (
+    id INT PRIMARY KEY,
+    ref_molekulargenetik INT,
+    datum DATE
+);
+
+CREATE TABLE dk_dnpm_followup (
+    id INT PRIMARY KEY,
+    linktherapieempfehlung INT
+);
+
+-- Molekulargenetik and subforms
+
+CREATE TABLE dk_molekulargenetik (
+    id INT PRIMARY KEY,
+    einsendenummer VARCHAR(64),
+    datum DATE,
+    artdersequenzierung VARCHAR(32),
+    tumorzellgehalt INT,
+    materialfixierung VARCHAR(8),
+    materialfixierung_propcat_version INT,
+    probenmaterial VARCHAR(8),
+    entnahmedatum DATE,
+    entnahmemethode VARCHAR(8)
+);
+
+CREATE INDEX idx_dk_molekulargenetik_einsendenummer ON dk_molekulargenetik (einsendenummer);
+
+CREATE TABLE dk_molekulargenuntersuchung (
+    id INT PRIMARY KEY,
+    ergebnis VARCHAR(8),
+    untersucht VARCHAR(32),
+    evhgncid VARCHAR(32),
+    evchromosom VARCHAR(8),
+    evensemblid VARCHAR(32),
+    evnmnummer VARCHAR(32),
+    exon VARCHAR(8),
+    cdnanomenklatur VARCHAR(64),
+    proteinebenenomenklatur VARCHAR(64),
+    allelfrequenz INT,
+    evreaddepth INT,
+    evrefnucleotide VARCHAR(64),
+    evaltnucleotide VARCHAR(64),
+    evstart DOUBLE PRECISION,
+    evende DOUBLE PRECISION
+);
+
+CREATE TABLE dk_molekluargenmsi (id INT PRIMARY KEY);
+CREATE TABLE dk_molekularimmunhisto (id INT PRIMARY KEY);
+CREATE TABLE dk_molekularpcr (id INT PRIMARY KEY);
+CREATE TABLE dk_pathologie (id INT PRIMARY KEY);
+
+-- Merkmale of all forms
+
+CREATE TABLE dk_dnpm_kpa_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_histologie_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_ecog_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_tumorausbreitung_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_tumorgrading_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_keimbahndiagnose_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_prozedur_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_verwandte_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_therapielinie_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_vorbefunde_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_consentmv_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_consentmvverlauf_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_therapieplan_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_einzelempfehlung_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_rebiopsie_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_uf_reevaluation_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_dnpm_followup_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_molekulargenetik_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_molekulargenuntersuchung_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_molekluargenmsi_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_molekularimmunhisto_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_molekularpcr_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
+CREATE TABLE dk_pathologie_merkmale (eintrag_id INT NOT NULL, feldname VARCHAR(64) NOT NULL, feldwert VARCHAR(255));
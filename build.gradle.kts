@@ -66,6 +66,22 @@ dependencies {
     errorprone("com.uber.nullaway:nullaway:0.12.12")
 }
 
+val generateGeneSnapshot by tasks.registering(JavaExec::class) {
+    description = "Compiles the list of genes into the binary gene snapshot"
+    val genes = layout.projectDirectory.file("src/main/resources/genes.csv")
+    val output = layout.buildDirectory.dir("generated/resources/genes")
+    inputs.file(genes)
+    outputs.dir(output)
+    classpath = sourceSets.main.get().output.classesDirs + configurations.runtimeClasspath.get()
+    mainClass = "dev.pcvolkmer.mv64e.datamapper.genes.GeneSnapshotWriter"
+    javaLauncher = javaToolchains.launcherFor(java.toolchain)
+    args(genes.asFile.absolutePath, output.get().file("genes.bin").asFile.absolutePath)
+}
+
+sourceSets.main {
+    resources.srcDir(generateGeneSnapshot)
+}
+
 tasks.test {
     testLogging {
         events = setOf(TestLogEvent.PASSED, TestLogEvent.SKIPPED, TestLogEvent.FAILED)
@@ -1 +1,3 @@
 rootProject.name = "mv64e-onkostar-data"
+
+include("benchmarks")
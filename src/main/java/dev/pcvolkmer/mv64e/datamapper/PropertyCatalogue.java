@@ -20,12 +20,23 @@
 
 package dev.pcvolkmer.mv64e.datamapper;
 
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.InstrumentedJdbcTemplate;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.NullUnmarked;
 import org.jspecify.annotations.Nullable;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
@@ -37,19 +48,46 @@ import org.springframework.jdbc.core.JdbcTemplate;
 @NullMarked
 public class PropertyCatalogue {
 
+  /** Default maximum number of cached property catalogue entries */
+  public static final int DEFAULT_CACHE_SIZE = 10_000;
+
+  /** Maximum number of codes used in one single {@code IN (...)} clause */
+  private static final int CODE_LIST_CHUNK_SIZE = 500;
+
+  private static final String ENTRY_QUERY =
+      "SELECT code, shortdesc, e.description, v.oid AS version_oid, v.description AS version_description FROM property_catalogue_version_entry e"
+          + " JOIN property_catalogue_version v ON (e.property_version_id = v.id)";
+
   private final JdbcTemplate jdbcTemplate;
+  private final PropertyCatalogueCache cache;
+  @Nullable private volatile PropertyCatalogueStore store;
   private static final org.slf4j.Logger logger =
       org.slf4j.LoggerFactory.getLogger(PropertyCatalogue.class);
 
-  private PropertyCatalogue(JdbcTemplate jdbcTemplate) {
+  PropertyCatalogue(JdbcTemplate jdbcTemplate, int maxCacheSize) {
     this.jdbcTemplate = jdbcTemplate;
+    this.cache = new PropertyCatalogueCache(maxCacheSize);
   }
 
   @Nullable private static PropertyCatalogue obj;
 
   public static synchronized PropertyCatalogue initialize(final JdbcTemplate jdbcTemplate) {
+    return initialize(jdbcTemplate, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Initialize property catalogue using a cache with given maximum size. A size of 0 disables the
+   * cache. If already initialized, the existing instance will be returned.
+   *
+   * @param jdbcTemplate The JdbcTemplate to be used
+   * @param maxCacheSize The maximum number of cached entries
+   * @return The property catalogue
+   * @since 0.10
+   */
+  public static synchronized PropertyCatalogue initialize(
+      final JdbcTemplate jdbcTemplate, final int maxCacheSize) {
     if (null == obj) {
-      obj = new PropertyCatalogue(jdbcTemplate);
+      obj = new PropertyCatalogue(jdbcTemplate, maxCacheSize);
     }
     return obj;
   }
@@ -62,28 +100,49 @@ public class PropertyCatalogue {
   }
 
   /**
-   * Get procedure result sets by parent procedure id
+   * Get property catalogue entry by code and version. If a store is used and contains the version,
+   * the entry will be taken from the store. Otherwise entries and missing entries are cached.
    *
    * @param code The entries code
    * @param version The entries version
-   * @return The sub procedures
+   * @return The property catalogue entry
    */
   @NullMarked
   public Entry getByCodeAndVersion(String code, int version) {
+    var currentStore = this.store;
+    Optional<Entry> entry;
+    if (null != currentStore && currentStore.containsVersion(version)) {
+      entry = currentStore.find(code, version);
+    } else {
+      entry =
+          cache.get(
+              code,
+              version,
+              () ->
+                  InstrumentedJdbcTemplate.labeled(
+                      PropertyCatalogue.class,
+                      "getByCodeAndVersion",
+                      () -> loadByCodeAndVersion(code, version)));
+    }
+
+    return entry.orElseThrow(
+        () ->
+            new DataAccessException(
+                String.format(
+                    "Cannot request property catalogue entry for '%s' version '%d'",
+                    code, version)));
+  }
+
+  private Optional<Entry> loadByCodeAndVersion(String code, int version) {
     try {
-      return this.jdbcTemplate.queryForObject(
-          "SELECT code, shortdesc, e.description, v.oid AS version_oid, v.description AS version_description FROM property_catalogue_version_entry e"
-              + " JOIN property_catalogue_version v ON (e.property_version_id = v.id)"
-              + " WHERE code = ? AND property_version_id = ?",
-          (rs, rowNum) ->
-              new Entry(
-                  rs.getString("code"),
-                  rs.getString("shortdesc"),
-                  rs.getString("description"),
-                  rs.getString("version_oid"),
-                  rs.getString("version_description")),
-          code,
-          version);
+      return Optional.ofNullable(
+          this.jdbcTemplate.queryForObject(
+              ENTRY_QUERY + " WHERE code = ? AND property_version_id = ?",
+              PropertyCatalogue::mapEntry,
+              code,
+              version));
+    } catch (EmptyResultDataAccessException e) {
+      return Optional.empty();
     } catch (RuntimeException e) {
       throw new DataAccessException(
           String.format(
@@ -91,6 +150,106 @@ public class PropertyCatalogue {
     }
   }
 
+  private static Entry mapEntry(java.sql.ResultSet rs, int rowNum) throws SQLException {
+    return new Entry(
+        rs.getString("code"),
+        rs.getString("shortdesc"),
+        rs.getString("description"),
+        rs.getString("version_oid"),
+        rs.getString("version_description"));
+  }
+
+  /**
+   * Loads all given property catalogue entries not yet cached or contained in a used store into the
+   * cache using one query per version and chunk of codes. Errors are ignored, entries not loaded
+   * will be requested one by one on use.
+   *
+   * @param values The codes and versions to be loaded
+   * @since 0.10
+   */
+  public void prefetch(final Collection<PropertyValue> values) {
+    if (!cache.isEnabled()) {
+      return;
+    }
+
+    var currentStore = this.store;
+    var codesByVersion = new HashMap<Integer, Set<String>>();
+    for (var value : values) {
+      if ((null != currentStore && currentStore.containsVersion(value.getVersion()))
+          || cache.contains(value.getCode(), value.getVersion())) {
+        continue;
+      }
+      codesByVersion
+          .computeIfAbsent(value.getVersion(), key -> new LinkedHashSet<>())
+          .add(value.getCode());
+    }
+
+    codesByVersion.forEach(
+        (version, codes) -> {
+          var codeList = new ArrayList<>(codes);
+          for (var i = 0; i < codeList.size(); i += CODE_LIST_CHUNK_SIZE) {
+            prefetch(
+                version,
+                codeList.subList(i, Math.min(i + CODE_LIST_CHUNK_SIZE, codeList.size())));
+          }
+        });
+  }
+
+  private void prefetch(final int version, final List<String> codes) {
+    var args = new ArrayList<Object>(codes.size() + 1);
+    args.add(version);
+    args.addAll(codes);
+
+    try {
+      var found = new HashMap<String, Entry>();
+      InstrumentedJdbcTemplate.labeled(
+              PropertyCatalogue.class,
+              "prefetch",
+              () ->
+                  this.jdbcTemplate.query(
+                      ENTRY_QUERY
+                          + " WHERE property_version_id = ? AND code IN ("
+                          + String.join(", ", Collections.nCopies(codes.size(), "?"))
+                          + ")",
+                      PropertyCatalogue::mapEntry,
+                      args.toArray()))
+          .forEach(entry -> found.put(entry.getCode(), entry));
+      codes.forEach(code -> cache.put(code, version, Optional.ofNullable(found.get(code))));
+    } catch (RuntimeException e) {
+      logger.debug("Cannot prefetch property catalogue entries for version '{}'", version, e);
+    }
+  }
+
+  /**
+   * Use a store of preloaded property catalogue versions. Versions not contained in the store will
+   * still be requested from the database.
+   *
+   * @param store The store to be used or null to disable the store
+   * @since 0.10
+   */
+  public void useStore(@Nullable final PropertyCatalogueStore store) {
+    this.store = store;
+  }
+
+  /**
+   * Get statistics of the property catalogue entry cache
+   *
+   * @return The current cache statistics
+   * @since 0.10
+   */
+  public CacheStatistics getCacheStatistics() {
+    return cache.statistics();
+  }
+
+  /**
+   * Drops all cached property catalogue entries
+   *
+   * @since 0.10
+   */
+  public void invalidateCache() {
+    cache.invalidate();
+  }
+
   @NullMarked
   public String getShortdescOrEmptyByCodeAndVersion(final String code, final Integer version) {
     try {
@@ -153,4 +312,52 @@ public class PropertyCatalogue {
       return versionDescription;
     }
   }
+
+  /**
+   * Statistics of the property catalogue entry cache
+   *
+   * @since 0.10
+   */
+  public static class CacheStatistics {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maxSize;
+
+    CacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maxSize) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.evictionCount = evictionCount;
+      this.size = size;
+      this.maxSize = maxSize;
+    }
+
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    public long getMissCount() {
+      return missCount;
+    }
+
+    public long getEvictionCount() {
+      return evictionCount;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "CacheStatistics{hitCount=%d, missCount=%d, evictionCount=%d, size=%d, maxSize=%d}",
+          hitCount, missCount, evictionCount, size, maxSize);
+    }
+  }
 }
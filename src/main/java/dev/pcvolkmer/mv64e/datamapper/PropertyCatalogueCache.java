@@ -0,0 +1,170 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Bounded LRU cache for property catalogue entries by code and version. Missing entries are cached
+ * as empty Optional to avoid repeated requests for unknown codes.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+final class PropertyCatalogueCache {
+
+  private final int maxSize;
+  private final Map<Key, Optional<PropertyCatalogue.Entry>> entries;
+
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  PropertyCatalogueCache(final int maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("Cache size must not be negative");
+    }
+    this.maxSize = maxSize;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              Map.Entry<Key, Optional<PropertyCatalogue.Entry>> eldest) {
+            if (size() > PropertyCatalogueCache.this.maxSize) {
+              evictionCount.incrementAndGet();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Get cached entry or load and cache the entry. The loader is called without holding the lock,
+   * concurrent requests for the same entry might therefore load the entry more than once.
+   *
+   * @param code The entries code
+   * @param version The entries version
+   * @param loader The loader to be used if there is no cached entry
+   * @return The cached or loaded entry, empty if there is no such entry
+   */
+  Optional<PropertyCatalogue.Entry> get(
+      final String code,
+      final int version,
+      final Supplier<Optional<PropertyCatalogue.Entry>> loader) {
+    var key = new Key(code, version);
+
+    synchronized (entries) {
+      var cached = entries.get(key);
+      if (null != cached) {
+        hitCount.incrementAndGet();
+        return cached;
+      }
+    }
+
+    missCount.incrementAndGet();
+    var result = loader.get();
+    if (maxSize > 0) {
+      synchronized (entries) {
+        entries.put(key, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks if there is a cached entry or a cached missing entry without updating statistics
+   *
+   * @param code The entries code
+   * @param version The entries version
+   * @return true if cached
+   */
+  boolean contains(final String code, final int version) {
+    synchronized (entries) {
+      return entries.containsKey(new Key(code, version));
+    }
+  }
+
+  /**
+   * Caches the given entry
+   *
+   * @param code The entries code
+   * @param version The entries version
+   * @param entry The entry, empty if there is no such entry
+   */
+  void put(final String code, final int version, final Optional<PropertyCatalogue.Entry> entry) {
+    if (maxSize > 0) {
+      synchronized (entries) {
+        entries.put(new Key(code, version), entry);
+      }
+    }
+  }
+
+  boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /** Drops all cached entries */
+  void invalidate() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  PropertyCatalogue.CacheStatistics statistics() {
+    int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    return new PropertyCatalogue.CacheStatistics(
+        hitCount.get(), missCount.get(), evictionCount.get(), size, maxSize);
+  }
+
+  private static final class Key {
+    private final String code;
+    private final int version;
+
+    private Key(final String code, final int version) {
+      this.code = code;
+      this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return version == key.version && code.equals(key.code);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(code, version);
+    }
+  }
+}
@@ -0,0 +1,349 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compact in-memory store of preloaded property catalogue versions. Entries are kept in arrays
+ * sorted by version and code, all strings are deduplicated. Codes are compared ignoring case, as
+ * the database does using the usual case-insensitive collation. The store is immutable and can be
+ * written to and read from a binary snapshot file.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * var store = PropertyCatalogueStore.load(jdbcTemplate);
+ * store.writeTo(Path.of("propcat.bin"));
+ * PropertyCatalogue.instance().useStore(PropertyCatalogueStore.readFrom(Path.of("propcat.bin")));
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class PropertyCatalogueStore {
+
+  private static final int MAGIC = 0x50435354;
+  private static final int FORMAT_VERSION = 2;
+  private static final int FIELDS = 5;
+  private static final int NONE = -1;
+  private static final int CHUNK_SIZE = 500;
+
+  private static final String SQL =
+      "SELECT e.property_version_id, code, shortdesc, e.description, v.oid AS version_oid, v.description AS version_description FROM property_catalogue_version_entry e"
+          + " JOIN property_catalogue_version v ON (e.property_version_id = v.id)";
+
+  private final String[] strings;
+  private final int[] versions;
+  private final int[] entryVersions;
+  private final int[] values;
+
+  private PropertyCatalogueStore(
+      final String[] strings, final int[] versions, final int[] entryVersions, final int[] values) {
+    this.strings = strings;
+    this.versions = versions;
+    this.entryVersions = entryVersions;
+    this.values = values;
+  }
+
+  /**
+   * Load all entries of all property catalogue versions
+   *
+   * @param jdbcTemplate The JdbcTemplate to be used
+   * @return The store containing all entries
+   */
+  public static PropertyCatalogueStore load(final JdbcTemplate jdbcTemplate) {
+    var builder = new Builder();
+    jdbcTemplate.query(SQL, rs -> builder.add(rs.getInt("property_version_id"), rs));
+    return builder.build();
+  }
+
+  /**
+   * Load all entries of the given property catalogue versions using chunked set-based queries.
+   * Requested versions without any entry are marked as loaded too.
+   *
+   * @param jdbcTemplate The JdbcTemplate to be used
+   * @param versions The property catalogue versions to be loaded
+   * @return The store containing all entries of the given versions
+   */
+  public static PropertyCatalogueStore load(
+      final JdbcTemplate jdbcTemplate, final Collection<Integer> versions) {
+    var builder = new Builder();
+    var distinctVersions = new ArrayList<>(new TreeSet<>(versions));
+    for (int i = 0; i < distinctVersions.size(); i += CHUNK_SIZE) {
+      var chunk = distinctVersions.subList(i, Math.min(i + CHUNK_SIZE, distinctVersions.size()));
+      jdbcTemplate.query(
+          SQL
+              + " WHERE e.property_version_id IN ("
+              + String.join(", ", Collections.nCopies(chunk.size(), "?"))
+              + ")",
+          rs -> builder.add(rs.getInt("property_version_id"), rs),
+          chunk.toArray());
+    }
+    distinctVersions.forEach(builder::addVersion);
+    return builder.build();
+  }
+
+  /**
+   * Read a store from a snapshot file
+   *
+   * @param path The path of the snapshot file
+   * @return The store
+   * @throws IOException if the file cannot be read or is not a valid snapshot
+   */
+  public static PropertyCatalogueStore readFrom(final Path path) throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        throw new IOException("Not a valid property catalogue snapshot: " + path);
+      }
+
+      var strings = new String[in.readInt()];
+      for (int i = 0; i < strings.length; i++) {
+        var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        strings[i] = new String(bytes, StandardCharsets.UTF_8);
+      }
+
+      var versions = new int[in.readInt()];
+      for (int i = 0; i < versions.length; i++) {
+        versions[i] = in.readInt();
+      }
+
+      var entryVersions = new int[in.readInt()];
+      var values = new int[entryVersions.length * FIELDS];
+      for (int i = 0; i < entryVersions.length; i++) {
+        entryVersions[i] = in.readInt();
+        for (int field = 0; field < FIELDS; field++) {
+          values[i * FIELDS + field] = in.readInt();
+        }
+      }
+
+      return new PropertyCatalogueStore(strings, versions, entryVersions, values);
+    }
+  }
+
+  /**
+   * Write this store to a snapshot file
+   *
+   * @param path The path of the snapshot file
+   * @throws IOException if the file cannot be written
+   */
+  public void writeTo(final Path path) throws IOException {
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+
+      out.writeInt(strings.length);
+      for (var string : strings) {
+        var bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+      }
+
+      out.writeInt(versions.length);
+      for (var version : versions) {
+        out.writeInt(version);
+      }
+
+      out.writeInt(entryVersions.length);
+      for (int i = 0; i < entryVersions.length; i++) {
+        out.writeInt(entryVersions[i]);
+        for (int field = 0; field < FIELDS; field++) {
+          out.writeInt(values[i * FIELDS + field]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Checks if the given version has been loaded into this store
+   *
+   * @param version The property catalogue version
+   * @return true if the version has been loaded
+   */
+  public boolean containsVersion(final int version) {
+    return Arrays.binarySearch(versions, version) >= 0;
+  }
+
+  /**
+   * Find entry by code and version. The code is compared ignoring case.
+   *
+   * @param code The entries code
+   * @param version The entries version
+   * @return The entry or an empty Optional if there is no such entry in this store
+   */
+  public Optional<PropertyCatalogue.Entry> find(final String code, final int version) {
+    var low = 0;
+    var high = entryVersions.length - 1;
+    while (low <= high) {
+      var middle = (low + high) >>> 1;
+      var comparison = compare(middle, version, code);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return Optional.of(entry(middle));
+      }
+    }
+    return Optional.empty();
+  }
+
+  private int compare(final int index, final int version, final String code) {
+    var comparison = Integer.compare(entryVersions[index], version);
+    if (comparison != 0) {
+      return comparison;
+    }
+    return String.CASE_INSENSITIVE_ORDER.compare(strings[values[index * FIELDS]], code);
+  }
+
+  private PropertyCatalogue.Entry entry(final int index) {
+    var offset = index * FIELDS;
+    return new PropertyCatalogue.Entry(
+        strings[values[offset]],
+        string(values[offset + 1]),
+        string(values[offset + 2]),
+        string(values[offset + 3]),
+        string(values[offset + 4]));
+  }
+
+  /**
+   * Get number of entries in this store
+   *
+   * @return The number of entries
+   */
+  public int size() {
+    return entryVersions.length;
+  }
+
+  /**
+   * Get all versions loaded into this store
+   *
+   * @return The sorted list of versions
+   */
+  public List<Integer> getVersions() {
+    return Arrays.stream(versions).boxed().collect(Collectors.toList());
+  }
+
+  @Nullable
+  private String string(final int index) {
+    return index == NONE ? null : strings[index];
+  }
+
+  /**
+   * Builder collecting entries and deduplicating strings. Of multiple entries of one version with
+   * codes differing in case only, the last added entry is kept.
+   */
+  static final class Builder {
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+    private final TreeSet<Integer> versions = new TreeSet<>();
+    private final TreeMap<Integer, TreeMap<String, int[]>> entries = new TreeMap<>();
+
+    void addVersion(final int version) {
+      versions.add(version);
+    }
+
+    void add(final int version, final java.sql.ResultSet rs) throws java.sql.SQLException {
+      add(
+          version,
+          rs.getString("code"),
+          rs.getString("shortdesc"),
+          rs.getString("description"),
+          rs.getString("version_oid"),
+          rs.getString("version_description"));
+    }
+
+    void add(
+        final int version,
+        final String code,
+        @Nullable final String shortdesc,
+        @Nullable final String description,
+        @Nullable final String versionOid,
+        @Nullable final String versionDescription) {
+      versions.add(version);
+      entries
+          .computeIfAbsent(version, key -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+          .put(
+              code,
+              new int[] {
+                index(code),
+                index(shortdesc),
+                index(description),
+                index(versionOid),
+                index(versionDescription)
+              });
+    }
+
+    private int index(@Nullable final String string) {
+      if (null == string) {
+        return NONE;
+      }
+      return stringIndex.computeIfAbsent(
+          string,
+          s -> {
+            strings.add(s);
+            return strings.size() - 1;
+          });
+    }
+
+    PropertyCatalogueStore build() {
+      var size = entries.values().stream().mapToInt(Map::size).sum();
+      var entryVersions = new int[size];
+      var values = new int[size * FIELDS];
+      var i = 0;
+      for (var versionEntries : entries.entrySet()) {
+        for (var entry : versionEntries.getValue().values()) {
+          entryVersions[i] = versionEntries.getKey();
+          System.arraycopy(entry, 0, values, i * FIELDS, FIELDS);
+          i++;
+        }
+      }
+      return new PropertyCatalogueStore(
+          strings.toArray(new String[0]),
+          versions.stream().mapToInt(Integer::intValue).toArray(),
+          entryVersions,
+          values);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Descriptor of a coded column using a property catalogue. The column name of the property
+ * catalogue version is resolved once and is assumed to be `..._propcat_version`.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * private static final PropertyColumn ICD10 = PropertyColumn.of("icd10");
+ *
+ * var property = resultSet.getProperty(ICD10);
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class PropertyColumn {
+
+  private static final Map<String, PropertyColumn> COLUMNS = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final String versionName;
+
+  private PropertyColumn(final String name) {
+    this.name = name;
+    this.versionName = name + "_propcat_version";
+  }
+
+  /**
+   * Get the descriptor of the coded column. Descriptors are created once for each column name.
+   *
+   * @param name The name of the column containing the code
+   * @return The column descriptor
+   */
+  public static PropertyColumn of(final String name) {
+    var column = COLUMNS.get(name);
+    if (null != column) {
+      return column;
+    }
+    return COLUMNS.computeIfAbsent(name, PropertyColumn::new);
+  }
+
+  /**
+   * Get the name of the column containing the code
+   *
+   * @return The name of the column
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Get the name of the column containing the property catalogue version
+   *
+   * @return The name of the version column
+   */
+  public String getVersionName() {
+    return versionName;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
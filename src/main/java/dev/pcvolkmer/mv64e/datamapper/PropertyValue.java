@@ -0,0 +1,73 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper;
+
+import java.util.Objects;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Code and property catalogue version of a coded column value
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class PropertyValue {
+
+  private final String code;
+  private final int version;
+
+  private PropertyValue(final String code, final int version) {
+    this.code = code;
+    this.version = version;
+  }
+
+  public static PropertyValue of(final String code, final int version) {
+    return new PropertyValue(code, version);
+  }
+
+  public String getCode() {
+    return code;
+  }
+
+  public int getVersion() {
+    return version;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    PropertyValue that = (PropertyValue) o;
+    return version == that.version && code.equals(that.code);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(code, version);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s (version %d)", code, version);
+  }
+}
@@ -22,9 +22,12 @@ package dev.pcvolkmer.mv64e.datamapper;
 
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import dev.pcvolkmer.mv64e.mtb.Reference;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.ObjIntConsumer;
 import org.jspecify.annotations.NonNull;
@@ -33,7 +36,8 @@ import org.jspecify.annotations.NullUnmarked;
 import org.jspecify.annotations.Nullable;
 
 /**
- * Result set type to wrap {@code Map<String, Object>}
+ * Result set type to wrap {@code Map<String, Object>}. Rows loaded by data catalogues are compact
+ * rows sharing one column schema per query.
  *
  * @author Paul-Christian Volkmer
  * @since 0.1
@@ -41,8 +45,13 @@ import org.jspecify.annotations.Nullable;
 @NullUnmarked
 public class ResultSet {
 
+  private static final ZoneId UTC = ZoneOffset.UTC;
+
   private final Map<String, Object> rawData;
 
+  /** Converted column values. Created on first conversion only. */
+  private volatile Map<String, Converted> converted;
+
   protected ResultSet(final Map<String, Object> rawData) {
     this.rawData = rawData;
   }
@@ -84,11 +93,12 @@ public class ResultSet {
    * @return The procedures id
    */
   public Reference getPatientReference() {
-    if (this.getString("patienten_id") == null) {
+    var patientId = this.getString("patienten_id");
+    if (patientId == null) {
       throw new DataAccessException("No patient id found");
     }
     return Reference.builder()
-        .id(this.getString("patienten_id"))
+        .id(patientId)
         // Use "Patient" since Onkostar only provides patient data
         .type("Patient")
         .build();
@@ -106,17 +116,44 @@ public class ResultSet {
 
     if (raw == null) {
       return null;
-    } else if (raw instanceof String) {
-      return removeInvalidCodePoints(raw.toString().trim());
     } else if (raw instanceof Integer) {
-      return removeInvalidCodePoints(((Integer) raw).toString().trim());
+      return raw.toString();
+    } else if (!(raw instanceof String)) {
+      throw new IllegalArgumentException("Cannot convert " + raw.getClass() + " to String");
+    }
+
+    var trimmed = ((String) raw).trim();
+    if (isValid(trimmed)) {
+      return trimmed;
+    }
+
+    var cached = getConverted(columnName, raw, String.class);
+    if (cached != null) {
+      return cached;
     }
+    return putConverted(columnName, raw, removeInvalidCodePoints(trimmed));
+  }
 
-    throw new IllegalArgumentException("Cannot convert " + raw.getClass() + " to String");
+  /**
+   * Checks if the string contains valid code points only. Values without any surrogate char do not
+   * need to be sanitized.
+   */
+  @NullMarked
+  private static boolean isValid(String input) {
+    for (var i = 0; i < input.length(); i++) {
+      if (Character.isSurrogate(input.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @NullMarked
   private static String removeInvalidCodePoints(String input) {
+    if (isValid(input)) {
+      return input;
+    }
+
     StringBuilder sb = new StringBuilder(input.length());
     input
         .codePoints()
@@ -127,6 +164,36 @@ public class ResultSet {
     return sb.toString();
   }
 
+  /**
+   * Get a previously converted column value if the raw value has not been changed since
+   *
+   * @param columnName The name of the column
+   * @param raw The current raw value
+   * @param type The type of the converted value
+   * @return The converted value or null if there is no such value
+   */
+  private <T> T getConverted(String columnName, Object raw, Class<T> type) {
+    var values = this.converted;
+    if (values == null) {
+      return null;
+    }
+    var cached = values.get(columnName);
+    if (cached == null || cached.raw != raw || !type.isInstance(cached.value)) {
+      return null;
+    }
+    return type.cast(cached.value);
+  }
+
+  private <T> T putConverted(String columnName, Object raw, T value) {
+    var values = this.converted;
+    if (values == null) {
+      values = new ConcurrentHashMap<>();
+      this.converted = values;
+    }
+    values.put(columnName, new Converted(raw, value));
+    return value;
+  }
+
   /**
    * Get column value as Integer and cast value if possible
    *
@@ -200,15 +267,46 @@ public class ResultSet {
    */
   @Nullable
   public Date getDate(String columnName) {
+    var localDate = this.getLocalDate(columnName);
+
+    if (localDate == null) {
+      return null;
+    }
+    // JSON Converter uses UTC timezone
+    return Date.from(localDate.atStartOfDay(UTC).toInstant());
+  }
+
+  /**
+   * Get column value as LocalDate and convert value if possible
+   *
+   * @param columnName The name of the column
+   * @return The column value as LocalDate
+   */
+  @Nullable
+  public LocalDate getLocalDate(String columnName) {
     var raw = this.rawData.get(columnName);
 
     if (raw == null) {
       return null;
+    } else if (raw instanceof LocalDate) {
+      return (LocalDate) raw;
+    }
+
+    var cached = getConverted(columnName, raw, LocalDate.class);
+    if (cached != null) {
+      return cached;
     }
-    if (raw instanceof Date) {
-      var localDate = LocalDate.parse(raw.toString());
-      // JSON Converter uses UTC timezone
-      return Date.from(localDate.atStartOfDay(ZoneId.of("UTC")).toInstant());
+    return putConverted(columnName, raw, toLocalDate(raw));
+  }
+
+  @NullMarked
+  private static LocalDate toLocalDate(Object raw) {
+    if (raw instanceof java.sql.Date) {
+      return ((java.sql.Date) raw).toLocalDate();
+    } else if (raw instanceof Timestamp) {
+      return ((Timestamp) raw).toLocalDateTime().toLocalDate();
+    } else if (raw instanceof Date) {
+      return ((Date) raw).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
     }
 
     throw new IllegalArgumentException("Cannot convert " + raw.getClass() + " to Date");
@@ -273,6 +371,8 @@ public class ResultSet {
       f.accept((T) this.getDouble(columnName));
     } else if (Date.class == clazz) {
       f.accept((T) this.getDate(columnName));
+    } else if (LocalDate.class == clazz) {
+      f.accept((T) this.getLocalDate(columnName));
     } else if (Boolean.class == clazz) {
       f.accept((T) (Boolean) this.isTrue(columnName));
     }
@@ -295,6 +395,23 @@ public class ResultSet {
     ifValueNotNull(columnName, clazz, f);
   }
 
+  /**
+   * Get code and property catalogue version of a coded column
+   *
+   * @param column The coded column
+   * @return The code and version or null if code or version is null
+   */
+  @Nullable
+  public PropertyValue getProperty(@NonNull PropertyColumn column) {
+    var code = this.getString(column.getName());
+    var version = this.getInteger(column.getVersionName());
+
+    if (code == null || version == null) {
+      return null;
+    }
+    return PropertyValue.of(code, version);
+  }
+
   /**
    * Runs given function if property value and property version are not null. This is a specialized
    * method of {@link #ifValueNotNull} for use with property catalogues. A Property is assumed to be
@@ -308,8 +425,7 @@ public class ResultSet {
   @SuppressWarnings("unchecked")
   public <T> void ifPropertyNotNull(String columnName, Class<T> clazz, ObjIntConsumer<T> f) {
 
-    final var propertyVersionColumnName = String.format("%s_propcat_version", columnName);
-    final var propertyVersion = this.getInteger(propertyVersionColumnName);
+    final var propertyVersion = this.getInteger(PropertyColumn.of(columnName).getVersionName());
     if (this.isNull(columnName) || null == propertyVersion) {
       return;
     }
@@ -394,13 +510,42 @@ public class ResultSet {
     throw new IllegalArgumentException("Cannot get " + columnName + " as List of Strings");
   }
 
+  /**
+   * Result sets containing an id are equal if both ids are equal. All other result sets are equal
+   * if all values are equal.
+   */
   @Override
   public int hashCode() {
+    var id = this.rawData.get("id");
+    if (id instanceof Number) {
+      return Integer.hashCode(((Number) id).intValue());
+    }
     return rawData.hashCode();
   }
 
   @Override
   public boolean equals(Object obj) {
-    return obj instanceof ResultSet && this.rawData.equals(((ResultSet) obj).rawData);
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ResultSet)) {
+      return false;
+    }
+    var id = this.rawData.get("id");
+    var otherId = ((ResultSet) obj).rawData.get("id");
+    if (id instanceof Number && otherId instanceof Number) {
+      return ((Number) id).intValue() == ((Number) otherId).intValue();
+    }
+    return this.rawData.equals(((ResultSet) obj).rawData);
+  }
+
+  private static final class Converted {
+    private final Object raw;
+    private final Object value;
+
+    private Converted(Object raw, Object value) {
+      this.raw = raw;
+      this.value = value;
+    }
   }
 }
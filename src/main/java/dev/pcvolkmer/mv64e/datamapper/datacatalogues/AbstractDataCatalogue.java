@@ -22,10 +22,20 @@ package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
@@ -37,14 +47,117 @@ import org.springframework.jdbc.core.JdbcTemplate;
 @NullMarked
 public abstract class AbstractDataCatalogue implements DataCatalogue {
 
+  /** Maximum number of ids used in one single {@code IN (...)} clause */
+  static final int ID_LIST_CHUNK_SIZE = 500;
+
   protected final JdbcTemplate jdbcTemplate;
 
+  private final CatalogueStatements statements;
+
   protected AbstractDataCatalogue(JdbcTemplate jdbcTemplate) {
     this.jdbcTemplate = jdbcTemplate;
+    this.statements = registerStatements(CatalogueStatements.builder(getTableName())).build();
   }
 
   protected abstract String getTableName();
 
+  /**
+   * Register all statements used by this catalogue. Called once on catalogue creation.
+   *
+   * @param builder The builder to register statements with
+   * @return The builder
+   */
+  CatalogueStatements.Builder registerStatements(CatalogueStatements.Builder builder) {
+    var tableName = builder.getTableName();
+    return builder
+        .requires(tableName, "id")
+        .requires(tableName + "_merkmale", "eintrag_id", "feldname", "feldwert")
+        .requires("prozedur", "id", "patient_id", "hauptprozedur_id", "geloescht")
+        .requires("patient", "id", "patienten_id")
+        .statement(
+            CatalogueStatements.BY_ID,
+            String.format(
+                "SELECT patient.patienten_id, %s.*, prozedur.patient_id, prozedur.hauptprozedur_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id = ?",
+                tableName, tableName, tableName))
+        .inListStatement(
+            CatalogueStatements.BY_ID_LIST,
+            String.format(
+                "SELECT patient.patienten_id, %s.*, prozedur.patient_id, prozedur.hauptprozedur_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id IN (",
+                tableName, tableName, tableName),
+            ")")
+        .statement(
+            CatalogueStatements.EXISTS,
+            String.format(
+                "SELECT 1 FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id = ? LIMIT 1",
+                tableName, tableName))
+        .statement(
+            CatalogueStatements.AVAILABLE,
+            String.format(
+                "SELECT 1 FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id = ? LIMIT 2",
+                tableName, tableName))
+        .inListStatement(
+            CatalogueStatements.EXISTING_IDS,
+            String.format(
+                "SELECT prozedur.id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id IN (",
+                tableName, tableName),
+            ")")
+        .inListStatement(
+            CatalogueStatements.MERKMALE_BY_IDS,
+            String.format(
+                "SELECT eintrag_id, feldname, feldwert FROM %s_merkmale WHERE eintrag_id IN (",
+                tableName),
+            ")")
+        .requires("erkrankung_prozedur", "erkrankung_id", "prozedur_id")
+        .requires("erkrankung", "id")
+        .statement(
+            CatalogueStatements.DISEASES,
+            "SELECT * FROM erkrankung_prozedur JOIN erkrankung ON (erkrankung.id = erkrankung_prozedur.erkrankung_id) WHERE erkrankung_prozedur.prozedur_id = ?");
+  }
+
+  /**
+   * Get registry of all statements used by this catalogue
+   *
+   * @return The statements
+   */
+  public CatalogueStatements getStatements() {
+    return statements;
+  }
+
+  /**
+   * Checks if all tables and columns used by the statements of this catalogue exist. This can be
+   * used on application startup to detect an unexpected database schema.
+   *
+   * @return A description of each missing table or column, empty if all exist
+   */
+  public List<String> validateStatements() {
+    return Objects.requireNonNullElse(
+        this.jdbcTemplate.execute(
+            (ConnectionCallback<List<String>>)
+                connection -> statements.validate(connection.getMetaData())),
+        List.of());
+  }
+
+  /**
+   * Get SQL of registered statement
+   *
+   * @param name The name of the statement
+   * @return The SQL
+   */
+  String sql(String name) {
+    return statements.get(name).getSql();
+  }
+
+  /**
+   * Get SQL of registered statement using an IN clause with the given number of placeholders
+   *
+   * @param name The name of the statement
+   * @param placeholderCount The number of placeholders
+   * @return The SQL
+   */
+  String sql(String name, int placeholderCount) {
+    return statements.get(name).getSql(placeholderCount);
+  }
+
   /**
    * Get procedure result set by procedure id
    *
@@ -54,12 +167,7 @@ public abstract class AbstractDataCatalogue implements DataCatalogue {
   @NullMarked
   @Override
   public ResultSet getById(int id) {
-    var result =
-        this.jdbcTemplate.queryForList(
-            String.format(
-                "SELECT patient.patienten_id, %s.*, prozedur.patient_id, prozedur.hauptprozedur_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id = ?",
-                getTableName(), getTableName(), getTableName()),
-            id);
+    var result = loadAllById(id);
 
     if (result.isEmpty()) {
       throw new DataAccessException("No record found for id: " + id);
@@ -67,27 +175,229 @@ public abstract class AbstractDataCatalogue implements DataCatalogue {
       throw new DataAccessException("Multiple records found for id: " + id);
     }
 
-    var resultSet = ResultSet.from(result.get(0));
+    return result.get(0);
+  }
 
-    if (resultSet.getRawData().containsKey("id")) {
-      var merkmale = getMerkmaleById(resultSet.getId());
-      if (merkmale.isEmpty()) {
-        return resultSet;
+  /**
+   * Find procedure result set by procedure id using one single request
+   *
+   * @param id The procedure id
+   * @return The procedure or an empty Optional if there is no unique procedure
+   */
+  @NullMarked
+  @Override
+  public Optional<ResultSet> findById(int id) {
+    var result = loadAllById(id);
+    if (result.size() == 1) {
+      return Optional.of(result.get(0));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Checks if a procedure exists by procedure id without loading the procedure and related
+   * "Merkmale". Unlike {@link #isAvailable(int)} this does not check if the procedure is unique.
+   *
+   * @param id The procedure id
+   * @return true if the procedure exists, false otherwise
+   */
+  @Override
+  public boolean exists(int id) {
+    return cached(
+        "exists",
+        id,
+        () ->
+            !this.jdbcTemplate
+                .queryForList(sql(CatalogueStatements.EXISTS), Integer.class, id)
+                .isEmpty());
+  }
+
+  /**
+   * Checks if a procedure is available and unique by procedure id without loading the procedure
+   * and related "Merkmale". At most two records are requested to detect a non-unique procedure.
+   *
+   * @param id The procedure id
+   * @return true if there is exactly one record, false otherwise
+   */
+  @Override
+  public boolean isAvailable(int id) {
+    return cached(
+        "isAvailable",
+        id,
+        () ->
+            this.jdbcTemplate
+                    .queryForList(sql(CatalogueStatements.AVAILABLE), Integer.class, id)
+                    .size()
+                == 1);
+  }
+
+  /**
+   * Get all existing procedure ids of the given ids using chunked set-based queries. Ids already
+   * checked or prefetched within an open {@link CatalogueCache} will not be requested again.
+   *
+   * @param ids The procedure ids
+   * @return The existing procedure ids
+   */
+  @Override
+  public Set<Integer> existingIds(Collection<Integer> ids) {
+    var result = new HashSet<Integer>();
+    var uncheckedIds = new ArrayList<Integer>();
+    for (var id : ids) {
+      var exists = CatalogueCache.get(List.of(getClass(), "exists", id));
+      if (Boolean.TRUE.equals(exists)) {
+        result.add(id);
+      } else if (null == exists) {
+        uncheckedIds.add(id);
       }
-      merkmale.forEach((key, value) -> resultSet.getRawData().put(key, value));
     }
 
-    return resultSet;
+    for (var chunk : chunked(uncheckedIds)) {
+      result.addAll(
+          labeled(
+              "existingIds",
+              () ->
+                  this.jdbcTemplate.queryForList(
+                      sql(CatalogueStatements.EXISTING_IDS, chunk.size()),
+                      Integer.class,
+                      chunk.toArray())));
+    }
+    return result;
+  }
+
+  private List<ResultSet> loadAllById(int id) {
+    return cached(
+        "getById",
+        id,
+        () -> {
+          var result =
+              queryForRows(sql(CatalogueStatements.BY_ID), id).stream()
+                  .map(ResultSet::from)
+                  .collect(Collectors.toList());
+
+          if (result.size() == 1 && result.get(0).getRawData().containsKey("id")) {
+            addMerkmale(result.get(0), getMerkmaleByIds(List.of(result.get(0).getId())));
+          }
+
+          return result;
+        });
   }
 
   /**
-   * Get list of ResultSet by list of procedure ids Filters our null objects
+   * Get list of ResultSet by list of procedure ids using chunked set-based queries. Procedures
+   * already loaded within an open {@link CatalogueCache} will not be requested again.
    *
    * @param ids List of procedure id
-   * @return List of result set
+   * @return List of result set in order of the requested ids
+   * @throws DataAccessException if there is no or multiple records for any requested id
    */
   public List<ResultSet> getByIdList(List<Integer> ids) {
-    return ids.stream().map(this::getById).collect(Collectors.toList());
+    var result = getByIdListResult(ids);
+    if (!result.getMissingIds().isEmpty()) {
+      throw new DataAccessException("No record found for id: " + result.getMissingIds().get(0));
+    } else if (!result.getDuplicateIds().isEmpty()) {
+      throw new DataAccessException(
+          "Multiple records found for id: " + result.getDuplicateIds().get(0));
+    }
+    return result.getResultSets();
+  }
+
+  /**
+   * Get result sets by list of procedure ids using chunked set-based queries. Procedures already
+   * loaded within an open {@link CatalogueCache} will not be requested again. Ids without any
+   * record or with multiple records are not part of the result sets but reported separately.
+   *
+   * @param ids List of procedure id
+   * @return The result sets in order of the requested ids and all missing or duplicate ids
+   * @since 0.10
+   */
+  @SuppressWarnings("unchecked")
+  public IdListResult getByIdListResult(List<Integer> ids) {
+    var rowsById = new HashMap<Integer, List<ResultSet>>();
+    var uncachedIds = new ArrayList<Integer>();
+    for (var id : ids) {
+      var cachedRows = CatalogueCache.get(List.of(getClass(), "getById", id));
+      if (cachedRows instanceof List) {
+        rowsById.put(id, (List<ResultSet>) cachedRows);
+      } else {
+        uncachedIds.add(id);
+      }
+    }
+    if (!uncachedIds.isEmpty()) {
+      rowsById.putAll(prefetch("getByIdList", uncachedIds));
+    }
+
+    var resultSets = new ArrayList<ResultSet>();
+    var missingIds = new ArrayList<Integer>();
+    var duplicateIds = new ArrayList<Integer>();
+    for (var id : ids) {
+      var rows = rowsById.getOrDefault(id, List.of());
+      if (rows.isEmpty()) {
+        missingIds.add(id);
+      } else if (rows.size() > 1) {
+        duplicateIds.add(id);
+      } else {
+        resultSets.add(rows.get(0));
+      }
+    }
+
+    return new IdListResult(resultSets, missingIds, duplicateIds);
+  }
+
+  /**
+   * Loads procedures of all given ids using chunked set-based queries and puts them into the open
+   * {@link CatalogueCache}. Subsequent requests by id will not query the database, even for ids
+   * without any record.
+   *
+   * @param ids The procedure ids
+   * @return The loaded result sets grouped by procedure id
+   * @since 0.10
+   */
+  public Map<Integer, List<ResultSet>> prefetchByIds(Collection<Integer> ids) {
+    return prefetch("prefetchByIds", ids);
+  }
+
+  private Map<Integer, List<ResultSet>> prefetch(String statement, Collection<Integer> ids) {
+    var rowsById = labeled(statement, () -> loadRowsByIds(ids));
+    for (var id : ids) {
+      var rows = rowsById.getOrDefault(id, List.of());
+      prefetched("getById", id, rows);
+      prefetched("exists", id, !rows.isEmpty());
+      prefetched("isAvailable", id, rows.size() == 1);
+    }
+    return rowsById;
+  }
+
+  /**
+   * Loads procedures of all given ids using chunked set-based queries. Related "Merkmale" are added
+   * to unique procedures only.
+   *
+   * @param ids The procedure ids
+   * @return The result sets grouped by procedure id
+   */
+  private Map<Integer, List<ResultSet>> loadRowsByIds(Collection<Integer> ids) {
+    var rowsById = new HashMap<Integer, List<ResultSet>>();
+    for (var chunk : chunked(ids)) {
+      queryForRows(sql(CatalogueStatements.BY_ID_LIST, chunk.size()), chunk.toArray()).stream()
+          .filter(row -> row.containsKey("id"))
+          .map(ResultSet::from)
+          .forEach(
+              resultSet ->
+                  rowsById
+                      .computeIfAbsent(resultSet.getId(), key -> new ArrayList<>())
+                      .add(resultSet));
+    }
+
+    var uniqueIds =
+        rowsById.entrySet().stream()
+            .filter(entry -> entry.getValue().size() == 1)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    var merkmale = getMerkmaleByIds(uniqueIds);
+    rowsById.values().stream()
+        .filter(rows -> rows.size() == 1)
+        .forEach(rows -> addMerkmale(rows.get(0), merkmale));
+
+    return rowsById;
   }
 
   /**
@@ -97,15 +407,63 @@ public abstract class AbstractDataCatalogue implements DataCatalogue {
    * @return the diseases
    */
   public List<ResultSet> getDiseases(int procedureId) {
-    return this.jdbcTemplate
-        .queryForList(
-            "SELECT * FROM erkrankung_prozedur JOIN erkrankung ON (erkrankung.id = erkrankung_prozedur.erkrankung_id) WHERE erkrankung_prozedur.prozedur_id = ?",
-            procedureId)
+    return labeled(
+            "getDiseases", () -> queryForRows(sql(CatalogueStatements.DISEASES), procedureId))
         .stream()
         .map(ResultSet::from)
         .collect(Collectors.toList());
   }
 
+  /**
+   * Get cached result if a {@link CatalogueCache} is open or load the result otherwise
+   *
+   * @param method The name of the requesting method
+   * @param argument The argument of the requesting method
+   * @param loader The loader to be used if no result has been cached
+   * @param <T> The result type
+   * @return The cached or loaded result
+   */
+  protected <T> T cached(String method, Object argument, Supplier<T> loader) {
+    return CatalogueCache.load(
+        List.of(getClass(), method, argument), () -> labeled(method, loader));
+  }
+
+  /**
+   * Labels all queries executed by the given supplier with this catalogue and the given statement
+   * name to be reported by an {@link InstrumentedJdbcTemplate}
+   *
+   * @param statement The name of the statement, e.g. the name of the requesting method
+   * @param supplier The supplier executing the queries
+   * @param <T> The result type
+   * @return The result of the supplier
+   * @since 0.10
+   */
+  protected <T> T labeled(String statement, Supplier<T> supplier) {
+    return InstrumentedJdbcTemplate.labeled(getClass(), statement, supplier);
+  }
+
+  /**
+   * Puts a prefetched result into the open {@link CatalogueCache} to be used by {@link #cached}
+   *
+   * @param method The name of the requesting method
+   * @param argument The argument of the requesting method
+   * @param value The prefetched result
+   */
+  protected void prefetched(String method, Object argument, Object value) {
+    CatalogueCache.put(List.of(getClass(), method, argument), value);
+  }
+
+  /**
+   * Get rows of the given query as compact rows sharing one column schema
+   *
+   * @param sql The SQL query
+   * @param args The query arguments
+   * @return The compact rows
+   */
+  protected List<Map<String, Object>> queryForRows(String sql, Object... args) {
+    return this.jdbcTemplate.query(sql, new CompactRowMapper(), args);
+  }
+
   /**
    * Get procedure "Merkmale" result by procedure id and form field name
    *
@@ -113,35 +471,95 @@ public abstract class AbstractDataCatalogue implements DataCatalogue {
    * @return The sub procedures
    */
   Map<String, List<String>> getMerkmaleById(int id) {
-    try {
-      var resultSet =
-          this.jdbcTemplate.queryForList(
-              String.format(
-                  "SELECT feldname, feldwert FROM %s_merkmale WHERE eintrag_id = ?",
-                  getTableName()),
-              id);
-
-      return resultSet.stream()
-          .collect(
-              Collectors.groupingBy(
-                  m -> {
-                    var feldname = m.get("feldname");
-                    if (feldname == null) {
-                      return "?";
-                    }
-                    return feldname.toString();
-                  },
-                  Collectors.mapping(
-                      stringObjectMap -> {
-                        var feldwert = stringObjectMap.get("feldwert");
-                        if (feldwert == null) {
-                          return "?";
-                        }
-                        return feldwert.toString();
-                      },
-                      Collectors.toList())));
-    } catch (org.springframework.dao.DataAccessException e) {
-      return Map.of();
+    return getMerkmaleByIds(List.of(id)).getOrDefault(id, Map.of());
+  }
+
+  /**
+   * Get procedure "Merkmale" results for all given procedure ids using one query per chunk
+   *
+   * @param ids The procedure ids
+   * @return The "Merkmale" grouped by procedure id and form field name
+   */
+  Map<Integer, Map<String, List<String>>> getMerkmaleByIds(Collection<Integer> ids) {
+    var result = new HashMap<Integer, Map<String, List<String>>>();
+    for (var chunk : chunked(ids)) {
+      try {
+        result.putAll(
+            groupMerkmale(
+                labeled(
+                    "getMerkmaleByIds",
+                    () ->
+                        queryForRows(
+                            sql(CatalogueStatements.MERKMALE_BY_IDS, chunk.size()),
+                            chunk.toArray()))));
+      } catch (org.springframework.dao.DataAccessException e) {
+        // Ignore missing "Merkmale"
+      }
     }
+    return result;
+  }
+
+  /**
+   * Groups raw "Merkmale" rows by procedure id and form field name
+   *
+   * @param rows The raw rows containing columns 'eintrag_id', 'feldname' and 'feldwert'
+   * @return The "Merkmale" grouped by procedure id and form field name
+   */
+  static Map<Integer, Map<String, List<String>>> groupMerkmale(List<Map<String, Object>> rows) {
+    var result = new HashMap<Integer, Map<String, List<String>>>();
+    for (var row : rows) {
+      var eintragId = row.get("eintrag_id");
+      if (!(eintragId instanceof Number)) {
+        continue;
+      }
+
+      var feldname = row.get("feldname");
+      var feldwert = row.get("feldwert");
+      result
+          .computeIfAbsent(((Number) eintragId).intValue(), key -> new HashMap<>())
+          .computeIfAbsent(feldname == null ? "?" : feldname.toString(), key -> new ArrayList<>())
+          .add(feldwert == null ? "?" : feldwert.toString());
+    }
+    return result;
+  }
+
+  /**
+   * Adds related "Merkmale" to the result set
+   *
+   * @param resultSet The result set
+   * @param merkmale The "Merkmale" grouped by procedure id and form field name
+   */
+  static void addMerkmale(ResultSet resultSet, Map<Integer, Map<String, List<String>>> merkmale) {
+    var merkmaleById = merkmale.get(resultSet.getId());
+    if (merkmaleById == null) {
+      return;
+    }
+    resultSet.getRawData().putAll(merkmaleById);
+  }
+
+  /**
+   * Splits ids into distinct chunks of at most {@link #ID_LIST_CHUNK_SIZE} ids to be used in SQL IN
+   * clauses
+   *
+   * @param ids The ids
+   * @return The chunks of distinct ids
+   */
+  static List<List<Integer>> chunked(Collection<Integer> ids) {
+    var distinctIds = ids.stream().distinct().collect(Collectors.toList());
+    var result = new ArrayList<List<Integer>>();
+    for (var i = 0; i < distinctIds.size(); i += ID_LIST_CHUNK_SIZE) {
+      result.add(distinctIds.subList(i, Math.min(i + ID_LIST_CHUNK_SIZE, distinctIds.size())));
+    }
+    return result;
+  }
+
+  /**
+   * Creates a comma separated list of SQL placeholders
+   *
+   * @param count The number of placeholders
+   * @return The placeholders, e.g. {@code ?, ?, ?}
+   */
+  static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
   }
 }
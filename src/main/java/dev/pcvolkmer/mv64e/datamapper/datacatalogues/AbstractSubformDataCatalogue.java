@@ -22,7 +22,11 @@ package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -44,6 +48,37 @@ public abstract class AbstractSubformDataCatalogue extends AbstractDataCatalogue
   @Override
   protected abstract String getTableName();
 
+  @Override
+  CatalogueStatements.Builder registerStatements(CatalogueStatements.Builder builder) {
+    var tableName = builder.getTableName();
+    return super.registerStatements(builder)
+        .statement(
+            CatalogueStatements.BY_PARENT_ID,
+            String.format(
+                "SELECT patient.patienten_id, %s.*, prozedur.patient_id, prozedur.hauptprozedur_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND hauptprozedur_id = ?",
+                tableName, tableName, tableName))
+        .statement(
+            CatalogueStatements.MERKMALE_BY_PARENT_ID,
+            String.format(
+                "SELECT %s_merkmale.eintrag_id, %s_merkmale.feldname, %s_merkmale.feldwert FROM %s_merkmale JOIN prozedur ON (prozedur.id = %s_merkmale.eintrag_id) WHERE geloescht = 0 AND hauptprozedur_id = ?",
+                tableName, tableName, tableName, tableName, tableName))
+        .inListStatement(
+            CatalogueStatements.BY_PARENT_ID_LIST,
+            String.format(
+                "SELECT patient.patienten_id, %s.*, prozedur.patient_id, prozedur.hauptprozedur_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND hauptprozedur_id IN (",
+                tableName, tableName, tableName),
+            ")")
+        .inListStatement(
+            CatalogueStatements.MERKMALE_BY_PARENT_ID_LIST,
+            String.format(
+                "SELECT %s_merkmale.eintrag_id, %s_merkmale.feldname, %s_merkmale.feldwert FROM %s_merkmale JOIN prozedur ON (prozedur.id = %s_merkmale.eintrag_id) WHERE geloescht = 0 AND hauptprozedur_id IN (",
+                tableName, tableName, tableName, tableName, tableName),
+            ")")
+        .statement(
+            CatalogueStatements.PARENT_ID_BY_ID,
+            "SELECT prozedur.hauptprozedur_id FROM prozedur WHERE geloescht = 0 AND prozedur.id = ?");
+  }
+
   /**
    * Get procedure result sets by parent procedure id
    *
@@ -51,25 +86,107 @@ public abstract class AbstractSubformDataCatalogue extends AbstractDataCatalogue
    * @return The sub procedures
    */
   public List<ResultSet> getAllByParentId(int id) {
-    return this.jdbcTemplate
-        .queryForList(
-            String.format(
-                "SELECT patient.patienten_id, %s.*, prozedur.patient_id, prozedur.hauptprozedur_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND hauptprozedur_id = ?",
-                getTableName(), getTableName(), getTableName()),
-            id)
-        .stream()
-        .filter(resultSet -> resultSet.containsKey("id"))
-        .map(ResultSet::from)
-        .peek(
-            resultSet -> {
-              var merkmale = getMerkmaleById(resultSet.getId());
-              if (merkmale.isEmpty()) {
-                return;
-              }
-              merkmale.forEach((key, value) -> resultSet.getRawData().put(key, value));
-            })
-        .distinct()
-        .collect(Collectors.toList());
+    return cached("getAllByParentId", id, () -> loadAllByParentId(id));
+  }
+
+  private List<ResultSet> loadAllByParentId(int id) {
+    var resultSets =
+        queryForRows(sql(CatalogueStatements.BY_PARENT_ID), id).stream()
+            .filter(resultSet -> resultSet.containsKey("id"))
+            .map(ResultSet::from)
+            .collect(Collectors.toList());
+
+    if (resultSets.isEmpty()) {
+      return resultSets;
+    }
+
+    var merkmale = getMerkmaleByParentId(id);
+    resultSets.forEach(resultSet -> addMerkmale(resultSet, merkmale));
+
+    return resultSets.stream().distinct().collect(Collectors.toList());
+  }
+
+  /**
+   * Loads sub procedures of all given parent procedures using chunked set-based queries and puts
+   * them into the open {@link CatalogueCache}. Subsequent requests by parent id or by id of a
+   * loaded sub procedure will not query the database.
+   *
+   * @param parentIds The parents procedure ids
+   * @return The loaded sub procedures grouped by parent procedure id
+   * @since 0.10
+   */
+  public Map<Integer, List<ResultSet>> prefetchByParentIds(Collection<Integer> parentIds) {
+    var rowsByParentId = new HashMap<Integer, List<ResultSet>>();
+    var rowsById = new HashMap<Integer, List<ResultSet>>();
+    var merkmale = new HashMap<Integer, Map<String, List<String>>>();
+    for (var chunk : chunked(parentIds)) {
+      labeled(
+              "prefetchByParentIds",
+              () ->
+                  queryForRows(
+                      sql(CatalogueStatements.BY_PARENT_ID_LIST, chunk.size()), chunk.toArray()))
+          .stream()
+          .filter(row -> row.containsKey("id"))
+          .map(ResultSet::from)
+          .forEach(
+              resultSet -> {
+                rowsById
+                    .computeIfAbsent(resultSet.getId(), key -> new ArrayList<>())
+                    .add(resultSet);
+                var parentId = resultSet.getParentId();
+                if (null != parentId) {
+                  rowsByParentId.computeIfAbsent(parentId, key -> new ArrayList<>()).add(resultSet);
+                }
+              });
+      try {
+        merkmale.putAll(
+            groupMerkmale(
+                labeled(
+                    "getMerkmaleByParentIds",
+                    () ->
+                        queryForRows(
+                            sql(CatalogueStatements.MERKMALE_BY_PARENT_ID_LIST, chunk.size()),
+                            chunk.toArray()))));
+      } catch (org.springframework.dao.DataAccessException e) {
+        // Ignore missing "Merkmale"
+      }
+    }
+
+    rowsById.values().forEach(rows -> rows.forEach(resultSet -> addMerkmale(resultSet, merkmale)));
+    rowsById.forEach(
+        (id, rows) -> {
+          prefetched("getById", id, rows);
+          prefetched("exists", id, true);
+          prefetched("isAvailable", id, rows.size() == 1);
+        });
+
+    var result = new HashMap<Integer, List<ResultSet>>();
+    for (var parentId : parentIds) {
+      var rows =
+          rowsByParentId.getOrDefault(parentId, List.of()).stream()
+              .distinct()
+              .collect(Collectors.toList());
+      prefetched("getAllByParentId", parentId, rows);
+      result.put(parentId, rows);
+    }
+    return result;
+  }
+
+  /**
+   * Get "Merkmale" of all sub procedures by parent procedure id using one single query
+   *
+   * @param id The parents procedure id
+   * @return The "Merkmale" grouped by procedure id and form field name
+   */
+  Map<Integer, Map<String, List<String>>> getMerkmaleByParentId(int id) {
+    try {
+      return groupMerkmale(
+          labeled(
+              "getMerkmaleByParentId",
+              () -> queryForRows(sql(CatalogueStatements.MERKMALE_BY_PARENT_ID), id)));
+    } catch (org.springframework.dao.DataAccessException e) {
+      return Map.of();
+    }
   }
 
   /**
@@ -80,11 +197,13 @@ public abstract class AbstractSubformDataCatalogue extends AbstractDataCatalogue
    */
   @NullMarked
   public int getParentIdById(int id) {
+    return cached("getParentIdById", id, () -> loadParentIdById(id));
+  }
+
+  private int loadParentIdById(int id) {
     try {
       return this.jdbcTemplate.queryForObject(
-          "SELECT prozedur.hauptprozedur_id FROM prozedur WHERE geloescht = 0 AND prozedur.id = ?",
-          new Integer[] {id},
-          Integer.class);
+          sql(CatalogueStatements.PARENT_ID_BY_ID), new Integer[] {id}, Integer.class);
     } catch (Exception e) {
       throw new DataAccessException(
           String.format("No parent found for id '%d': %s", id, e.getMessage()));
@@ -0,0 +1,232 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Export scoped cache for results of data catalogues. While a cache is open for the current thread,
+ * all data catalogues memoize loaded result sets and id lists. Closing the outermost cache drops
+ * all cached results.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * try (var cache = CatalogueCache.open()) {
+ *   // All catalogue requests within this block are cached
+ * }
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class CatalogueCache implements AutoCloseable {
+
+  private static final ThreadLocal<CatalogueCache> CURRENT = new ThreadLocal<>();
+
+  private final Map<Object, Object> entries;
+  private final boolean owner;
+  private final boolean attached;
+  @Nullable private final CatalogueCache previous;
+
+  private CatalogueCache(final Map<Object, Object> entries, final boolean owner) {
+    this(entries, owner, false, null);
+  }
+
+  private CatalogueCache(
+      final Map<Object, Object> entries,
+      final boolean owner,
+      final boolean attached,
+      @Nullable final CatalogueCache previous) {
+    this.entries = entries;
+    this.owner = owner;
+    this.attached = attached;
+    this.previous = previous;
+  }
+
+  /**
+   * Opens a cache for the current thread. If there is already an open cache, the existing cache
+   * will be used and will not be closed by closing the returned instance.
+   *
+   * @return The opened cache
+   */
+  public static CatalogueCache open() {
+    var current = CURRENT.get();
+    if (null != current) {
+      return new CatalogueCache(current.entries, false);
+    }
+    var cache = new CatalogueCache(new ConcurrentHashMap<>(), true);
+    CURRENT.set(cache);
+    return cache;
+  }
+
+  /**
+   * Checks if there is an open cache for the current thread
+   *
+   * @return true if a cache is open
+   */
+  public static boolean isOpen() {
+    return null != CURRENT.get();
+  }
+
+  /**
+   * Get the cache open for the current thread, e.g. to share it with worker threads using {@link
+   * #attach()}
+   *
+   * @return The open cache or null if there is no open cache
+   * @since 0.10
+   */
+  @Nullable
+  public static CatalogueCache current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Uses this cache for the current thread. This can be used to share the cache of an export with
+   * worker threads mapping parts of the export. Closing the returned instance detaches the cache
+   * from the current thread without dropping any cached results.
+   *
+   * <p>Usage:
+   *
+   * <pre>{@code
+   * var cache = CatalogueCache.current();
+   * executor.execute(() -> {
+   *   try (var attached = cache.attach()) {
+   *     // All catalogue requests within this block use the shared cache
+   *   }
+   * });
+   * }</pre>
+   *
+   * @return The attached cache
+   * @since 0.10
+   */
+  public CatalogueCache attach() {
+    var attachedCache = new CatalogueCache(entries, false, true, CURRENT.get());
+    CURRENT.set(attachedCache);
+    return attachedCache;
+  }
+
+  /**
+   * Get cached result for given key or load and cache the result if a cache is open. Data access
+   * exceptions are cached too and will be rethrown on subsequent requests.
+   *
+   * @param key The cache key
+   * @param loader The loader to be used if no result has been cached
+   * @param <T> The result type
+   * @return The cached or loaded result
+   */
+  @SuppressWarnings("unchecked")
+  static <T> T load(final Object key, final Supplier<T> loader) {
+    var current = CURRENT.get();
+    if (null == current) {
+      return loader.get();
+    }
+
+    var cached = current.entries.get(key);
+    if (cached instanceof Failure) {
+      throw ((Failure) cached).exception;
+    } else if (null != cached) {
+      return (T) cached;
+    }
+
+    try {
+      var result = loader.get();
+      if (null != result) {
+        current.entries.put(key, result);
+      }
+      return result;
+    } catch (DataAccessException e) {
+      current.entries.put(key, new Failure(e));
+      throw e;
+    }
+  }
+
+  /**
+   * Get cached result for given key without loading it
+   *
+   * @param key The cache key
+   * @return The cached result or null if there is no open cache or no cached result
+   */
+  @Nullable
+  static Object get(final Object key) {
+    var current = CURRENT.get();
+    if (null == current) {
+      return null;
+    }
+    var cached = current.entries.get(key);
+    return cached instanceof Failure ? null : cached;
+  }
+
+  /**
+   * Puts a prefetched result into the cache if a cache is open. Already cached results will be
+   * kept.
+   *
+   * @param key The cache key
+   * @param value The prefetched result
+   */
+  static void put(final Object key, final Object value) {
+    var current = CURRENT.get();
+    if (null != current) {
+      current.entries.putIfAbsent(key, value);
+    }
+  }
+
+  /**
+   * Get number of cached results
+   *
+   * @return The number of cached results
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Closes the cache and drops all cached results if this is the outermost cache. Closing an
+   * attached cache restores the cache used by the current thread before.
+   */
+  @Override
+  public void close() {
+    if (owner) {
+      entries.clear();
+      CURRENT.remove();
+    } else if (attached) {
+      if (null == previous) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+
+  private static class Failure {
+    private final DataAccessException exception;
+
+    private Failure(final DataAccessException exception) {
+      this.exception = exception;
+    }
+  }
+}
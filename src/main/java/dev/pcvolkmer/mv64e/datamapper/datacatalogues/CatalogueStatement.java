@@ -0,0 +1,105 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * A named SQL statement of a data catalogue. The SQL is built once on catalogue creation.
+ * Statements using an SQL IN clause are expanded and memoized by the number of placeholders.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class CatalogueStatement {
+
+  private final String name;
+  private final String prefix;
+  private final String suffix;
+  private final boolean inList;
+  private final Map<Integer, String> expanded = new ConcurrentHashMap<>();
+
+  private CatalogueStatement(
+      final String name, final String prefix, final String suffix, final boolean inList) {
+    this.name = name;
+    this.prefix = prefix;
+    this.suffix = suffix;
+    this.inList = inList;
+  }
+
+  static CatalogueStatement of(final String name, final String sql) {
+    return new CatalogueStatement(name, sql, "", false);
+  }
+
+  static CatalogueStatement inList(final String name, final String prefix, final String suffix) {
+    return new CatalogueStatement(name, prefix, suffix, true);
+  }
+
+  /**
+   * Get the name of this statement
+   *
+   * @return The name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Get the SQL of this statement. Statements using an IN clause contain one single placeholder.
+   *
+   * @return The SQL
+   */
+  public String getSql() {
+    return getSql(1);
+  }
+
+  /**
+   * Get the SQL of this statement using the given number of placeholders in its IN clause
+   *
+   * @param placeholderCount The number of placeholders in the IN clause
+   * @return The SQL
+   */
+  public String getSql(final int placeholderCount) {
+    if (!inList) {
+      return prefix;
+    }
+    return expanded.computeIfAbsent(
+        placeholderCount,
+        count -> prefix + AbstractDataCatalogue.placeholders(count) + suffix);
+  }
+
+  /**
+   * Checks if this statement uses an IN clause with variable number of placeholders
+   *
+   * @return true if this statement uses an IN clause
+   */
+  public boolean isInList() {
+    return inList;
+  }
+
+  @Override
+  public String toString() {
+    return name + ": " + getSql();
+  }
+}
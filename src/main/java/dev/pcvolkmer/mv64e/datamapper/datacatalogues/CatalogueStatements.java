@@ -0,0 +1,179 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Registry of all SQL statements of one data catalogue
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class CatalogueStatements {
+
+  public static final String BY_ID = "byId";
+  public static final String BY_ID_LIST = "byIdList";
+  public static final String EXISTS = "exists";
+  public static final String AVAILABLE = "available";
+  public static final String EXISTING_IDS = "existingIds";
+  public static final String MERKMALE_BY_IDS = "merkmaleByIds";
+  public static final String DISEASES = "diseases";
+  public static final String BY_PARENT_ID = "byParentId";
+  public static final String MERKMALE_BY_PARENT_ID = "merkmaleByParentId";
+  public static final String BY_PARENT_ID_LIST = "byParentIdList";
+  public static final String MERKMALE_BY_PARENT_ID_LIST = "merkmaleByParentIdList";
+  public static final String PARENT_ID_BY_ID = "parentIdById";
+
+  private final String tableName;
+  private final Map<String, CatalogueStatement> statements;
+  private final Map<String, Set<String>> requiredColumns;
+
+  private CatalogueStatements(
+      final String tableName,
+      final Map<String, CatalogueStatement> statements,
+      final Map<String, Set<String>> requiredColumns) {
+    this.tableName = tableName;
+    this.statements = statements;
+    this.requiredColumns = requiredColumns;
+  }
+
+  static Builder builder(final String tableName) {
+    return new Builder(tableName);
+  }
+
+  /**
+   * Get the name of the catalogues table
+   *
+   * @return The table name
+   */
+  public String getTableName() {
+    return tableName;
+  }
+
+  /**
+   * Get statement by name
+   *
+   * @param name The name of the statement
+   * @return The statement
+   * @throws IllegalArgumentException if there is no statement with this name
+   */
+  public CatalogueStatement get(final String name) {
+    var statement = statements.get(name);
+    if (null == statement) {
+      throw new IllegalArgumentException(
+          String.format("No statement '%s' for table '%s'", name, tableName));
+    }
+    return statement;
+  }
+
+  /**
+   * Get all statements in order of registration
+   *
+   * @return All statements
+   */
+  public List<CatalogueStatement> getStatements() {
+    return List.copyOf(statements.values());
+  }
+
+  /**
+   * Checks if all tables and columns used by the statements exist
+   *
+   * @param metaData The database meta data
+   * @return A description of each missing table or column, empty if all exist
+   * @throws SQLException if meta data cannot be requested
+   */
+  public List<String> validate(final DatabaseMetaData metaData) throws SQLException {
+    var problems = new ArrayList<String>();
+    for (var required : requiredColumns.entrySet()) {
+      var table = required.getKey();
+      var columns = getColumns(metaData, table);
+      if (columns.isEmpty()) {
+        problems.add(String.format("Table '%s' does not exist", table));
+        continue;
+      }
+      for (var column : required.getValue()) {
+        if (!columns.contains(column.toLowerCase(Locale.ROOT))) {
+          problems.add(String.format("Column '%s.%s' does not exist", table, column));
+        }
+      }
+    }
+    return problems;
+  }
+
+  private static Set<String> getColumns(final DatabaseMetaData metaData, final String table)
+      throws SQLException {
+    var result = new TreeSet<String>();
+    for (var name : new TreeSet<>(List.of(table, table.toUpperCase(Locale.ROOT)))) {
+      try (var columns = metaData.getColumns(null, null, name, null)) {
+        while (columns.next()) {
+          result.add(columns.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+        }
+      }
+    }
+    return result;
+  }
+
+  /** Builder to register statements and the tables and columns used by them */
+  static final class Builder {
+    private final String tableName;
+    private final Map<String, CatalogueStatement> statements = new LinkedHashMap<>();
+    private final Map<String, Set<String>> requiredColumns = new LinkedHashMap<>();
+
+    private Builder(final String tableName) {
+      this.tableName = tableName;
+    }
+
+    String getTableName() {
+      return tableName;
+    }
+
+    Builder statement(final String name, final String sql) {
+      statements.put(name, CatalogueStatement.of(name, sql));
+      return this;
+    }
+
+    Builder inListStatement(final String name, final String prefix, final String suffix) {
+      statements.put(name, CatalogueStatement.inList(name, prefix, suffix));
+      return this;
+    }
+
+    Builder requires(final String table, final String... columns) {
+      requiredColumns.computeIfAbsent(table, key -> new TreeSet<>()).addAll(List.of(columns));
+      return this;
+    }
+
+    CatalogueStatements build() {
+      return new CatalogueStatements(
+          tableName, new LinkedHashMap<>(statements), new LinkedHashMap<>(requiredColumns));
+    }
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Compact row using a shared {@link CompactRowMapper.Schema} and a plain value array. Values not
+ * part of the schema, like related "Merkmale", are stored in an additional map created on demand.
+ * Column names are case-insensitive.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+final class CompactRow extends AbstractMap<String, Object> {
+
+  private final CompactRowMapper.Schema schema;
+  private final @Nullable Object[] values;
+  private @Nullable Map<String, Object> additionalValues;
+
+  CompactRow(CompactRowMapper.Schema schema, @Nullable Object[] values) {
+    this.schema = schema;
+    this.values = values;
+  }
+
+  @Override
+  public @Nullable Object get(Object key) {
+    var index = schema.indexOf(key);
+    if (index >= 0) {
+      return values[index];
+    }
+    return null == additionalValues ? null : additionalValues.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return schema.indexOf(key) >= 0
+        || (null != additionalValues && additionalValues.containsKey(key));
+  }
+
+  @Override
+  public @Nullable Object put(String key, @Nullable Object value) {
+    var index = schema.indexOf(key);
+    if (index >= 0) {
+      var previous = values[index];
+      values[index] = value;
+      return previous;
+    }
+    if (null == additionalValues) {
+      additionalValues = new LinkedCaseInsensitiveMap<>();
+    }
+    return additionalValues.put(key, value);
+  }
+
+  @Override
+  public int size() {
+    return values.length + (null == additionalValues ? 0 : additionalValues.size());
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, Object>> iterator() {
+        return new EntryIterator();
+      }
+
+      @Override
+      public int size() {
+        return CompactRow.this.size();
+      }
+    };
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private int index = 0;
+    private @Nullable Iterator<Entry<String, Object>> additionalEntries;
+
+    @Override
+    public boolean hasNext() {
+      return index < values.length || additionalEntries().hasNext();
+    }
+
+    @Override
+    public Entry<String, Object> next() {
+      if (index < values.length) {
+        return new ValueEntry(index++);
+      }
+      return additionalEntries().next();
+    }
+
+    private Iterator<Entry<String, Object>> additionalEntries() {
+      var result = this.additionalEntries;
+      if (null == result) {
+        result =
+            null == additionalValues
+                ? Collections.<Entry<String, Object>>emptyIterator()
+                : additionalValues.entrySet().iterator();
+        this.additionalEntries = result;
+      }
+      return result;
+    }
+  }
+
+  private final class ValueEntry implements Entry<String, Object> {
+
+    private final int index;
+
+    private ValueEntry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public String getKey() {
+      return schema.getColumnName(index);
+    }
+
+    @Override
+    public @Nullable Object getValue() {
+      return values[index];
+    }
+
+    @Override
+    public @Nullable Object setValue(@Nullable Object value) {
+      var previous = values[index];
+      values[index] = value;
+      return previous;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      var entry = (Entry<?, ?>) o;
+      return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ Objects.hashCode(getValue());
+    }
+  }
+}
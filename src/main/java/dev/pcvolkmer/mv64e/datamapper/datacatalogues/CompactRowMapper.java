@@ -0,0 +1,126 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * Row mapper creating compact rows. All rows of one query share one column schema and store their
+ * values in a plain array instead of a map with its own copy of all column names.
+ *
+ * <p>Like {@link org.springframework.jdbc.core.ColumnMapRowMapper} column names are
+ * case-insensitive and the first column wins if a column name is used more than once. A new
+ * instance must be used for each query.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+final class CompactRowMapper implements RowMapper<Map<String, Object>> {
+
+  private @Nullable Schema schema;
+
+  @Override
+  public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+    var currentSchema = this.schema;
+    if (null == currentSchema) {
+      currentSchema = Schema.of(rs);
+      this.schema = currentSchema;
+    }
+
+    var values = new Object[currentSchema.size()];
+    for (var i = 0; i < values.length; i++) {
+      values[i] = JdbcUtils.getResultSetValue(rs, currentSchema.columnIndexes[i]);
+    }
+    return new CompactRow(currentSchema, values);
+  }
+
+  /** Column schema shared by all rows of one query */
+  static final class Schema {
+
+    private final String[] columnNames;
+    private final int[] columnIndexes;
+    private final Map<String, Integer> indexByName;
+
+    private Schema(List<String> columnNames, List<Integer> columnIndexes) {
+      this.columnNames = columnNames.toArray(new String[0]);
+      this.columnIndexes = columnIndexes.stream().mapToInt(Integer::intValue).toArray();
+      this.indexByName = new HashMap<>();
+      for (var i = 0; i < this.columnNames.length; i++) {
+        this.indexByName.put(normalize(this.columnNames[i]), i);
+      }
+    }
+
+    static Schema of(ResultSet rs) throws SQLException {
+      var metaData = rs.getMetaData();
+      var names = new ArrayList<String>();
+      var indexes = new ArrayList<Integer>();
+      var knownNames = new HashSet<String>();
+      for (var i = 1; i <= metaData.getColumnCount(); i++) {
+        var name = JdbcUtils.lookupColumnName(metaData, i);
+        if (knownNames.add(normalize(name))) {
+          names.add(name);
+          indexes.add(i);
+        }
+      }
+      return new Schema(names, indexes);
+    }
+
+    static Schema of(String... columnNames) {
+      var indexes = new ArrayList<Integer>();
+      for (var i = 1; i <= columnNames.length; i++) {
+        indexes.add(i);
+      }
+      return new Schema(List.of(columnNames), indexes);
+    }
+
+    int size() {
+      return columnNames.length;
+    }
+
+    String getColumnName(int index) {
+      return columnNames[index];
+    }
+
+    int indexOf(Object columnName) {
+      if (!(columnName instanceof String)) {
+        return -1;
+      }
+      var index = indexByName.get(normalize((String) columnName));
+      return null == index ? -1 : index;
+    }
+
+    private static String normalize(String columnName) {
+      return columnName.toLowerCase(Locale.ROOT);
+    }
+  }
+}
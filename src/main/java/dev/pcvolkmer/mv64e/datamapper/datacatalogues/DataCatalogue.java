@@ -21,6 +21,10 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
 
 /**
@@ -41,17 +45,54 @@ public interface DataCatalogue {
   ResultSet getById(int id);
 
   /**
-   * Checks if a procedure is available and unique by id
+   * Find a result set by database id
    *
    * @param id The database id (primary key)
-   * @return true if available, false otherwise
+   * @return The result set or an empty Optional if there is no unique result set
    */
-  default boolean isAvailable(int id) {
+  default Optional<ResultSet> findById(int id) {
     try {
-      this.getById(id);
+      return Optional.of(this.getById(id));
     } catch (Exception e) {
-      return false;
+      return Optional.empty();
     }
-    return true;
+  }
+
+  /**
+   * Checks if a procedure exists by id without loading the procedure. Unlike {@link
+   * #isAvailable(int)} this does not check if the procedure is unique.
+   *
+   * <p>The default implementation is only an approximation using {@link #findById(int)}. It loads
+   * the procedure and returns false for a procedure that is not unique. Implementations should
+   * override this method.
+   *
+   * @param id The database id (primary key)
+   * @return true if there is at least one record, false otherwise
+   */
+  default boolean exists(int id) {
+    return this.findById(id).isPresent();
+  }
+
+  /**
+   * Get all existing procedure ids of the given ids
+   *
+   * <p>The default implementation checks each id using {@link #exists(int)} and inherits its
+   * approximation. Implementations should override this method.
+   *
+   * @param ids The database ids (primary keys)
+   * @return The existing ids
+   */
+  default Set<Integer> existingIds(Collection<Integer> ids) {
+    return ids.stream().filter(this::exists).collect(Collectors.toSet());
+  }
+
+  /**
+   * Checks if a procedure is available and unique by id
+   *
+   * @param id The database id (primary key)
+   * @return true if available, false otherwise
+   */
+  default boolean isAvailable(int id) {
+    return this.findById(id).isPresent();
   }
 }
@@ -21,6 +21,8 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataCatalogueCreationException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -123,4 +125,25 @@ public class DataCatalogueFactory {
   public boolean hasCatalogue(Class<? extends DataCatalogue> clazz) {
     return FACTORIES.containsKey(clazz);
   }
+
+  /**
+   * Checks if all tables and columns used by statements of all known catalogues exist. This can be
+   * used on application startup to detect an unexpected database schema.
+   *
+   * @return Descriptions of missing tables or columns by catalogue class, empty if all exist
+   * @since 0.10
+   */
+  public Map<Class<? extends DataCatalogue>, List<String>> validateStatements() {
+    var result = new HashMap<Class<? extends DataCatalogue>, List<String>>();
+    for (var clazz : FACTORIES.keySet()) {
+      var catalogue = catalogue(clazz);
+      if (catalogue instanceof AbstractDataCatalogue) {
+        var problems = ((AbstractDataCatalogue) catalogue).validateStatements();
+        if (!problems.isEmpty()) {
+          result.put(clazz, problems);
+        }
+      }
+    }
+    return result;
+  }
 }
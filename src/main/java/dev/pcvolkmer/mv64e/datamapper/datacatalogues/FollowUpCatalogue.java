@@ -21,7 +21,11 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
@@ -35,6 +39,10 @@ import org.springframework.jdbc.core.JdbcTemplate;
  */
 public class FollowUpCatalogue extends AbstractDataCatalogue {
 
+  static final String IDS_BY_KPA_ID = "idsByKpaId";
+  static final String IDS_BY_RECOMMENDATION_ID = "idsByRecommendationId";
+  static final String IDS_BY_RECOMMENDATION_IDS = "idsByRecommendationIds";
+
   private FollowUpCatalogue(JdbcTemplate jdbcTemplate) {
     super(jdbcTemplate);
   }
@@ -44,6 +52,32 @@ public class FollowUpCatalogue extends AbstractDataCatalogue {
     return "dk_dnpm_followup";
   }
 
+  @Override
+  CatalogueStatements.Builder registerStatements(CatalogueStatements.Builder builder) {
+    return super.registerStatements(builder)
+        .requires(builder.getTableName(), "linktherapieempfehlung")
+        .requires("dk_dnpm_therapieplan", "id", "ref_dnpm_klinikanamnese")
+        .requires("dk_dnpm_uf_einzelempfehlung", "id")
+        .statement(
+            IDS_BY_KPA_ID,
+            "SELECT DISTINCT fup.id FROM dk_dnpm_therapieplan tp "
+                + "JOIN prozedur tpp ON (tp.id = tpp.id AND tpp.geloescht = 0) "
+                + "JOIN prozedur eep ON (eep.hauptprozedur_id = tpp.id AND eep.geloescht = 0) "
+                + "JOIN dk_dnpm_uf_einzelempfehlung ee ON (ee.id = eep.id) "
+                + "JOIN dk_dnpm_followup fu ON (fu.linktherapieempfehlung = ee.id) "
+                + "JOIN prozedur fup ON (fu.id = fup.id AND fup.geloescht = 0) "
+                + "WHERE tp.ref_dnpm_klinikanamnese = ?")
+        .statement(
+            IDS_BY_RECOMMENDATION_ID,
+            "SELECT DISTINCT fup.id FROM dk_dnpm_followup fu "
+                + "JOIN prozedur fup ON (fu.id = fup.id AND fup.geloescht = 0) "
+                + "WHERE fu.linktherapieempfehlung = ?")
+        .inListStatement(
+            IDS_BY_RECOMMENDATION_IDS,
+            "SELECT DISTINCT fu.linktherapieempfehlung, fup.id FROM dk_dnpm_followup fu JOIN prozedur fup ON (fu.id = fup.id AND fup.geloescht = 0) WHERE fu.linktherapieempfehlung IN (",
+            ")");
+  }
+
   @NullMarked
   public static FollowUpCatalogue create(JdbcTemplate jdbcTemplate) {
     return new FollowUpCatalogue(jdbcTemplate);
@@ -56,17 +90,11 @@ public class FollowUpCatalogue extends AbstractDataCatalogue {
    * @return The procedure ids
    */
   public List<Integer> getByKpaId(int kpaId) {
-    return this.jdbcTemplate
-        .queryForList(
-            "SELECT DISTINCT fup.id FROM dk_dnpm_therapieplan tp "
-                + "JOIN prozedur tpp ON (tp.id = tpp.id AND tpp.geloescht = 0) "
-                + "JOIN prozedur eep ON (eep.hauptprozedur_id = tpp.id AND eep.geloescht = 0) "
-                + "JOIN dk_dnpm_uf_einzelempfehlung ee ON (ee.id = eep.id) "
-                + "JOIN dk_dnpm_followup fu ON (fu.linktherapieempfehlung = ee.id) "
-                + "JOIN prozedur fup ON (fu.id = fup.id AND fup.geloescht = 0) "
-                + "WHERE tp.ref_dnpm_klinikanamnese = ?",
-            kpaId)
-        .stream()
+    return cached("getByKpaId", kpaId, () -> loadByKpaId(kpaId));
+  }
+
+  private List<Integer> loadByKpaId(int kpaId) {
+    return queryForRows(sql(IDS_BY_KPA_ID), kpaId).stream()
         .map(ResultSet::from)
         .map(rs -> rs.getInteger("id"))
         .filter(Objects::nonNull)
@@ -80,16 +108,47 @@ public class FollowUpCatalogue extends AbstractDataCatalogue {
    * @return The procedure ids
    */
   public List<Integer> getByRecommendationId(int recommendationId) {
-    return this.jdbcTemplate
-        .queryForList(
-            "SELECT DISTINCT fup.id FROM dk_dnpm_followup fu "
-                + "JOIN prozedur fup ON (fu.id = fup.id AND fup.geloescht = 0) "
-                + "WHERE fu.linktherapieempfehlung = ?",
-            recommendationId)
-        .stream()
+    return cached(
+        "getByRecommendationId", recommendationId, () -> loadByRecommendationId(recommendationId));
+  }
+
+  private List<Integer> loadByRecommendationId(int recommendationId) {
+    return queryForRows(sql(IDS_BY_RECOMMENDATION_ID), recommendationId).stream()
         .map(ResultSet::from)
         .map(rs -> rs.getInteger("id"))
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
+
+  /**
+   * Loads procedure IDs related to all given DNPM Einzelempfehlung procedure ids using chunked
+   * set-based queries and puts them into the open {@link CatalogueCache}. Subsequent requests by
+   * recommendation id will not query the database.
+   *
+   * @param recommendationIds The DNPM Einzelempfehlung procedure ids
+   * @return The procedure ids grouped by DNPM Einzelempfehlung procedure id
+   * @since 0.10
+   */
+  public Map<Integer, List<Integer>> prefetchByRecommendationIds(
+      Collection<Integer> recommendationIds) {
+    var result = new HashMap<Integer, List<Integer>>();
+    recommendationIds.forEach(id -> result.put(id, new ArrayList<>()));
+    for (var chunk : chunked(recommendationIds)) {
+      labeled(
+              "prefetchByRecommendationIds",
+              () -> queryForRows(sql(IDS_BY_RECOMMENDATION_IDS, chunk.size()), chunk.toArray()))
+          .stream()
+          .map(ResultSet::from)
+          .forEach(
+              resultSet -> {
+                var recommendationId = resultSet.getInteger("linktherapieempfehlung");
+                var id = resultSet.getInteger("id");
+                if (null != recommendationId && null != id) {
+                  result.computeIfAbsent(recommendationId, key -> new ArrayList<>()).add(id);
+                }
+              });
+    }
+    result.forEach((id, ids) -> prefetched("getByRecommendationId", id, ids));
+    return result;
+  }
 }
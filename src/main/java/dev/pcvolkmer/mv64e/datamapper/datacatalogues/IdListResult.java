@@ -0,0 +1,85 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Result of loading multiple procedures by a list of procedure ids. Contains all found result sets
+ * and the ids that could not be loaded, since no or multiple records were found.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public class IdListResult {
+
+  private final List<ResultSet> resultSets;
+  private final List<Integer> missingIds;
+  private final List<Integer> duplicateIds;
+
+  IdListResult(
+      final List<ResultSet> resultSets,
+      final List<Integer> missingIds,
+      final List<Integer> duplicateIds) {
+    this.resultSets = List.copyOf(resultSets);
+    this.missingIds = List.copyOf(missingIds);
+    this.duplicateIds = List.copyOf(duplicateIds);
+  }
+
+  /**
+   * Get all found result sets in order of the requested ids
+   *
+   * @return The result sets
+   */
+  public List<ResultSet> getResultSets() {
+    return resultSets;
+  }
+
+  /**
+   * Get all requested ids without any record
+   *
+   * @return The missing ids
+   */
+  public List<Integer> getMissingIds() {
+    return missingIds;
+  }
+
+  /**
+   * Get all requested ids with multiple records
+   *
+   * @return The ids with multiple records
+   */
+  public List<Integer> getDuplicateIds() {
+    return duplicateIds;
+  }
+
+  /**
+   * Checks if all requested ids were found exactly once
+   *
+   * @return true if there are no missing or duplicate ids
+   */
+  public boolean isComplete() {
+    return missingIds.isEmpty() && duplicateIds.isEmpty();
+  }
+}
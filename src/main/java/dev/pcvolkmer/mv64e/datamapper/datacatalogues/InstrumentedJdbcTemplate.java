@@ -0,0 +1,198 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import dev.pcvolkmer.mv64e.datamapper.tracing.Tracing;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+
+/**
+ * JdbcTemplate recording each executed query including the number of fetched rows and the time
+ * spent. Queries are reported to registered {@link QueryListener}s and to the {@link
+ * QueryStatistics} recording for the current thread. Data catalogues label their queries with
+ * catalogue class and statement name, so results can be broken down by catalogue and statement.
+ *
+ * <p>No metrics library is required. Without any listener or recording, queries are executed
+ * without recording.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * var jdbcTemplate = new InstrumentedJdbcTemplate(dataSource);
+ * var mapper = MtbDataMapper.create(jdbcTemplate);
+ * var result = mapper.getByIdWithStatistics(kpaId);
+ * logger.info("{}", result.getQueryStatistics());
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public class InstrumentedJdbcTemplate extends JdbcTemplate {
+
+  private static final Logger logger = LoggerFactory.getLogger(InstrumentedJdbcTemplate.class);
+
+  private static final ThreadLocal<String[]> LABEL = new ThreadLocal<>();
+
+  private final List<QueryListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a new instrumented JdbcTemplate
+   *
+   * @param dataSource The datasource to be used
+   */
+  public InstrumentedJdbcTemplate(final DataSource dataSource) {
+    super(dataSource);
+  }
+
+  /**
+   * Adds a listener to be notified about each executed query
+   *
+   * @param listener The listener
+   * @return This instance
+   */
+  public InstrumentedJdbcTemplate addListener(final QueryListener listener) {
+    this.listeners.add(listener);
+    return this;
+  }
+
+  /**
+   * Removes a previously added listener
+   *
+   * @param listener The listener
+   */
+  public void removeListener(final QueryListener listener) {
+    this.listeners.remove(listener);
+  }
+
+  /**
+   * Labels all queries executed by the given supplier on the current thread. Nested labels take
+   * precedence until the nested supplier returns. If tracing has been started for the current
+   * thread, the supplier is traced as span named after the label.
+   *
+   * @param source The class executing the queries
+   * @param statement The name of the statement, e.g. the name of the requesting method
+   * @param supplier The supplier executing the queries
+   * @return The result of the supplier
+   * @param <T> The result type
+   */
+  public static <T> T labeled(
+      final Class<?> source, final String statement, final Supplier<T> supplier) {
+    var previous = LABEL.get();
+    LABEL.set(new String[] {source.getSimpleName(), statement});
+    try {
+      return Tracing.span(source, statement, supplier);
+    } finally {
+      if (null == previous) {
+        LABEL.remove();
+      } else {
+        LABEL.set(previous);
+      }
+    }
+  }
+
+  @Override
+  public <T> @Nullable T query(final String sql, final ResultSetExtractor<T> rse) {
+    return instrumented(sql, rse, extractor -> super.query(sql, extractor));
+  }
+
+  @Override
+  public <T> @Nullable T query(
+      final PreparedStatementCreator psc,
+      @Nullable final PreparedStatementSetter pss,
+      final ResultSetExtractor<T> rse) {
+    var sql = psc instanceof SqlProvider ? ((SqlProvider) psc).getSql() : null;
+    return instrumented(sql, rse, extractor -> super.query(psc, pss, extractor));
+  }
+
+  private <T> @Nullable T instrumented(
+      @Nullable final String sql,
+      final ResultSetExtractor<T> rse,
+      final Function<ResultSetExtractor<T>, @Nullable T> query) {
+    var statistics = QueryStatistics.current();
+    if (listeners.isEmpty() && null == statistics) {
+      return query.apply(rse);
+    }
+
+    var rows = new int[1];
+    var failed = true;
+    var start = System.nanoTime();
+    try {
+      var result = query.apply(resultSet -> rse.extractData(counting(resultSet, rows)));
+      failed = false;
+      return result;
+    } finally {
+      var label = LABEL.get();
+      var event =
+          new QueryEvent(
+              null == label ? getClass().getSimpleName() : label[0],
+              null == label ? String.valueOf(sql) : label[1],
+              sql,
+              rows[0],
+              System.nanoTime() - start,
+              failed);
+      if (null != statistics) {
+        statistics.onQuery(event);
+      }
+      for (var listener : listeners) {
+        try {
+          listener.onQuery(event);
+        } catch (RuntimeException e) {
+          logger.warn("Query listener failed", e);
+        }
+      }
+    }
+  }
+
+  private static ResultSet counting(final ResultSet resultSet, final int[] rows) {
+    return (ResultSet)
+        Proxy.newProxyInstance(
+            InstrumentedJdbcTemplate.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+              try {
+                var result = method.invoke(resultSet, args);
+                if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                  rows[0]++;
+                }
+                return result;
+              } catch (InvocationTargetException e) {
+                var cause = e.getCause();
+                throw null == cause ? e : cause;
+              }
+            });
+  }
+}
@@ -32,6 +32,11 @@ import org.springframework.jdbc.core.JdbcTemplate;
  */
 public class KpaCatalogue extends AbstractDataCatalogue {
 
+  static final String PROCEDURE_ID_BY_CASE_ID = "procedureIdByCaseId";
+  static final String LATEST_PROCEDURE_ID_BY_PATIENT_ID_AND_TUMOR =
+      "latestProcedureIdByPatientIdAndTumor";
+  static final String PATIENT_ID_BY_CASE_ID = "patientIdByCaseId";
+
   private KpaCatalogue(JdbcTemplate jdbcTemplate) {
     super(jdbcTemplate);
   }
@@ -41,6 +46,30 @@ public class KpaCatalogue extends AbstractDataCatalogue {
     return "dk_dnpm_kpa";
   }
 
+  @Override
+  CatalogueStatements.Builder registerStatements(CatalogueStatements.Builder builder) {
+    return super.registerStatements(builder)
+        .requires(builder.getTableName(), "fallnummermv", "anmeldedatummtb")
+        .requires("erkrankung_prozedur", "erkrankung_id", "prozedur_id")
+        .requires("erkrankung", "id", "tumoridentifikator")
+        .statement(
+            PROCEDURE_ID_BY_CASE_ID,
+            "SELECT dk_dnpm_kpa.id FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) WHERE prozedur.geloescht = 0 AND dk_dnpm_kpa.fallnummermv = ?")
+        .statement(
+            LATEST_PROCEDURE_ID_BY_PATIENT_ID_AND_TUMOR,
+            "SELECT prozedur.id FROM dk_dnpm_kpa "
+                + "    JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) "
+                + "    JOIN erkrankung_prozedur ON (erkrankung_prozedur.prozedur_id = prozedur.id) "
+                + "    JOIN erkrankung ON (erkrankung_prozedur.erkrankung_id = erkrankung.id) "
+                + "    JOIN patient ON (patient.id = prozedur.patient_id) "
+                + "    WHERE patient.patienten_id = ? AND erkrankung.tumoridentifikator = ? "
+                + "    ORDER BY dk_dnpm_kpa.anmeldedatummtb DESC "
+                + "    LIMIT 1")
+        .statement(
+            PATIENT_ID_BY_CASE_ID,
+            "SELECT patient_id FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) WHERE prozedur.geloescht = 0 AND fallnummermv = ?");
+  }
+
   @NullMarked
   public static KpaCatalogue create(JdbcTemplate jdbcTemplate) {
     return new KpaCatalogue(jdbcTemplate);
@@ -55,9 +84,7 @@ public class KpaCatalogue extends AbstractDataCatalogue {
   public int getProcedureIdByCaseId(String caseId) {
     var result =
         this.jdbcTemplate.query(
-            "SELECT dk_dnpm_kpa.id FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) WHERE prozedur.geloescht = 0 AND dk_dnpm_kpa.fallnummermv = ?",
-            (resultSet, i) -> resultSet.getInt(1),
-            caseId);
+            sql(PROCEDURE_ID_BY_CASE_ID), (resultSet, i) -> resultSet.getInt(1), caseId);
 
     if (result.isEmpty()) {
       throw new DataAccessException("No record found for case: " + caseId);
@@ -76,18 +103,12 @@ public class KpaCatalogue extends AbstractDataCatalogue {
    * @return The procedure id
    */
   public int getLatestProcedureIdByPatientIdAndTumor(String patientId, int tumorId) {
-    var sql =
-        "SELECT prozedur.id FROM dk_dnpm_kpa "
-            + "    JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) "
-            + "    JOIN erkrankung_prozedur ON (erkrankung_prozedur.prozedur_id = prozedur.id) "
-            + "    JOIN erkrankung ON (erkrankung_prozedur.erkrankung_id = erkrankung.id) "
-            + "    JOIN patient ON (patient.id = prozedur.patient_id) "
-            + "    WHERE patient.patienten_id = ? AND erkrankung.tumoridentifikator = ? "
-            + "    ORDER BY dk_dnpm_kpa.anmeldedatummtb DESC "
-            + "    LIMIT 1";
-
     var result =
-        this.jdbcTemplate.query(sql, (resultSet, i) -> resultSet.getInt(1), patientId, tumorId);
+        this.jdbcTemplate.query(
+            sql(LATEST_PROCEDURE_ID_BY_PATIENT_ID_AND_TUMOR),
+            (resultSet, i) -> resultSet.getInt(1),
+            patientId,
+            tumorId);
 
     if (result.isEmpty()) {
       throw new DataAccessException(
@@ -111,9 +132,7 @@ public class KpaCatalogue extends AbstractDataCatalogue {
   public int getPatientIdByCaseId(String caseId) {
     var result =
         this.jdbcTemplate.query(
-            "SELECT patient_id FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) WHERE prozedur.geloescht = 0 AND fallnummermv = ?",
-            (resultSet, i) -> resultSet.getInt(1),
-            caseId);
+            sql(PATIENT_ID_BY_CASE_ID), (resultSet, i) -> resultSet.getInt(1), caseId);
 
     if (result.isEmpty()) {
       throw new DataAccessException("No record found for case: " + caseId);
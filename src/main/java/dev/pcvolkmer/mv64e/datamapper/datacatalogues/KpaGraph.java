@@ -0,0 +1,334 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Prefetched form tree of one DNPM Klinik/Anamnese procedure. All related procedures are loaded
+ * level by level using set-based queries and put into the open {@link CatalogueCache}, so the
+ * number of queries per case does not depend on the number of related procedures. Data mappers
+ * will read the prefetched procedures using the data catalogues as before.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * try (var cache = CatalogueCache.open()) {
+ *   KpaGraph.prefetch(catalogueFactory, kpaId);
+ *   // All catalogue requests related to the procedure are served by the cache
+ * }
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class KpaGraph {
+
+  private final int kpaId;
+  private final Set<Integer> therapieplanIds;
+  private final Set<Integer> einzelempfehlungIds;
+  private final Set<Integer> followUpIds;
+  private final Set<Integer> molekulargenetikIds;
+  private final Set<Integer> pathologiebefundIds;
+  @Nullable private final Integer consentMvId;
+
+  private KpaGraph(
+      int kpaId,
+      Set<Integer> therapieplanIds,
+      Set<Integer> einzelempfehlungIds,
+      Set<Integer> followUpIds,
+      Set<Integer> molekulargenetikIds,
+      Set<Integer> pathologiebefundIds,
+      @Nullable Integer consentMvId) {
+    this.kpaId = kpaId;
+    this.therapieplanIds = Set.copyOf(therapieplanIds);
+    this.einzelempfehlungIds = Set.copyOf(einzelempfehlungIds);
+    this.followUpIds = Set.copyOf(followUpIds);
+    this.molekulargenetikIds = Set.copyOf(molekulargenetikIds);
+    this.pathologiebefundIds = Set.copyOf(pathologiebefundIds);
+    this.consentMvId = consentMvId;
+  }
+
+  /**
+   * Loads the form tree of the given DNPM Klinik/Anamnese procedure into the open {@link
+   * CatalogueCache}
+   *
+   * @param catalogueFactory The catalogue factory to be used
+   * @param kpaId The database id of the DNPM Klinik/Anamnese procedure
+   * @return The ids of the prefetched procedures
+   * @throws IllegalStateException if there is no open cache for the current thread
+   */
+  public static KpaGraph prefetch(DataCatalogueFactory catalogueFactory, int kpaId) {
+    return Objects.requireNonNull(prefetchAll(catalogueFactory, List.of(kpaId)).get(kpaId));
+  }
+
+  /**
+   * Loads the form trees of all given DNPM Klinik/Anamnese procedures into the open {@link
+   * CatalogueCache}. Related procedures of all cases are loaded together using one query per table
+   * and chunk of ids.
+   *
+   * @param catalogueFactory The catalogue factory to be used
+   * @param kpaIds The database ids of the DNPM Klinik/Anamnese procedures
+   * @return The ids of the prefetched procedures by DNPM Klinik/Anamnese procedure id
+   * @throws IllegalStateException if there is no open cache for the current thread
+   */
+  public static Map<Integer, KpaGraph> prefetchAll(
+      DataCatalogueFactory catalogueFactory, Collection<Integer> kpaIds) {
+    if (!CatalogueCache.isOpen()) {
+      throw new IllegalStateException("No open catalogue cache to prefetch into");
+    }
+
+    // DNPM Klinik/Anamnese and its sub forms
+    var kpas = catalogueFactory.catalogue(KpaCatalogue.class).prefetchByIds(kpaIds);
+    var histologien =
+        catalogueFactory.catalogue(HistologieCatalogue.class).prefetchByParentIds(kpaIds);
+    Stream.of(
+            catalogueFactory.catalogue(TumorausbreitungCatalogue.class),
+            catalogueFactory.catalogue(TumorgradingCatalogue.class),
+            catalogueFactory.catalogue(KeimbahndiagnoseCatalogue.class),
+            catalogueFactory.catalogue(ProzedurCatalogue.class),
+            catalogueFactory.catalogue(EcogCatalogue.class),
+            catalogueFactory.catalogue(VerwandteCatalogue.class),
+            catalogueFactory.catalogue(VorbefundeCatalogue.class))
+        .forEach(catalogue -> catalogue.prefetchByParentIds(kpaIds));
+
+    // DNPM Therapieplan and its sub forms
+    var therapieplanCatalogue = catalogueFactory.catalogue(TherapieplanCatalogue.class);
+    var therapieplanIdsByKpaId = therapieplanCatalogue.prefetchByKpaIds(kpaIds);
+    var therapieplanIds = flatten(therapieplanIdsByKpaId.values());
+    var therapieplaene = therapieplanCatalogue.prefetchByIds(therapieplanIds);
+    var einzelempfehlungen =
+        catalogueFactory
+            .catalogue(EinzelempfehlungCatalogue.class)
+            .prefetchByParentIds(therapieplanIds);
+    var rebiopsien =
+        catalogueFactory.catalogue(RebiopsieCatalogue.class).prefetchByParentIds(therapieplanIds);
+    var reevaluationen =
+        catalogueFactory
+            .catalogue(ReevaluationCatalogue.class)
+            .prefetchByParentIds(therapieplanIds);
+
+    // DNPM FollowUp and related therapy lines
+    var followUpCatalogue = catalogueFactory.catalogue(FollowUpCatalogue.class);
+    var followUpIdsByRecommendationId =
+        followUpCatalogue.prefetchByRecommendationIds(
+            ids(select(einzelempfehlungen, therapieplanIds)));
+    var followUpIds = flatten(followUpIdsByRecommendationId.values());
+    followUpCatalogue.prefetchByIds(followUpIds);
+    catalogueFactory
+        .catalogue(TherapielinieCatalogue.class)
+        .prefetchByParentIds(
+            Stream.concat(kpaIds.stream(), followUpIds.stream()).collect(Collectors.toList()));
+
+    // Collect ids of each case
+    var molekulargenetikCatalogue = catalogueFactory.catalogue(MolekulargenetikCatalogue.class);
+    var graphs = new LinkedHashMap<Integer, KpaGraph>();
+    for (var kpaId : kpaIds) {
+      var caseTherapieplanIds = therapieplanIdsByKpaId.getOrDefault(kpaId, List.of());
+      var caseEinzelempfehlungen = select(einzelempfehlungen, caseTherapieplanIds);
+      var caseEinzelempfehlungIds = ids(caseEinzelempfehlungen);
+      var caseFollowUpIds =
+          new LinkedHashSet<>(select(followUpIdsByRecommendationId, caseEinzelempfehlungIds));
+      followUpCatalogue.prefetched("getByKpaId", kpaId, List.copyOf(caseFollowUpIds));
+
+      var histologieIds = values(histologien.getOrDefault(kpaId, List.of()), "histologie");
+      var caseMolekulargenetikIds = new LinkedHashSet<>(histologieIds);
+      caseMolekulargenetikIds.addAll(values(caseEinzelempfehlungen, "ref_molekulargenetik"));
+      caseMolekulargenetikIds.addAll(
+          values(select(rebiopsien, caseTherapieplanIds), "ref_molekulargenetik"));
+      caseMolekulargenetikIds.addAll(
+          values(select(reevaluationen, caseTherapieplanIds), "ref_molekulargenetik"));
+      caseMolekulargenetikIds.addAll(
+          values(select(therapieplaene, caseTherapieplanIds), "ref_no_empf_molgen"));
+
+      var kpa = kpas.getOrDefault(kpaId, List.of());
+      var consentMvId = kpa.size() == 1 ? kpa.get(0).getInteger("consentmv64e") : null;
+
+      graphs.put(
+          kpaId,
+          new KpaGraph(
+              kpaId,
+              new LinkedHashSet<>(caseTherapieplanIds),
+              caseEinzelempfehlungIds,
+              caseFollowUpIds,
+              caseMolekulargenetikIds,
+              histologieIds,
+              consentMvId));
+    }
+
+    // Molekulargenetik and Pathologiebefund referenced by all forms
+    var molekulargenetikIds =
+        molekulargenetikCatalogue
+            .prefetchByIds(
+                flatten(
+                    graphs.values().stream()
+                        .map(KpaGraph::getMolekulargenetikIds)
+                        .collect(Collectors.toList())))
+            .keySet();
+    Stream.of(
+            catalogueFactory.catalogue(MolekulargenuntersuchungCatalogue.class),
+            catalogueFactory.catalogue(MolekulargenMsiCatalogue.class))
+        .forEach(catalogue -> catalogue.prefetchByParentIds(molekulargenetikIds));
+    var pathologiebefundIds =
+        catalogueFactory
+            .catalogue(PathologiebefundCatalogue.class)
+            .prefetchByIds(
+                flatten(
+                    graphs.values().stream()
+                        .map(KpaGraph::getPathologiebefundIds)
+                        .collect(Collectors.toList())))
+            .keySet();
+
+    // DNPM ConsentMV
+    var consentMvIds =
+        graphs.values().stream()
+            .map(KpaGraph::getConsentMvId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    catalogueFactory.catalogue(ConsentMvCatalogue.class).prefetchByIds(consentMvIds);
+    catalogueFactory.catalogue(ConsentMvVerlaufCatalogue.class).prefetchByParentIds(consentMvIds);
+
+    // Keep existing referenced procedures only
+    var result = new LinkedHashMap<Integer, KpaGraph>();
+    graphs.forEach(
+        (kpaId, graph) ->
+            result.put(kpaId, graph.withExisting(molekulargenetikIds, pathologiebefundIds)));
+    return result;
+  }
+
+  private KpaGraph withExisting(
+      Set<Integer> existingMolekulargenetikIds, Set<Integer> existingPathologiebefundIds) {
+    return new KpaGraph(
+        kpaId,
+        therapieplanIds,
+        einzelempfehlungIds,
+        followUpIds,
+        molekulargenetikIds.stream()
+            .filter(existingMolekulargenetikIds::contains)
+            .collect(Collectors.toSet()),
+        pathologiebefundIds.stream()
+            .filter(existingPathologiebefundIds::contains)
+            .collect(Collectors.toSet()),
+        consentMvId);
+  }
+
+  private static <T> List<T> select(Map<Integer, List<T>> values, Collection<Integer> keys) {
+    return keys.stream()
+        .flatMap(key -> values.getOrDefault(key, List.of()).stream())
+        .collect(Collectors.toList());
+  }
+
+  private static Set<Integer> flatten(Collection<? extends Collection<Integer>> ids) {
+    return ids.stream()
+        .flatMap(Collection::stream)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private static Set<Integer> ids(Collection<ResultSet> resultSets) {
+    return resultSets.stream()
+        .map(ResultSet::getId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  private static Set<Integer> values(Collection<ResultSet> resultSets, String column) {
+    return resultSets.stream()
+        .map(resultSet -> resultSet.getInteger(column))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /**
+   * Get database id of the DNPM Klinik/Anamnese procedure
+   *
+   * @return The procedure id
+   */
+  public int getKpaId() {
+    return kpaId;
+  }
+
+  /**
+   * Get database ids of all related DNPM Therapieplan procedures
+   *
+   * @return The procedure ids
+   */
+  public Set<Integer> getTherapieplanIds() {
+    return therapieplanIds;
+  }
+
+  /**
+   * Get database ids of all related DNPM Einzelempfehlung procedures
+   *
+   * @return The procedure ids
+   */
+  public Set<Integer> getEinzelempfehlungIds() {
+    return einzelempfehlungIds;
+  }
+
+  /**
+   * Get database ids of all related DNPM FollowUp procedures
+   *
+   * @return The procedure ids
+   */
+  public Set<Integer> getFollowUpIds() {
+    return followUpIds;
+  }
+
+  /**
+   * Get database ids of all existing and related Molekulargenetik procedures
+   *
+   * @return The procedure ids
+   */
+  public Set<Integer> getMolekulargenetikIds() {
+    return molekulargenetikIds;
+  }
+
+  /**
+   * Get database ids of all existing and related Pathologiebefund procedures
+   *
+   * @return The procedure ids
+   */
+  public Set<Integer> getPathologiebefundIds() {
+    return pathologiebefundIds;
+  }
+
+  /**
+   * Get database id of the related DNPM ConsentMV procedure
+   *
+   * @return The procedure id or null if there is no related consent
+   */
+  @Nullable
+  public Integer getConsentMvId() {
+    return consentMvId;
+  }
+}
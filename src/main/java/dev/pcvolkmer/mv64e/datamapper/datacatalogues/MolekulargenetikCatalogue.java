@@ -22,8 +22,12 @@ package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -36,6 +40,13 @@ import org.springframework.jdbc.core.JdbcTemplate;
  */
 public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
 
+  static final String BY_EINSENDENUMMER = "byEinsendenummer";
+  static final String IDS_OF_TYPE_SEQUENCING = "idsOfTypeSequencing";
+  static final String IDS_BY_PATIENT_ID = "idsByPatientId";
+  static final String IDS_BY_THERAPIEPLAN_ID = "idsByTherapieplanId";
+  static final String IDS_BY_KPA_ID = "idsByKpaId";
+  static final String SAMPLE_CONSERVATION_BY_ID = "sampleConservationById";
+
   private MolekulargenetikCatalogue(JdbcTemplate jdbcTemplate) {
     super(jdbcTemplate);
   }
@@ -45,6 +56,65 @@ public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
     return "dk_molekulargenetik";
   }
 
+  @Override
+  CatalogueStatements.Builder registerStatements(CatalogueStatements.Builder builder) {
+    var tableName = builder.getTableName();
+    return super.registerStatements(builder)
+        .requires(tableName, "einsendenummer")
+        .statement(
+            BY_EINSENDENUMMER,
+            String.format(
+                "SELECT patient.patienten_id, %s.*, prozedur.* FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND %s.einsendenummer = ?",
+                tableName, tableName, tableName, tableName))
+        .inListStatement(
+            IDS_OF_TYPE_SEQUENCING,
+            String.format(
+                "SELECT DISTINCT prozedur.id FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) JOIN %s_merkmale ON (%s_merkmale.eintrag_id = prozedur.id) WHERE geloescht = 0 AND %s_merkmale.feldname = 'AnalyseMethoden' AND %s_merkmale.feldwert = 'S' AND prozedur.id IN (",
+                tableName, tableName, tableName, tableName, tableName, tableName),
+            ")")
+        .statement(
+            IDS_BY_PATIENT_ID,
+            "SELECT DISTINCT mg.id "
+                + "FROM dk_molekulargenetik mg "
+                + "JOIN prozedur molprozedur ON molprozedur.id = mg.id "
+                + "JOIN patient pat ON pat.id = molprozedur.patient_id "
+                + "WHERE pat.id = ? "
+                + "AND molprozedur.geloescht = 0")
+        .requires("dk_dnpm_uf_einzelempfehlung", "id", "ref_molekulargenetik")
+        .requires("dk_dnpm_uf_rebiopsie", "id", "ref_molekulargenetik")
+        .requires("dk_dnpm_uf_reevaluation", "id", "ref_molekulargenetik")
+        .requires("dk_dnpm_therapieplan", "id", "ref_dnpm_klinikanamnese", "ref_no_empf_molgen")
+        .statement(
+            IDS_BY_THERAPIEPLAN_ID,
+            "SELECT DISTINCT ref_molekulargenetik FROM dk_dnpm_uf_einzelempfehlung JOIN prozedur ON (prozedur.id = dk_dnpm_uf_einzelempfehlung.id) "
+                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id = ? "
+                + " UNION SELECT ref_molekulargenetik FROM dk_dnpm_uf_rebiopsie JOIN prozedur ON (prozedur.id = dk_dnpm_uf_rebiopsie.id) "
+                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id = ? "
+                + " UNION SELECT ref_molekulargenetik FROM dk_dnpm_uf_reevaluation JOIN prozedur ON (prozedur.id = dk_dnpm_uf_reevaluation.id) "
+                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id = ?;")
+        .statement(
+            IDS_BY_KPA_ID,
+            "SELECT DISTINCT ref_molekulargenetik AS ref_id FROM dk_dnpm_uf_einzelempfehlung JOIN prozedur ON (prozedur.id = dk_dnpm_uf_einzelempfehlung.id) "
+                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?) "
+                + " UNION SELECT ref_molekulargenetik AS ref_id FROM dk_dnpm_uf_rebiopsie JOIN prozedur ON (prozedur.id = dk_dnpm_uf_rebiopsie.id) "
+                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?) "
+                + " UNION SELECT ref_molekulargenetik AS ref_id FROM dk_dnpm_uf_reevaluation JOIN prozedur ON (prozedur.id = dk_dnpm_uf_reevaluation.id) "
+                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?) "
+                + " UNION SELECT ref_no_empf_molgen AS ref_id FROM dk_dnpm_therapieplan JOIN prozedur ON (prozedur.id = dk_dnpm_therapieplan.id) "
+                + " WHERE ref_no_empf_molgen IS NOT NULL AND dk_dnpm_therapieplan.id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?);")
+        .requires(tableName, "materialfixierung", "materialfixierung_propcat_version")
+        .requires("property_catalogue_version_entry", "property_version_id", "code", "shortdesc")
+        .statement(
+            SAMPLE_CONSERVATION_BY_ID,
+            "SELECT DISTINCT prop_materialfixierung.shortdesc "
+                + "FROM dk_molekulargenetik mg "
+                + "LEFT JOIN property_catalogue_version_entry AS prop_materialfixierung "
+                + "ON ( prop_materialfixierung.property_version_id = mg.materialfixierung_propcat_version "
+                + "AND prop_materialfixierung.code = mg.materialfixierung) "
+                + "WHERE mg.id = ? "
+                + "LIMIT 1");
+  }
+
   @NullMarked
   public static MolekulargenetikCatalogue create(JdbcTemplate jdbcTemplate) {
     return new MolekulargenetikCatalogue(jdbcTemplate);
@@ -59,16 +129,11 @@ public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
    * @return a list of unique molecular genetics record IDs related to the patient
    */
   public List<Integer> getByPatientId(int patientId) {
-    return this.jdbcTemplate
-        .queryForList(
-            "SELECT DISTINCT mg.id "
-                + "FROM dk_molekulargenetik mg "
-                + "JOIN prozedur molprozedur ON molprozedur.id = mg.id "
-                + "JOIN patient pat ON pat.id = molprozedur.patient_id "
-                + "WHERE pat.id = ? "
-                + "AND molprozedur.geloescht = 0",
-            patientId)
-        .stream()
+    return cached("getByPatientId", patientId, () -> loadByPatientId(patientId));
+  }
+
+  private List<Integer> loadByPatientId(int patientId) {
+    return queryForRows(sql(IDS_BY_PATIENT_ID), patientId).stream()
         .map(ResultSet::from)
         .map(rs -> rs.getInteger("id"))
         .filter(Objects::nonNull)
@@ -83,17 +148,13 @@ public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
    * @return The procedure ids
    */
   public List<Integer> getByTherapieplanId(int therapieplanId) {
-    return this.jdbcTemplate
-        .queryForList(
-            "SELECT DISTINCT ref_molekulargenetik FROM dk_dnpm_uf_einzelempfehlung JOIN prozedur ON (prozedur.id = dk_dnpm_uf_einzelempfehlung.id) "
-                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id = ? "
-                + " UNION SELECT ref_molekulargenetik FROM dk_dnpm_uf_rebiopsie JOIN prozedur ON (prozedur.id = dk_dnpm_uf_rebiopsie.id) "
-                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id = ? "
-                + " UNION SELECT ref_molekulargenetik FROM dk_dnpm_uf_reevaluation JOIN prozedur ON (prozedur.id = dk_dnpm_uf_reevaluation.id) "
-                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id = ?;",
-            therapieplanId,
-            therapieplanId,
-            therapieplanId)
+    return cached(
+        "getByTherapieplanId", therapieplanId, () -> loadByTherapieplanId(therapieplanId));
+  }
+
+  private List<Integer> loadByTherapieplanId(int therapieplanId) {
+    return queryForRows(
+            sql(IDS_BY_THERAPIEPLAN_ID), therapieplanId, therapieplanId, therapieplanId)
         .stream()
         .map(ResultSet::from)
         .map(rs -> rs.getInteger("ref_molekulargenetik"))
@@ -109,21 +170,11 @@ public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
    * @return The procedure ids
    */
   public List<Integer> getIdsByKpaId(int kpaId) {
-    return this.jdbcTemplate
-        .queryForList(
-            "SELECT DISTINCT ref_molekulargenetik AS ref_id FROM dk_dnpm_uf_einzelempfehlung JOIN prozedur ON (prozedur.id = dk_dnpm_uf_einzelempfehlung.id) "
-                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?) "
-                + " UNION SELECT ref_molekulargenetik AS ref_id FROM dk_dnpm_uf_rebiopsie JOIN prozedur ON (prozedur.id = dk_dnpm_uf_rebiopsie.id) "
-                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?) "
-                + " UNION SELECT ref_molekulargenetik AS ref_id FROM dk_dnpm_uf_reevaluation JOIN prozedur ON (prozedur.id = dk_dnpm_uf_reevaluation.id) "
-                + " WHERE ref_molekulargenetik IS NOT NULL AND hauptprozedur_id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?) "
-                + " UNION SELECT ref_no_empf_molgen AS ref_id FROM dk_dnpm_therapieplan JOIN prozedur ON (prozedur.id = dk_dnpm_therapieplan.id) "
-                + " WHERE ref_no_empf_molgen IS NOT NULL AND dk_dnpm_therapieplan.id IN (SELECT id FROM dk_dnpm_therapieplan WHERE ref_dnpm_klinikanamnese = ?);",
-            kpaId,
-            kpaId,
-            kpaId,
-            kpaId)
-        .stream()
+    return cached("getIdsByKpaId", kpaId, () -> loadIdsByKpaId(kpaId));
+  }
+
+  private List<Integer> loadIdsByKpaId(int kpaId) {
+    return queryForRows(sql(IDS_BY_KPA_ID), kpaId, kpaId, kpaId, kpaId).stream()
         .map(ResultSet::from)
         .map(rs -> rs.getInteger("ref_id"))
         .filter(Objects::nonNull)
@@ -138,12 +189,12 @@ public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
    * @return The procedure id
    */
   public ResultSet getByEinsendenummer(String einsendenummer) {
-    var result =
-        this.jdbcTemplate.queryForList(
-            String.format(
-                "SELECT patient.patienten_id, %s.*, prozedur.* FROM %s JOIN prozedur ON (prozedur.id = %s.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND %s.einsendenummer = ?",
-                getTableName(), getTableName(), getTableName(), getTableName()),
-            einsendenummer);
+    return cached(
+        "getByEinsendenummer", einsendenummer, () -> loadByEinsendenummer(einsendenummer));
+  }
+
+  private ResultSet loadByEinsendenummer(String einsendenummer) {
+    var result = queryForRows(sql(BY_EINSENDENUMMER), einsendenummer);
 
     if (result.isEmpty()) {
       throw new DataAccessException("No record found for einsendenummer: " + einsendenummer);
@@ -154,11 +205,7 @@ public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
     var resultSet = ResultSet.from(result.get(0));
 
     if (resultSet.getRawData().containsKey("id")) {
-      var merkmale = getMerkmaleById(resultSet.getId());
-      if (merkmale.isEmpty()) {
-        return resultSet;
-      }
-      merkmale.forEach((key, value) -> resultSet.getRawData().put(key, value));
+      addMerkmale(resultSet, getMerkmaleByIds(List.of(resultSet.getId())));
     }
 
     return resultSet;
@@ -167,23 +214,56 @@ public class MolekulargenetikCatalogue extends AbstractDataCatalogue {
   public String getSampleConservationFromMgc(int molekulargenetikCatalogueId) {
 
     return this.jdbcTemplate.queryForObject(
-        "SELECT DISTINCT prop_materialfixierung.shortdesc "
-            + "FROM dk_molekulargenetik mg "
-            + "LEFT JOIN property_catalogue_version_entry AS prop_materialfixierung "
-            + "ON ( prop_materialfixierung.property_version_id = mg.materialfixierung_propcat_version "
-            + "AND prop_materialfixierung.code = mg.materialfixierung) "
-            + "WHERE mg.id = ? "
-            + "LIMIT 1",
-        String.class,
-        molekulargenetikCatalogueId);
+        sql(SAMPLE_CONSERVATION_BY_ID), String.class, molekulargenetikCatalogueId);
   }
 
+  /**
+   * Checks if procedure is available, unique and of type sequencing - "AnalyseMethoden" contains
+   * "S"
+   *
+   * @param id The procedure id
+   * @return true if the procedure is available, unique and of type sequencing
+   */
   public boolean isOfTypeSeqencing(int id) {
-    if (!isAvailable(id)) {
-      return false;
+    return isAvailable(id)
+        && cached(
+            "isOfTypeSeqencing", id, () -> getIdsOfTypeSequencing(List.of(id)).contains(id));
+  }
+
+  /**
+   * Get all existing procedure ids of the given ids that are of type sequencing using chunked
+   * set-based queries. Ids already checked within an open {@link CatalogueCache} will not be
+   * requested again. Unlike {@link #isOfTypeSeqencing(int)} this does not check if the procedure
+   * is unique.
+   *
+   * @param ids The procedure ids
+   * @return The existing procedure ids of type sequencing
+   */
+  public Set<Integer> getIdsOfTypeSequencing(Collection<Integer> ids) {
+    var result = new HashSet<Integer>();
+    var uncheckedIds = new ArrayList<Integer>();
+    for (var id : ids) {
+      var ofTypeSequencing = CatalogueCache.get(List.of(getClass(), "isOfTypeSeqencing", id));
+      if (Boolean.TRUE.equals(ofTypeSequencing)) {
+        result.add(id);
+      } else if (null == ofTypeSequencing) {
+        uncheckedIds.add(id);
+      }
     }
 
-    var analyseMethodenMerkmalliste = getById(id).getMerkmalList("AnalyseMethoden");
-    return analyseMethodenMerkmalliste != null && analyseMethodenMerkmalliste.contains("S");
+    for (var chunk : chunked(uncheckedIds)) {
+      var sequencingIds =
+          new HashSet<>(
+              labeled(
+                  "getIdsOfTypeSequencing",
+                  () ->
+                      this.jdbcTemplate.queryForList(
+                          sql(IDS_OF_TYPE_SEQUENCING, chunk.size()),
+                          Integer.class,
+                          chunk.toArray())));
+      result.addAll(sequencingIds);
+      chunk.forEach(id -> prefetched("isOfTypeSeqencing", id, sequencingIds.contains(id)));
+    }
+    return result;
   }
 }
@@ -22,6 +22,7 @@ package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.util.List;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.jdbc.core.JdbcTemplate;
 
@@ -35,8 +36,15 @@ public class PatientCatalogue implements DataCatalogue {
 
   private final JdbcTemplate jdbcTemplate;
 
+  private final CatalogueStatements statements;
+
   public PatientCatalogue(JdbcTemplate jdbcTemplate) {
     this.jdbcTemplate = jdbcTemplate;
+    this.statements =
+        CatalogueStatements.builder("patient")
+            .requires("patient", "id")
+            .statement(CatalogueStatements.BY_ID, "SELECT * FROM patient WHERE id = ?")
+            .build();
   }
 
   @NullMarked
@@ -44,6 +52,16 @@ public class PatientCatalogue implements DataCatalogue {
     return new PatientCatalogue(jdbcTemplate);
   }
 
+  /**
+   * Get registry of all statements used by this catalogue
+   *
+   * @return The statements
+   * @since 0.10
+   */
+  public CatalogueStatements getStatements() {
+    return statements;
+  }
+
   /**
    * Get patient result set by procedure id
    *
@@ -52,8 +70,17 @@ public class PatientCatalogue implements DataCatalogue {
    */
   @Override
   public ResultSet getById(int id) {
+    return CatalogueCache.load(
+        List.of(PatientCatalogue.class, "getById", id),
+        () ->
+            InstrumentedJdbcTemplate.labeled(
+                PatientCatalogue.class, "getById", () -> loadById(id)));
+  }
 
-    var result = this.jdbcTemplate.queryForList("SELECT * FROM patient WHERE id = ?", id);
+  private ResultSet loadById(int id) {
+    var result =
+        this.jdbcTemplate.query(
+            statements.get(CatalogueStatements.BY_ID).getSql(), new CompactRowMapper(), id);
 
     if (result.isEmpty()) {
       throw new DataAccessException("No patient record found for id: " + id);
@@ -0,0 +1,126 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import java.time.Duration;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A query executed by an {@link InstrumentedJdbcTemplate}
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class QueryEvent {
+
+  private final String source;
+  private final String statement;
+  @Nullable private final String sql;
+  private final int rows;
+  private final long durationNanos;
+  private final boolean failed;
+
+  QueryEvent(
+      final String source,
+      final String statement,
+      @Nullable final String sql,
+      final int rows,
+      final long durationNanos,
+      final boolean failed) {
+    this.source = source;
+    this.statement = statement;
+    this.sql = sql;
+    this.rows = rows;
+    this.durationNanos = durationNanos;
+    this.failed = failed;
+  }
+
+  /**
+   * Get the name of the class executing the query, e.g. the name of the data catalogue
+   *
+   * @return The simple class name
+   */
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * Get the name of the statement, e.g. the name of the requesting catalogue method
+   *
+   * @return The statement name
+   */
+  public String getStatement() {
+    return statement;
+  }
+
+  /**
+   * Get the name of the query combining source and statement, e.g. {@code
+   * EinzelempfehlungCatalogue.getAllByParentId}
+   *
+   * @return The query name
+   */
+  public String getName() {
+    return source + "." + statement;
+  }
+
+  /**
+   * Get the executed SQL
+   *
+   * @return The SQL or null if not available
+   */
+  @Nullable
+  public String getSql() {
+    return sql;
+  }
+
+  /**
+   * Get the number of fetched rows
+   *
+   * @return The number of rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Get the time spent executing the query and mapping all fetched rows
+   *
+   * @return The duration
+   */
+  public Duration getDuration() {
+    return Duration.ofNanos(durationNanos);
+  }
+
+  /**
+   * Checks if the query failed with an exception
+   *
+   * @return true if the query failed
+   */
+  public boolean isFailed() {
+    return failed;
+  }
+
+  long getDurationNanos() {
+    return durationNanos;
+  }
+}
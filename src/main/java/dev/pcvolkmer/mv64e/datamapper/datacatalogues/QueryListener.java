@@ -0,0 +1,42 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Listener to be notified about each query executed by an {@link InstrumentedJdbcTemplate}
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+@FunctionalInterface
+public interface QueryListener {
+
+  /**
+   * Called after a query has been executed. The listener is called on the thread executing the
+   * query, implementations must therefore be thread-safe and should return quickly.
+   *
+   * @param event The executed query
+   */
+  void onQuery(QueryEvent event);
+}
@@ -0,0 +1,243 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Statistics of all queries executed by an {@link InstrumentedJdbcTemplate} while recording for
+ * the current thread. Statistics are broken down by query name, e.g. {@code
+ * KpaCatalogue.getById} and {@code KpaCatalogue.getMerkmaleByIds}. Recorded statistics remain
+ * available after the recording has been closed.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * try (var statistics = QueryStatistics.record()) {
+ *   // All queries within this block are recorded
+ * }
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class QueryStatistics implements QueryListener, AutoCloseable {
+
+  private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, Entry> entries;
+  @Nullable private final QueryStatistics previous;
+
+  private QueryStatistics(
+      final Map<String, Entry> entries, @Nullable final QueryStatistics previous) {
+    this.entries = entries;
+    this.previous = previous;
+  }
+
+  /**
+   * Starts recording queries for the current thread. A recording already started for the current
+   * thread will not record queries until the returned recording has been closed.
+   *
+   * @return The recording
+   */
+  public static QueryStatistics record() {
+    var statistics = new QueryStatistics(new ConcurrentHashMap<>(), CURRENT.get());
+    CURRENT.set(statistics);
+    return statistics;
+  }
+
+  /**
+   * Get the recording for the current thread
+   *
+   * @return The recording or null if no queries are recorded
+   */
+  @Nullable
+  public static QueryStatistics current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Records queries of the current thread into this recording, e.g. to record queries of worker
+   * threads. Closing the returned instance stops recording for the current thread.
+   *
+   * @return The attached recording
+   */
+  public QueryStatistics attach() {
+    var attached = new QueryStatistics(entries, CURRENT.get());
+    CURRENT.set(attached);
+    return attached;
+  }
+
+  @Override
+  public void onQuery(final QueryEvent event) {
+    entries.computeIfAbsent(event.getName(), Entry::new).add(event);
+  }
+
+  /**
+   * Get the number of executed statements
+   *
+   * @return The number of statements
+   */
+  public long getStatementCount() {
+    return entries.values().stream().mapToLong(Entry::getStatementCount).sum();
+  }
+
+  /**
+   * Get the number of fetched rows
+   *
+   * @return The number of rows
+   */
+  public long getRowCount() {
+    return entries.values().stream().mapToLong(Entry::getRowCount).sum();
+  }
+
+  /**
+   * Get the time spent executing queries. Queries executed concurrently are summed up.
+   *
+   * @return The duration
+   */
+  public Duration getDuration() {
+    return Duration.ofNanos(entries.values().stream().mapToLong(entry -> entry.nanos.sum()).sum());
+  }
+
+  /**
+   * Get statistics of each query name ordered by time spent, longest first
+   *
+   * @return The statistics of each query name
+   */
+  public List<Entry> getEntries() {
+    return entries.values().stream()
+        .sorted(Comparator.comparingLong((Entry entry) -> entry.nanos.sum()).reversed())
+        .collect(Collectors.toList());
+  }
+
+  /** Stops recording queries for the current thread. Recorded statistics remain available. */
+  @Override
+  public void close() {
+    if (null == previous) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  /**
+   * Get a summary of all recorded queries, one line for each query name
+   *
+   * @return The summary
+   */
+  @Override
+  public String toString() {
+    var result =
+        new StringBuilder(
+            String.format(
+                "%d statements, %d rows, %d ms",
+                getStatementCount(), getRowCount(), getDuration().toMillis()));
+    for (var entry : getEntries()) {
+      result.append(System.lineSeparator()).append("  ").append(entry);
+    }
+    return result.toString();
+  }
+
+  /** Statistics of one query name */
+  public static final class Entry {
+
+    private final String name;
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private Entry(final String name) {
+      this.name = name;
+    }
+
+    private void add(final QueryEvent event) {
+      statements.increment();
+      rows.add(event.getRows());
+      nanos.add(event.getDurationNanos());
+      if (event.isFailed()) {
+        failures.increment();
+      }
+    }
+
+    /**
+     * Get the query name
+     *
+     * @return The query name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Get the number of executed statements
+     *
+     * @return The number of statements
+     */
+    public long getStatementCount() {
+      return statements.sum();
+    }
+
+    /**
+     * Get the number of fetched rows
+     *
+     * @return The number of rows
+     */
+    public long getRowCount() {
+      return rows.sum();
+    }
+
+    /**
+     * Get the number of failed statements
+     *
+     * @return The number of failed statements
+     */
+    public long getFailureCount() {
+      return failures.sum();
+    }
+
+    /**
+     * Get the time spent executing statements
+     *
+     * @return The duration
+     */
+    public Duration getDuration() {
+      return Duration.ofNanos(nanos.sum());
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "%s: %d statements, %d rows, %d ms",
+          name, getStatementCount(), getRowCount(), getDuration().toMillis());
+    }
+  }
+}
@@ -21,7 +21,11 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
@@ -35,6 +39,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
  */
 public class TherapieplanCatalogue extends AbstractDataCatalogue {
 
+  static final String IDS_BY_KPA_ID = "idsByKpaId";
+  static final String IDS_BY_KPA_IDS = "idsByKpaIds";
+
   private TherapieplanCatalogue(JdbcTemplate jdbcTemplate) {
     super(jdbcTemplate);
   }
@@ -44,6 +51,24 @@ public class TherapieplanCatalogue extends AbstractDataCatalogue {
     return "dk_dnpm_therapieplan";
   }
 
+  @Override
+  CatalogueStatements.Builder registerStatements(CatalogueStatements.Builder builder) {
+    var tableName = builder.getTableName();
+    return super.registerStatements(builder)
+        .requires(tableName, "ref_dnpm_klinikanamnese")
+        .statement(
+            IDS_BY_KPA_ID,
+            String.format(
+                "SELECT DISTINCT prozedur.id AS procedure_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) WHERE geloescht = 0 AND ref_dnpm_klinikanamnese = ?",
+                tableName, tableName))
+        .inListStatement(
+            IDS_BY_KPA_IDS,
+            String.format(
+                "SELECT DISTINCT prozedur.id AS procedure_id, ref_dnpm_klinikanamnese FROM %s JOIN prozedur ON (prozedur.id = %s.id) WHERE geloescht = 0 AND ref_dnpm_klinikanamnese IN (",
+                tableName, tableName),
+            ")");
+  }
+
   @NullMarked
   public static TherapieplanCatalogue create(JdbcTemplate jdbcTemplate) {
     return new TherapieplanCatalogue(jdbcTemplate);
@@ -56,17 +81,46 @@ public class TherapieplanCatalogue extends AbstractDataCatalogue {
    * @return The procedure ids
    */
   public List<Integer> getByKpaId(int kpaId) {
-    return this.jdbcTemplate
-        .queryForList(
-            String.format(
-                "SELECT DISTINCT prozedur.id AS procedure_id FROM %s JOIN prozedur ON (prozedur.id = %s.id) WHERE geloescht = 0 AND ref_dnpm_klinikanamnese = ?",
-                getTableName(), getTableName()),
-            kpaId)
-        .stream()
+    return cached("getByKpaId", kpaId, () -> loadByKpaId(kpaId));
+  }
+
+  private List<Integer> loadByKpaId(int kpaId) {
+    return queryForRows(sql(IDS_BY_KPA_ID), kpaId).stream()
         .map(ResultSet::from)
         .map(rs -> rs.getInteger("procedure_id"))
         .distinct()
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
+
+  /**
+   * Loads procedure IDs related to all given Klinik/Anamnese procedure ids using chunked set-based
+   * queries and puts them into the open {@link CatalogueCache}. Subsequent requests by
+   * Klinik/Anamnese procedure id will not query the database.
+   *
+   * @param kpaIds The Klinik/Anamnese procedure ids
+   * @return The procedure ids grouped by Klinik/Anamnese procedure id
+   * @since 0.10
+   */
+  public Map<Integer, List<Integer>> prefetchByKpaIds(Collection<Integer> kpaIds) {
+    var result = new HashMap<Integer, List<Integer>>();
+    kpaIds.forEach(id -> result.put(id, new ArrayList<>()));
+    for (var chunk : chunked(kpaIds)) {
+      labeled(
+              "prefetchByKpaIds",
+              () -> queryForRows(sql(IDS_BY_KPA_IDS, chunk.size()), chunk.toArray()))
+          .stream()
+          .map(ResultSet::from)
+          .forEach(
+              resultSet -> {
+                var kpaId = resultSet.getInteger("ref_dnpm_klinikanamnese");
+                var id = resultSet.getInteger("procedure_id");
+                if (null != kpaId && null != id) {
+                  result.computeIfAbsent(kpaId, key -> new ArrayList<>()).add(id);
+                }
+              });
+    }
+    result.forEach((id, ids) -> prefetched("getByKpaId", id, ids));
+    return result;
+  }
 }
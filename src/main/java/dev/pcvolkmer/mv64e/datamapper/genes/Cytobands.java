@@ -0,0 +1,165 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import dev.pcvolkmer.mv64e.mtb.Chromosome;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Parser of chromosomes in cytogenetic locations like "7q34", "Xp22.33" or "chr7". Parsing does not
+ * use regular expressions and does not allocate intermediate strings.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public final class Cytobands {
+
+  private static final Chromosome[] CHROMOSOMES = new Chromosome[25];
+
+  static {
+    for (var chromosome : Chromosome.values()) {
+      var code = code(chromosome);
+      if (code > 0) {
+        CHROMOSOMES[code] = chromosome;
+      }
+    }
+  }
+
+  private Cytobands() {
+    // Empty
+  }
+
+  /**
+   * Get the chromosome of a cytogenetic location, e.g. "7q34", "chr7" or "X". Leading whitespaces
+   * and the prefix "chr" (ignoring case) are accepted.
+   *
+   * @param value The location
+   * @return The chromosome or an empty Optional if the value does not start with a chromosome
+   */
+  public static Optional<Chromosome> parseChromosome(@Nullable final CharSequence value) {
+    if (null == value) {
+      return Optional.empty();
+    }
+    var start = 0;
+    while (start < value.length() && Character.isWhitespace(value.charAt(start))) {
+      start++;
+    }
+    return Optional.ofNullable(byCode(parse(value, start, value.length())));
+  }
+
+  /**
+   * Get all chromosomes of space separated cytogenetic locations as used by HGNC, e.g.
+   * "Xp22.33 and Yp11.2". Parts not starting with a chromosome are ignored.
+   *
+   * @param value The locations
+   * @return The chromosomes in order of appearance
+   */
+  public static List<Chromosome> parseChromosomes(final String value) {
+    List<Chromosome> result = null;
+    var start = 0;
+    while (start < value.length()) {
+      var end = value.indexOf(' ', start);
+      if (end < 0) {
+        end = value.length();
+      }
+      var chromosome = byCode(parse(value, start, end));
+      if (null != chromosome) {
+        if (null == result) {
+          result = new ArrayList<>(2);
+        }
+        result.add(chromosome);
+      }
+      start = end + 1;
+    }
+    return null == result ? List.of() : List.copyOf(result);
+  }
+
+  /**
+   * Get the numeric code of a chromosome: 1-22 for autosomes, 23 for X and 24 for Y
+   *
+   * @param chromosome The chromosome
+   * @return The code or 0 if the chromosome has no code
+   */
+  static int code(final Chromosome chromosome) {
+    var value = chromosome.toValue();
+    return value.startsWith("chr") ? parse(value, 3, value.length()) : 0;
+  }
+
+  /**
+   * Get the chromosome using its numeric code
+   *
+   * @param code The code
+   * @return The chromosome or null if there is no chromosome with this code
+   */
+  @Nullable
+  static Chromosome byCode(final int code) {
+    return code > 0 && code < CHROMOSOMES.length ? CHROMOSOMES[code] : null;
+  }
+
+  private static int parse(final CharSequence value, final int start, final int end) {
+    var position = start;
+    if (end - position > 3 && startsWithChr(value, position)) {
+      position += 3;
+    }
+    if (position >= end) {
+      return 0;
+    }
+
+    int code;
+    var first = value.charAt(position);
+    if (first == 'X' || first == 'x') {
+      code = 23;
+      position++;
+    } else if (first == 'Y' || first == 'y') {
+      code = 24;
+      position++;
+    } else {
+      code = 0;
+      var digits = 0;
+      while (position < end && value.charAt(position) >= '0' && value.charAt(position) <= '9') {
+        code = code * 10 + (value.charAt(position) - '0');
+        position++;
+        if (++digits > 2) {
+          return 0;
+        }
+      }
+      if (code < 1 || code > 22) {
+        return 0;
+      }
+    }
+
+    if (position == end) {
+      return code;
+    }
+    // Chromosome must be followed by the arm, the centromere ("cen") or any other separator
+    var next = value.charAt(position);
+    return Character.isLetterOrDigit(next) && next != 'p' && next != 'q' && next != 'c' ? 0 : code;
+  }
+
+  private static boolean startsWithChr(final CharSequence value, final int position) {
+    return Character.toLowerCase(value.charAt(position)) == 'c'
+        && Character.toLowerCase(value.charAt(position + 1)) == 'h'
+        && Character.toLowerCase(value.charAt(position + 2)) == 'r';
+  }
+}
@@ -21,12 +21,10 @@
 package dev.pcvolkmer.mv64e.datamapper.genes;
 
 import dev.pcvolkmer.mv64e.mtb.Chromosome;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Represents a gene
@@ -48,12 +46,57 @@ public class Gene {
 
   private final String chromosome;
 
+  private final List<String> previousSymbols;
+
+  private final List<String> aliasSymbols;
+
+  private final List<Chromosome> chromosomes;
+
+  @Nullable private final Chromosome singleChromosome;
+
   Gene(String hgncId, String ensembleId, String symbol, String name, String chromosome) {
+    this(hgncId, ensembleId, symbol, name, chromosome, List.of(), List.of(), null);
+  }
+
+  /**
+   * Creates a gene using already resolved chromosomes, e.g. read from a gene snapshot
+   *
+   * @since 0.10
+   */
+  Gene(
+      String hgncId,
+      String ensembleId,
+      String symbol,
+      String name,
+      String chromosome,
+      @Nullable List<Chromosome> chromosomes) {
+    this(hgncId, ensembleId, symbol, name, chromosome, List.of(), List.of(), chromosomes);
+  }
+
+  /**
+   * Creates a gene with previous and alias symbols, e.g. read from an HGNC file
+   *
+   * @since 0.10
+   */
+  Gene(
+      String hgncId,
+      String ensembleId,
+      String symbol,
+      String name,
+      String chromosome,
+      List<String> previousSymbols,
+      List<String> aliasSymbols,
+      @Nullable List<Chromosome> chromosomes) {
     this.hgncId = hgncId;
     this.ensembleId = ensembleId;
     this.symbol = symbol;
     this.name = name;
     this.chromosome = chromosome;
+    this.previousSymbols = List.copyOf(previousSymbols);
+    this.aliasSymbols = List.copyOf(aliasSymbols);
+    this.chromosomes =
+        null != chromosomes ? List.copyOf(chromosomes) : Cytobands.parseChromosomes(chromosome);
+    this.singleChromosome = this.chromosomes.size() == 1 ? this.chromosomes.get(0) : null;
   }
 
   /**
@@ -92,6 +135,26 @@ public class Gene {
     return name;
   }
 
+  /**
+   * Returns the previous symbols of this gene
+   *
+   * @return the previous symbols
+   * @since 0.10
+   */
+  public List<String> getPreviousSymbols() {
+    return previousSymbols;
+  }
+
+  /**
+   * Returns the alias symbols of this gene
+   *
+   * @return the alias symbols
+   * @since 0.10
+   */
+  public List<String> getAliasSymbols() {
+    return aliasSymbols;
+  }
+
   /**
    * Returns the chromosome(s) the gene is located at
    *
@@ -107,22 +170,7 @@ public class Gene {
    * @return a list of chromosomes
    */
   public List<Chromosome> getChromosomesInPropertyForm() {
-    return Arrays.stream(this.chromosome.split(" "))
-        .map(
-            value -> {
-              try {
-                var pattern = Pattern.compile("^(\\d+|X|Y)");
-                var matcher = pattern.matcher(value);
-                if (matcher.find()) {
-                  return Chromosome.forValue(String.format("chr%s", matcher.group(0)));
-                }
-              } catch (Exception e) {
-                // Nop
-              }
-              return null;
-            })
-        .filter(Objects::nonNull)
-        .collect(Collectors.toList());
+    return this.chromosomes;
   }
 
   /**
@@ -131,13 +179,7 @@ public class Gene {
    * @return an <code>Optional</code> containing the chromosome
    */
   public Optional<Chromosome> getSingleChromosomeInPropertyForm() {
-    var fixedChromosomes = this.getChromosomesInPropertyForm();
-
-    if (fixedChromosomes.size() == 1) {
-      return Optional.of(fixedChromosomes.get(0));
-    }
-
-    return Optional.empty();
+    return Optional.ofNullable(this.singleChromosome);
   }
 
   @Override
@@ -149,11 +191,14 @@ public class Gene {
         && Objects.equals(ensembleId, gene.ensembleId)
         && Objects.equals(symbol, gene.symbol)
         && Objects.equals(name, gene.name)
-        && Objects.equals(chromosome, gene.chromosome);
+        && Objects.equals(chromosome, gene.chromosome)
+        && Objects.equals(previousSymbols, gene.previousSymbols)
+        && Objects.equals(aliasSymbols, gene.aliasSymbols);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(hgncId, ensembleId, symbol, name, chromosome);
+    return Objects.hash(
+        hgncId, ensembleId, symbol, name, chromosome, previousSymbols, aliasSymbols);
   }
 }
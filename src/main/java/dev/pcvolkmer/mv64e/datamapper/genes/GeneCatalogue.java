@@ -0,0 +1,107 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Catalogue of genes to look up genes by symbol or HGNC ID ignoring the case of the symbol or HGNC
+ * ID. The catalogue used by {@link GeneUtils} can be replaced at runtime using {@link
+ * GeneUtils#setCatalogue(GeneCatalogue)}.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * // Use a current HGNC file including previous and alias symbols
+ * GeneUtils.setCatalogue(GeneCatalogue.fromHgncFile(Path.of("hgnc.tsv")));
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public interface GeneCatalogue {
+
+  /**
+   * Get the gene with the given symbol. If there is no gene with the given approved symbol, the
+   * gene with the given previous symbol or alias symbol will be used, if it is unique.
+   *
+   * @param symbol The gene symbol
+   * @return The gene or an empty Optional if there is no gene with the given symbol
+   */
+  Optional<Gene> findBySymbol(String symbol);
+
+  /**
+   * Get the gene with the given HGNC ID
+   *
+   * @param hgncId The HGNC ID
+   * @return The gene or an empty Optional if there is no gene with the given HGNC ID
+   */
+  Optional<Gene> findByHgncId(String hgncId);
+
+  /**
+   * Get the number of known genes
+   *
+   * @return The number of genes
+   */
+  int size();
+
+  /**
+   * Get the catalogue of genes bundled with this library. The bundled genes will be loaded once on
+   * first access.
+   *
+   * @return The bundled gene catalogue
+   */
+  static GeneCatalogue bundled() {
+    return GeneUtils.bundled();
+  }
+
+  /**
+   * Create a catalogue of genes using an HGNC file. The tab separated file must contain the
+   * columns "HGNC ID", "Approved symbol", "Approved name" and "Chromosome". The columns "Ensembl
+   * ID(supplied by Ensembl)", "Previous symbols" and "Alias symbols" are optional. Multiple
+   * previous or alias symbols are separated by comma.
+   *
+   * @param path The path of the HGNC file
+   * @return The gene catalogue
+   * @throws IOException If the file cannot be read
+   */
+  static GeneCatalogue fromHgncFile(final Path path) throws IOException {
+    try (var inputStream = Files.newInputStream(path)) {
+      return fromHgncFile(inputStream);
+    }
+  }
+
+  /**
+   * Create a catalogue of genes using an HGNC file
+   *
+   * @param inputStream The input stream providing the HGNC file
+   * @return The gene catalogue
+   * @throws IOException If the file cannot be read
+   * @see #fromHgncFile(Path)
+   */
+  static GeneCatalogue fromHgncFile(final InputStream inputStream) throws IOException {
+    return GeneIndex.of(GeneUtils.readCsv(inputStream));
+  }
+}
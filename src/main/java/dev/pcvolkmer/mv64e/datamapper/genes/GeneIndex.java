@@ -0,0 +1,122 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable index of genes by symbol and HGNC ID. Lookups ignore the case of the given symbol or
+ * HGNC ID. If multiple genes use the same approved symbol or HGNC ID, the first gene will be used.
+ * Previous symbols and alias symbols are only resolved if they refer to exactly one gene.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+final class GeneIndex implements GeneCatalogue {
+
+  private final Map<String, Gene> bySymbol;
+  private final Map<String, Gene> byPreviousSymbol;
+  private final Map<String, Gene> byAliasSymbol;
+  private final Map<String, Gene> byHgncId;
+
+  private GeneIndex(
+      final Map<String, Gene> bySymbol,
+      final Map<String, Gene> byPreviousSymbol,
+      final Map<String, Gene> byAliasSymbol,
+      final Map<String, Gene> byHgncId) {
+    this.bySymbol = bySymbol;
+    this.byPreviousSymbol = byPreviousSymbol;
+    this.byAliasSymbol = byAliasSymbol;
+    this.byHgncId = byHgncId;
+  }
+
+  /**
+   * Create an index of the given genes
+   *
+   * @param genes The genes to be indexed
+   * @return The index
+   */
+  static GeneIndex of(final Collection<Gene> genes) {
+    var bySymbol = new HashMap<String, Gene>(genes.size() * 4 / 3 + 1);
+    var byHgncId = new HashMap<String, Gene>(genes.size() * 4 / 3 + 1);
+    for (var gene : genes) {
+      bySymbol.putIfAbsent(key(gene.getSymbol()), gene);
+      byHgncId.putIfAbsent(key(gene.getHgncId()), gene);
+    }
+    return new GeneIndex(
+        Map.copyOf(bySymbol),
+        unique(genes, Gene::getPreviousSymbols),
+        unique(genes, Gene::getAliasSymbols),
+        Map.copyOf(byHgncId));
+  }
+
+  @Override
+  public Optional<Gene> findBySymbol(final String symbol) {
+    var key = key(symbol);
+    var gene = bySymbol.get(key);
+    if (null == gene) {
+      gene = byPreviousSymbol.get(key);
+    }
+    if (null == gene) {
+      gene = byAliasSymbol.get(key);
+    }
+    return Optional.ofNullable(gene);
+  }
+
+  @Override
+  public Optional<Gene> findByHgncId(final String hgncId) {
+    return Optional.ofNullable(byHgncId.get(key(hgncId)));
+  }
+
+  @Override
+  public int size() {
+    return byHgncId.size();
+  }
+
+  /** Index symbols referring to exactly one gene */
+  private static Map<String, Gene> unique(
+      final Collection<Gene> genes, final Function<Gene, List<String>> symbols) {
+    var result = new HashMap<String, Gene>();
+    var ambiguous = new HashSet<String>();
+    for (var gene : genes) {
+      for (var symbol : symbols.apply(gene)) {
+        var key = key(symbol);
+        var existing = result.putIfAbsent(key, gene);
+        if (null != existing && existing != gene) {
+          ambiguous.add(key);
+        }
+      }
+    }
+    result.keySet().removeAll(ambiguous);
+    return Map.copyOf(result);
+  }
+
+  private static String key(final String value) {
+    return value.toUpperCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of gene lookups using {@link GeneUtils}. Symbols and HGNC IDs that could not be
+ * resolved are counted separately to find values that never resolve. At most {@value
+ * #MAX_TRACKED_MISSES} distinct values are tracked.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public final class GeneLookupStatistics {
+
+  /** Maximum number of distinct values tracked as misses */
+  public static final int MAX_TRACKED_MISSES = 1000;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final Map<String, LongAdder> missedValues = new ConcurrentHashMap<>();
+
+  GeneLookupStatistics() {}
+
+  void hit() {
+    hits.increment();
+  }
+
+  void miss(final String value) {
+    misses.increment();
+    var counter = missedValues.get(value);
+    if (null == counter && missedValues.size() < MAX_TRACKED_MISSES) {
+      counter = missedValues.computeIfAbsent(value, key -> new LongAdder());
+    }
+    if (null != counter) {
+      counter.increment();
+    }
+  }
+
+  /**
+   * Get the number of lookups resolving a gene
+   *
+   * @return The number of hits
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the number of lookups not resolving a gene
+   *
+   * @return The number of misses
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Get the symbols and HGNC IDs that could not be resolved with the number of lookups
+   *
+   * @return The missed symbols and HGNC IDs ordered by value
+   */
+  public Map<String, Long> getMissedValues() {
+    var result = new TreeMap<String, Long>();
+    missedValues.forEach((value, counter) -> result.put(value, counter.sum()));
+    return result;
+  }
+
+  /** Resets all counters */
+  public void reset() {
+    hits.reset();
+    misses.reset();
+    missedValues.clear();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d hits, %d misses", getHits(), getMisses());
+  }
+}
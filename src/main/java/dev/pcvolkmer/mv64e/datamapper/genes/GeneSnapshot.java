@@ -0,0 +1,201 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import dev.pcvolkmer.mv64e.mtb.Chromosome;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Binary snapshot of the list of genes generated from {@code genes.csv} at build time.
+ *
+ * <p>Genes are not materialized up front but decoded on first lookup. The snapshot uses big endian
+ * integers and the following layout:
+ *
+ * <pre>
+ * int     magic number "GENE"
+ * int     format version
+ * int     number of genes
+ * int     size of the blob table in bytes
+ * byte[]  blob table: entries of an unsigned short length followed by the content.
+ *         Strings are UTF-8 encoded, chromosomes use one byte per chromosome (1-22, 23 = X, 24 = Y)
+ * int[6]  for each gene: blob offsets of HGNC ID, Ensembl ID, symbol, name, chromosome and the
+ *         resolved chromosomes
+ * int[2]  for each gene: blob offset of the upper-cased symbol and gene number, sorted by symbol
+ * int[2]  for each gene: blob offset of the upper-cased HGNC ID and gene number, sorted by HGNC ID
+ * </pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+final class GeneSnapshot implements GeneCatalogue {
+
+  /** Name of the snapshot resource */
+  static final String RESOURCE = "genes.bin";
+
+  static final int MAGIC = 0x47454E45;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 16;
+  static final int RECORD_SIZE = 24;
+  static final int INDEX_ENTRY_SIZE = 8;
+
+  private final byte[] data;
+  private final ByteBuffer buffer;
+  private final int count;
+  private final int recordsStart;
+  private final int symbolIndexStart;
+  private final int hgncIdIndexStart;
+
+  // Decoded genes. Genes are immutable, so concurrent decoding of the same gene is harmless.
+  private final Gene[] genes;
+
+  private GeneSnapshot(final byte[] data) throws IOException {
+    this.data = data;
+    this.buffer = ByteBuffer.wrap(data);
+    if (data.length < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a gene snapshot");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException("Unsupported gene snapshot version " + buffer.getInt(4));
+    }
+    this.count = buffer.getInt(8);
+    this.recordsStart = HEADER_SIZE + buffer.getInt(12);
+    this.symbolIndexStart = recordsStart + count * RECORD_SIZE;
+    this.hgncIdIndexStart = symbolIndexStart + count * INDEX_ENTRY_SIZE;
+    if (data.length != hgncIdIndexStart + count * INDEX_ENTRY_SIZE) {
+      throw new IOException("Incomplete gene snapshot");
+    }
+    this.genes = new Gene[count];
+  }
+
+  /**
+   * Read a gene snapshot
+   *
+   * @param inputStream The input stream providing the snapshot
+   * @return The gene snapshot
+   * @throws IOException If the snapshot cannot be read or is invalid
+   */
+  static GeneSnapshot read(final InputStream inputStream) throws IOException {
+    return new GeneSnapshot(inputStream.readAllBytes());
+  }
+
+  @Override
+  public Optional<Gene> findBySymbol(final String symbol) {
+    return find(symbolIndexStart, symbol);
+  }
+
+  @Override
+  public Optional<Gene> findByHgncId(final String hgncId) {
+    return find(hgncIdIndexStart, hgncId);
+  }
+
+  @Override
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Get the gene with the given number
+   *
+   * @param number The number of the gene in order of the list of genes
+   * @return The gene
+   */
+  Gene get(final int number) {
+    var gene = genes[number];
+    if (null == gene) {
+      var record = recordsStart + number * RECORD_SIZE;
+      gene =
+          new Gene(
+              string(buffer.getInt(record)),
+              string(buffer.getInt(record + 4)),
+              string(buffer.getInt(record + 8)),
+              string(buffer.getInt(record + 12)),
+              string(buffer.getInt(record + 16)),
+              chromosomes(buffer.getInt(record + 20)));
+      genes[number] = gene;
+    }
+    return gene;
+  }
+
+  /**
+   * Get the key used to index symbols and HGNC IDs
+   *
+   * @param value The symbol or HGNC ID
+   * @return The UTF-8 encoded key
+   */
+  static byte[] key(final String value) {
+    return value.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private Optional<Gene> find(final int indexStart, final String value) {
+    var key = key(value);
+    var low = 0;
+    var high = count - 1;
+    var found = -1;
+    while (low <= high) {
+      var mid = (low + high) >>> 1;
+      var comparison = compare(buffer.getInt(indexStart + mid * INDEX_ENTRY_SIZE), key);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else {
+        // Continue left of an equal key to use the first gene with this key
+        if (comparison == 0) {
+          found = mid;
+        }
+        high = mid - 1;
+      }
+    }
+    if (found < 0) {
+      return Optional.empty();
+    }
+    return Optional.of(get(buffer.getInt(indexStart + found * INDEX_ENTRY_SIZE + 4)));
+  }
+
+  private int compare(final int blob, final byte[] key) {
+    var start = HEADER_SIZE + blob + 2;
+    var length = Short.toUnsignedInt(buffer.getShort(HEADER_SIZE + blob));
+    return Arrays.compareUnsigned(data, start, start + length, key, 0, key.length);
+  }
+
+  private String string(final int blob) {
+    var length = Short.toUnsignedInt(buffer.getShort(HEADER_SIZE + blob));
+    return new String(data, HEADER_SIZE + blob + 2, length, StandardCharsets.UTF_8);
+  }
+
+  private List<Chromosome> chromosomes(final int blob) {
+    var length = Short.toUnsignedInt(buffer.getShort(HEADER_SIZE + blob));
+    var result = new ArrayList<Chromosome>(length);
+    for (var i = 0; i < length; i++) {
+      var chromosome = Cytobands.byCode(data[HEADER_SIZE + blob + 2 + i]);
+      if (null != chromosome) {
+        result.add(chromosome);
+      }
+    }
+    return List.copyOf(result);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Writes a {@link GeneSnapshot} of a list of genes. This is used at build time to compile {@code
+ * genes.csv} into the snapshot resource.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+final class GeneSnapshotWriter {
+
+  private final ByteArrayOutputStream blobs = new ByteArrayOutputStream();
+  private final Map<ByteBuffer, Integer> offsets = new HashMap<>();
+
+  private GeneSnapshotWriter() {}
+
+  /**
+   * Compiles a list of genes into a gene snapshot
+   *
+   * @param args The path of the list of genes (CSV) and the path of the snapshot to be written
+   * @throws IOException If the list of genes cannot be read or the snapshot cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("Usage: GeneSnapshotWriter <genes.csv> <genes.bin>");
+    }
+    List<Gene> genes;
+    try (var inputStream = Files.newInputStream(Path.of(args[0]))) {
+      genes = GeneUtils.readCsv(inputStream);
+    }
+    var output = Path.of(args[1]);
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    try (var outputStream = Files.newOutputStream(output)) {
+      write(genes, outputStream);
+    }
+  }
+
+  /**
+   * Writes a gene snapshot of the given genes
+   *
+   * @param genes The genes
+   * @param outputStream The output stream to write the snapshot to
+   * @throws IOException If the snapshot cannot be written
+   */
+  static void write(final List<Gene> genes, final OutputStream outputStream) throws IOException {
+    var writer = new GeneSnapshotWriter();
+
+    var records = new int[genes.size() * 6];
+    for (var i = 0; i < genes.size(); i++) {
+      var gene = genes.get(i);
+      records[i * 6] = writer.string(gene.getHgncId());
+      records[i * 6 + 1] = writer.string(gene.getEnsemblId());
+      records[i * 6 + 2] = writer.string(gene.getSymbol());
+      records[i * 6 + 3] = writer.string(gene.getName());
+      records[i * 6 + 4] = writer.string(gene.getChromosome());
+      records[i * 6 + 5] = writer.chromosomes(gene);
+    }
+    var symbolIndex = writer.index(genes, Gene::getSymbol);
+    var hgncIdIndex = writer.index(genes, Gene::getHgncId);
+
+    var out = new DataOutputStream(outputStream);
+    out.writeInt(GeneSnapshot.MAGIC);
+    out.writeInt(GeneSnapshot.VERSION);
+    out.writeInt(genes.size());
+    out.writeInt(writer.blobs.size());
+    writer.blobs.writeTo(out);
+    for (var value : records) {
+      out.writeInt(value);
+    }
+    for (var value : symbolIndex) {
+      out.writeInt(value);
+    }
+    for (var value : hgncIdIndex) {
+      out.writeInt(value);
+    }
+    out.flush();
+  }
+
+  private int[] index(final List<Gene> genes, final Function<Gene, String> value) {
+    var keys = new ArrayList<byte[]>(genes.size());
+    var numbers = new ArrayList<Integer>(genes.size());
+    for (var i = 0; i < genes.size(); i++) {
+      keys.add(GeneSnapshot.key(value.apply(genes.get(i))));
+      numbers.add(i);
+    }
+    // Stable sort keeps the order of genes with equal keys
+    numbers.sort((a, b) -> Arrays.compareUnsigned(keys.get(a), keys.get(b)));
+
+    var result = new int[genes.size() * 2];
+    for (var i = 0; i < numbers.size(); i++) {
+      result[i * 2] = blob(keys.get(numbers.get(i)));
+      result[i * 2 + 1] = numbers.get(i);
+    }
+    return result;
+  }
+
+  private int string(final String value) {
+    return blob(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private int chromosomes(final Gene gene) {
+    var chromosomes = gene.getChromosomesInPropertyForm();
+    var codes = new byte[chromosomes.size()];
+    for (var i = 0; i < codes.length; i++) {
+      codes[i] = (byte) Cytobands.code(chromosomes.get(i));
+    }
+    return blob(codes);
+  }
+
+  private int blob(final byte[] content) {
+    if (content.length > 0xFFFF) {
+      throw new IllegalArgumentException("Value too long for gene snapshot");
+    }
+    return offsets.computeIfAbsent(
+        ByteBuffer.wrap(content),
+        key -> {
+          var offset = blobs.size();
+          blobs.write(content.length >>> 8);
+          blobs.write(content.length);
+          blobs.write(content, 0, content.length);
+          return offset;
+        });
+  }
+}
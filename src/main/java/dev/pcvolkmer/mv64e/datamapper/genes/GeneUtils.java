@@ -22,12 +22,18 @@ package dev.pcvolkmer.mv64e.datamapper.genes;
 
 import dev.pcvolkmer.mv64e.mtb.Coding;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.commons.csv.CSVFormat;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,25 +47,79 @@ public class GeneUtils {
 
   private static final Logger logger = LoggerFactory.getLogger(GeneUtils.class);
 
+  private static final Pattern WHITESPACE = Pattern.compile("\\s");
+
+  private static final String ENSEMBL_ID = "Ensembl ID(supplied by Ensembl)";
+  private static final String PREVIOUS_SYMBOLS = "Previous symbols";
+  private static final String ALIAS_SYMBOLS = "Alias symbols";
+
+  private static final GeneLookupStatistics STATISTICS = new GeneLookupStatistics();
+
+  @Nullable private static volatile GeneCatalogue catalogue;
+
   private GeneUtils() {
     // Empty
   }
 
   public static Optional<Gene> findByHgncId(String hgncId) {
-    return genes().stream().filter(gene -> gene.getHgncId().equalsIgnoreCase(hgncId)).findFirst();
+    final var result = getCatalogue().findByHgncId(hgncId);
+    count(hgncId, result);
+    return result;
   }
 
   public static Optional<Gene> findBySymbol(String symbol) {
-    final var result =
-        genes().stream().filter(gene -> gene.getSymbol().equalsIgnoreCase(symbol)).findFirst();
-    if (result.isPresent()) {
-      return result;
-    }
-    final var cleanedSymbol = symbol.trim().replaceAll("\\s", "");
-    if (cleanedSymbol.equals(symbol)) {
-      return Optional.empty();
+    final var currentCatalogue = getCatalogue();
+    var result = currentCatalogue.findBySymbol(symbol);
+    if (result.isEmpty()) {
+      final var cleanedSymbol = WHITESPACE.matcher(symbol.trim()).replaceAll("");
+      if (!cleanedSymbol.equals(symbol)) {
+        result = currentCatalogue.findBySymbol(cleanedSymbol);
+      }
     }
-    return findBySymbol(cleanedSymbol);
+    count(symbol, result);
+    return result;
+  }
+
+  /**
+   * Get the gene catalogue currently used for lookups
+   *
+   * @return The current gene catalogue
+   * @since 0.10
+   */
+  public static GeneCatalogue getCatalogue() {
+    final var current = catalogue;
+    return null != current ? current : bundled();
+  }
+
+  /**
+   * Replaces the gene catalogue used for lookups. Lookups in progress will be completed using the
+   * previous catalogue, lookups are never blocked.
+   *
+   * @param geneCatalogue The gene catalogue to be used
+   * @since 0.10
+   */
+  public static void setCatalogue(GeneCatalogue geneCatalogue) {
+    catalogue = geneCatalogue;
+    logger.info("Using gene catalogue with {} genes", geneCatalogue.size());
+  }
+
+  /**
+   * Resets the gene catalogue used for lookups to the bundled gene catalogue
+   *
+   * @since 0.10
+   */
+  public static void resetCatalogue() {
+    catalogue = null;
+  }
+
+  /**
+   * Get the counters of gene lookups
+   *
+   * @return The lookup statistics
+   * @since 0.10
+   */
+  public static GeneLookupStatistics getStatistics() {
+    return STATISTICS;
   }
 
   public static Coding toCoding(Gene gene) {
@@ -70,33 +130,74 @@ public class GeneUtils {
         .build();
   }
 
-  private static List<Gene> genes() {
-    var result = new ArrayList<Gene>();
+  static GeneCatalogue bundled() {
+    return BundledHolder.CATALOGUE;
+  }
 
+  private static void count(final String value, final Optional<Gene> result) {
+    if (result.isPresent()) {
+      STATISTICS.hit();
+    } else {
+      STATISTICS.miss(value);
+    }
+  }
+
+  private static GeneCatalogue load() {
+    var snapshot = GeneUtils.class.getClassLoader().getResourceAsStream(GeneSnapshot.RESOURCE);
+    if (null != snapshot) {
+      try (snapshot) {
+        return GeneSnapshot.read(snapshot);
+      } catch (IOException e) {
+        logger.warn("Cannot read gene snapshot, using list of genes", e);
+      }
+    }
+    return GeneIndex.of(genes());
+  }
+
+  static List<Gene> genes() {
+    var inputStream =
+        Objects.requireNonNull(GeneUtils.class.getClassLoader().getResourceAsStream("genes.csv"));
     try {
-      var inputStream =
-          Objects.requireNonNull(GeneUtils.class.getClassLoader().getResourceAsStream("genes.csv"));
-      var parser =
-          CSVFormat.RFC4180
-              .builder()
-              .setHeader()
-              .setSkipHeaderRecord(true)
-              .setDelimiter('\t')
-              .build()
-              .parse(new InputStreamReader(inputStream));
+      return readCsv(inputStream);
+    } catch (IOException e) {
+      logger.error("Cannot load list of genes", e);
+      return List.of();
+    }
+  }
+
+  /**
+   * Reads a list of genes using the format of {@code genes.csv} or an HGNC file with the optional
+   * columns "Previous symbols" and "Alias symbols"
+   *
+   * @param inputStream The input stream providing the list of genes
+   * @return The genes
+   * @throws IOException If the list of genes cannot be read
+   */
+  static List<Gene> readCsv(final InputStream inputStream) throws IOException {
+    var result = new ArrayList<Gene>();
+
+    try (var parser =
+        CSVFormat.RFC4180
+            .builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setDelimiter('\t')
+            .build()
+            .parse(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
       for (var row : parser) {
         result.add(
             new Gene(
                 row.get("HGNC ID"),
-                row.get("Ensembl ID(supplied by Ensembl)"),
+                row.isMapped(ENSEMBL_ID) ? row.get(ENSEMBL_ID) : "",
                 row.get("Approved symbol"),
                 row.get("Approved name"),
-                row.get("Chromosome")));
+                row.get("Chromosome"),
+                row.isMapped(PREVIOUS_SYMBOLS) ? symbols(row.get(PREVIOUS_SYMBOLS)) : List.of(),
+                row.isMapped(ALIAS_SYMBOLS) ? symbols(row.get(ALIAS_SYMBOLS)) : List.of(),
+                null));
       }
 
       return result;
-    } catch (IOException e) {
-      return List.of();
     } catch (NoSuchMethodError e) {
       logger.error(
           "CSVFormat.get() not found! VERSION: {}",
@@ -105,4 +206,16 @@ public class GeneUtils {
       throw e;
     }
   }
+
+  private static List<String> symbols(final String value) {
+    return Arrays.stream(value.split(","))
+        .map(String::trim)
+        .filter(symbol -> !symbol.isEmpty())
+        .collect(Collectors.toList());
+  }
+
+  /** Lazy and thread safe initialization of the bundled gene catalogue on first access */
+  private static final class BundledHolder {
+    private static final GeneCatalogue CATALOGUE = load();
+  }
 }
@@ -70,8 +70,8 @@ public class ConsentMvDataMapper implements DataMapper<ModelProjectConsent> {
   @NullMarked
   private static Comparator<ResultSet> getResultSetDateComparator() {
     return (rs1, rs2) -> {
-      var date1 = rs1.getDate("date");
-      var date2 = rs2.getDate("date");
+      var date1 = rs1.getLocalDate("date");
+      var date2 = rs2.getLocalDate("date");
       if (null == date1 || null == date2) {
         return 0;
       }
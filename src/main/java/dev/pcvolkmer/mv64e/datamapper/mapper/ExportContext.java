@@ -0,0 +1,201 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.DataCatalogueFactory;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.EinzelempfehlungCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.FollowUpCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.RebiopsieCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.ReevaluationCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.TherapieplanCatalogue;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Context of the export of a single KPA procedure. Id sets derived from the DNPM Therapieplan
+ * procedures of the case are computed once on first use and shared by all mappers of the export.
+ * The context can be used by concurrently mapped sections of the export.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class ExportContext {
+
+  private final int kpaId;
+
+  private final Memoized<List<Integer>> therapieplanIds;
+  private final Memoized<List<ResultSet>> einzelempfehlungen;
+  private final Memoized<List<Integer>> followUpIds;
+  private final Memoized<Set<Integer>> molekulargenetikIds;
+
+  private ExportContext(
+      final int kpaId,
+      final TherapieplanCatalogue therapieplanCatalogue,
+      final EinzelempfehlungCatalogue einzelempfehlungCatalogue,
+      final RebiopsieCatalogue rebiopsieCatalogue,
+      final ReevaluationCatalogue reevaluationCatalogue,
+      final FollowUpCatalogue followUpCatalogue) {
+    this.kpaId = kpaId;
+    this.therapieplanIds =
+        new Memoized<>(
+            () ->
+                therapieplanCatalogue.getByKpaId(kpaId).stream()
+                    .distinct()
+                    .collect(Collectors.toUnmodifiableList()));
+    this.einzelempfehlungen =
+        new Memoized<>(
+            () ->
+                getTherapieplanIds().stream()
+                    .flatMap(id -> einzelempfehlungCatalogue.getAllByParentId(id).stream())
+                    .collect(Collectors.toUnmodifiableList()));
+    this.followUpIds =
+        new Memoized<>(
+            () ->
+                followUpCatalogue.getByKpaId(kpaId).stream()
+                    .distinct()
+                    .collect(Collectors.toUnmodifiableList()));
+    this.molekulargenetikIds =
+        new Memoized<>(
+            () ->
+                referencedMolekulargenetikIds(
+                    getTherapieplanIds(),
+                    therapieplanCatalogue,
+                    einzelempfehlungCatalogue,
+                    rebiopsieCatalogue,
+                    reevaluationCatalogue));
+  }
+
+  /**
+   * Creates a new export context for the given KPA procedure
+   *
+   * @param catalogueFactory The catalogue factory to be used
+   * @param kpaId The database id of the KPA procedure data set
+   * @return The new export context
+   */
+  public static ExportContext create(final DataCatalogueFactory catalogueFactory, final int kpaId) {
+    return new ExportContext(
+        kpaId,
+        catalogueFactory.catalogue(TherapieplanCatalogue.class),
+        catalogueFactory.catalogue(EinzelempfehlungCatalogue.class),
+        catalogueFactory.catalogue(RebiopsieCatalogue.class),
+        catalogueFactory.catalogue(ReevaluationCatalogue.class),
+        catalogueFactory.catalogue(FollowUpCatalogue.class));
+  }
+
+  /**
+   * Get the database id of the exported KPA procedure data set
+   *
+   * @return The database id of the KPA procedure
+   */
+  public int getKpaId() {
+    return kpaId;
+  }
+
+  /**
+   * Get ids of all DNPM Therapieplan procedures related to the KPA procedure
+   *
+   * @return The distinct procedure ids
+   */
+  public List<Integer> getTherapieplanIds() {
+    return therapieplanIds.get();
+  }
+
+  /**
+   * Get result sets of all Einzelempfehlung subforms of all related DNPM Therapieplan procedures
+   *
+   * @return The result sets in order of the related DNPM Therapieplan procedures
+   */
+  public List<ResultSet> getEinzelempfehlungen() {
+    return einzelempfehlungen.get();
+  }
+
+  /**
+   * Get ids of all DNPM FollowUp procedures related to the KPA procedure
+   *
+   * @return The distinct procedure ids
+   */
+  public List<Integer> getFollowUpIds() {
+    return followUpIds.get();
+  }
+
+  /**
+   * Get ids of all Molekulargenetik procedures referenced by related DNPM Therapieplan procedures
+   * and their Einzelempfehlung, Rebiopsie and Reevaluation subforms
+   *
+   * @return The distinct procedure ids
+   */
+  public Set<Integer> getMolekulargenetikIds() {
+    return molekulargenetikIds.get();
+  }
+
+  /**
+   * Get ids of all Molekulargenetik procedures referenced by the given DNPM Therapieplan procedures
+   * and their Einzelempfehlung, Rebiopsie and Reevaluation subforms
+   *
+   * @param therapieplanIds The ids of DNPM Therapieplan procedures
+   * @param therapieplanCatalogue The catalogue for DNPM Therapieplan procedures
+   * @param einzelempfehlungCatalogue The catalogue for Einzelempfehlung subforms
+   * @param rebiopsieCatalogue The catalogue for Rebiopsie subforms
+   * @param reevaluationCatalogue The catalogue for Reevaluation subforms
+   * @return The distinct procedure ids
+   */
+  static Set<Integer> referencedMolekulargenetikIds(
+      final Collection<Integer> therapieplanIds,
+      final TherapieplanCatalogue therapieplanCatalogue,
+      final EinzelempfehlungCatalogue einzelempfehlungCatalogue,
+      final RebiopsieCatalogue rebiopsieCatalogue,
+      final ReevaluationCatalogue reevaluationCatalogue) {
+    var result = new LinkedHashSet<Integer>();
+    for (var therapieplanId : therapieplanIds) {
+      result.addAll(refs(einzelempfehlungCatalogue.getAllByParentId(therapieplanId)));
+      // Addition: Rebiopsie
+      result.addAll(refs(rebiopsieCatalogue.getAllByParentId(therapieplanId)));
+      // Addition: Reevaluation
+      result.addAll(refs(reevaluationCatalogue.getAllByParentId(therapieplanId)));
+    }
+
+    // Addition: Sequencing without target
+    therapieplanIds.stream()
+        .map(therapieplanCatalogue::findById)
+        .flatMap(Optional::stream)
+        .map(therapieplan -> therapieplan.getInteger("ref_no_empf_molgen"))
+        .filter(Objects::nonNull)
+        .forEach(result::add);
+
+    return Collections.unmodifiableSet(result);
+  }
+
+  private static List<Integer> refs(final List<ResultSet> resultSets) {
+    return resultSets.stream()
+        .map(resultSet -> resultSet.getInteger("ref_molekulargenetik"))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Shared Jackson readers for JSON strings used in forms. Readers are immutable and thread-safe and
+ * are created once for each payload type, so Jackson's introspection and deserializer caches are
+ * kept between mapped rows.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+final class JsonReaders {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final Map<Class<?>, ObjectReader> LIST_READERS = new ConcurrentHashMap<>();
+
+  private JsonReaders() {
+    // intentionally left empty
+  }
+
+  /**
+   * Get the reader for JSON arrays of the given payload type
+   *
+   * @param type The payload type
+   * @return The reader binding a JSON array to a list of payloads
+   */
+  static ObjectReader listReader(final Class<?> type) {
+    return LIST_READERS.computeIfAbsent(
+        type,
+        key ->
+            OBJECT_MAPPER.readerFor(
+                OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, key)));
+  }
+
+  /**
+   * Get the shared factory to create streaming parsers
+   *
+   * @return The JSON factory
+   */
+  static JsonFactory factory() {
+    return OBJECT_MAPPER.getFactory();
+  }
+}
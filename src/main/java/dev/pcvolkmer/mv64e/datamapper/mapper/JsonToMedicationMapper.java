@@ -21,8 +21,7 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import dev.pcvolkmer.mv64e.mtb.AtcUnregisteredMedicationCoding;
 import dev.pcvolkmer.mv64e.mtb.RequestedMedicationSystem;
@@ -37,6 +36,8 @@ import java.util.stream.Collectors;
  */
 public class JsonToMedicationMapper {
 
+  private static final ObjectReader WIRKSTOFF_READER = JsonReaders.listReader(Wirkstoff.class);
+
   private JsonToMedicationMapper() {
     // intentionally left empty
   }
@@ -46,23 +47,23 @@ public class JsonToMedicationMapper {
       return List.of();
     }
     try {
-      return new ObjectMapper()
-          .readValue(wirkstoffejson, new TypeReference<List<Wirkstoff>>() {}).stream()
-              .map(
-                  wirkstoff ->
-                      AtcUnregisteredMedicationCoding.builder()
-                          .code(wirkstoff.code)
-                          .system(
-                              // Wirkstoff ohne Version => UNREGISTERED
-                              "ATC".equals(wirkstoff.system)
-                                      && null != wirkstoff.version
-                                      && !wirkstoff.version.isBlank()
-                                  ? RequestedMedicationSystem.FHIR_DE_CODE_SYSTEM_BFARM_ATC
-                                  : RequestedMedicationSystem.UNDEFINED)
-                          .version(wirkstoff.version)
-                          .display(wirkstoff.name)
-                          .build())
-              .collect(Collectors.toList());
+      List<Wirkstoff> wirkstoffe = WIRKSTOFF_READER.readValue(wirkstoffejson);
+      return wirkstoffe.stream()
+          .map(
+              wirkstoff ->
+                  AtcUnregisteredMedicationCoding.builder()
+                      .code(wirkstoff.code)
+                      .system(
+                          // Wirkstoff ohne Version => UNREGISTERED
+                          "ATC".equals(wirkstoff.system)
+                                  && null != wirkstoff.version
+                                  && !wirkstoff.version.isBlank()
+                              ? RequestedMedicationSystem.FHIR_DE_CODE_SYSTEM_BFARM_ATC
+                              : RequestedMedicationSystem.UNDEFINED)
+                      .version(wirkstoff.version)
+                      .display(wirkstoff.name)
+                      .build())
+          .collect(Collectors.toList());
     } catch (Exception e) {
       throw new DataAccessException(String.format("Cannot map medication for %s", wirkstoffejson));
     }
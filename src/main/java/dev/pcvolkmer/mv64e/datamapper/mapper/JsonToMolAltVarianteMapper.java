@@ -21,13 +21,18 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import dev.pcvolkmer.mv64e.datamapper.genes.GeneUtils;
 import dev.pcvolkmer.mv64e.mtb.GeneAlterationReference;
 import dev.pcvolkmer.mv64e.mtb.Reference;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.NullUnmarked;
@@ -42,18 +47,24 @@ import org.jspecify.annotations.Nullable;
 @NullMarked
 public class JsonToMolAltVarianteMapper {
 
+  private static final ObjectReader MOL_ALT_VARIANTE_READER =
+      JsonReaders.listReader(MolAltVariante.class);
+
   private JsonToMolAltVarianteMapper() {
     // intentionally left empty
   }
 
+  /**
+   * Maps JSON string to the IDs of the variants. The JSON string is read using a streaming parser
+   * and only the ID of each variant is read.
+   *
+   * @param variantsJson The JSON string
+   * @return The IDs of the variants
+   */
   @NullMarked
   public static List<Integer> mapIds(@Nullable String variantsJson) {
-    try {
-      return new ObjectMapper()
-          .readValue(variantsJson, new TypeReference<List<MolAltVariante>>() {}).stream()
-              .map(MolAltVariante::getId)
-              .map(Integer::parseInt)
-              .collect(Collectors.toList());
+    try (var parser = JsonReaders.factory().createParser(Objects.requireNonNull(variantsJson))) {
+      return readIds(parser);
     } catch (Exception e) {
       throw new DataAccessException(
           String.format("Cannot map gene alteration to ID for %s", variantsJson));
@@ -65,31 +76,55 @@ public class JsonToMolAltVarianteMapper {
       return List.of();
     }
     try {
-      return new ObjectMapper()
-          .readValue(variantsJson, new TypeReference<List<MolAltVariante>>() {}).stream()
-              .map(
-                  variante -> {
-                    var resultBuilder = GeneAlterationReference.builder();
-                    GeneUtils.findBySymbol(variante.getGen())
-                        .ifPresent(
-                            gene ->
-                                resultBuilder
-                                    .gene(GeneUtils.toCoding(gene))
-                                    .variant(
-                                        Reference.builder()
-                                            .id(variante.id)
-                                            .type("Variant")
-                                            .build()));
-                    return resultBuilder.build();
-                  })
-              .filter(it -> it.getVariant() != null)
-              .collect(Collectors.toList());
+      List<MolAltVariante> varianten = MOL_ALT_VARIANTE_READER.readValue(variantsJson);
+      return varianten.stream()
+          .map(
+              variante -> {
+                var resultBuilder = GeneAlterationReference.builder();
+                GeneUtils.findBySymbol(variante.getGen())
+                    .ifPresent(
+                        gene ->
+                            resultBuilder
+                                .gene(GeneUtils.toCoding(gene))
+                                .variant(
+                                    Reference.builder().id(variante.id).type("Variant").build()));
+                return resultBuilder.build();
+              })
+          .filter(it -> it.getVariant() != null)
+          .collect(Collectors.toList());
     } catch (Exception e) {
       throw new DataAccessException(
           String.format("Cannot map gene alteration for %s", variantsJson));
     }
   }
 
+  private static List<Integer> readIds(final JsonParser parser) throws IOException {
+    if (parser.nextToken() != JsonToken.START_ARRAY) {
+      throw MismatchedInputException.from(parser, List.class, "Expected array of variants");
+    }
+    var result = new ArrayList<Integer>();
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      @Nullable String id = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var token = parser.nextToken();
+        if ("id".equals(parser.currentName()) && token.isScalarValue()) {
+          id = parser.getValueAsString();
+        } else {
+          // Skip other properties including nested objects and arrays
+          parser.skipChildren();
+        }
+      }
+      if (null == id) {
+        throw MismatchedInputException.from(parser, Integer.class, "Missing ID of variant");
+      }
+      result.add(Integer.parseInt(id));
+    }
+    if (parser.currentToken() != JsonToken.END_ARRAY) {
+      throw MismatchedInputException.from(parser, List.class, "Expected variant");
+    }
+    return result;
+  }
+
   @NullUnmarked
   @JsonIgnoreProperties(ignoreUnknown = true)
   private static class MolAltVariante {
@@ -24,8 +24,7 @@ import static dev.pcvolkmer.mv64e.datamapper.mapper.EinzelempfehlungStudieDataMa
 
 import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.IgnorableMappingException;
 import dev.pcvolkmer.mv64e.mtb.StudyReference;
 import java.util.List;
@@ -39,6 +38,8 @@ import java.util.stream.Collectors;
  */
 public class JsonToStudyMapper {
 
+  private static final ObjectReader STUDIE_READER = JsonReaders.listReader(Studie.class);
+
   private JsonToStudyMapper() {
     // intentionally left empty
   }
@@ -48,19 +49,19 @@ public class JsonToStudyMapper {
       return List.of();
     }
     try {
-      return new ObjectMapper()
-          .readValue(studyJson, new TypeReference<List<Studie>>() {}).stream()
-              .map(
-                  studie ->
-                      StudyReference.builder()
-                          .id(studie.getId())
-                          .system(getStudySystem(studie.getSystem()))
-                          .type("Study")
-                          .display(
-                              studie.getStudy()) // Datenmodell v2.1: Über den "display"-Wert an der
-                          // Referenz kann der Studien-Name gesetzt werden.
-                          .build())
-              .collect(Collectors.toList());
+      List<Studie> studien = STUDIE_READER.readValue(studyJson);
+      return studien.stream()
+          .map(
+              studie ->
+                  StudyReference.builder()
+                      .id(studie.getId())
+                      .system(getStudySystem(studie.getSystem()))
+                      .type("Study")
+                      .display(
+                          studie.getStudy()) // Datenmodell v2.1: Über den "display"-Wert an der
+                      // Referenz kann der Studien-Name gesetzt werden.
+                      .build())
+          .collect(Collectors.toList());
     } catch (Exception e) {
       throw new IgnorableMappingException(String.format("Cannot map study for %s", studyJson));
     }
@@ -21,6 +21,7 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import dev.pcvolkmer.mv64e.datamapper.PropertyCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.PropertyColumn;
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.HistologieCatalogue;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.KeimbahndiagnoseCatalogue;
@@ -46,6 +47,11 @@ import org.jspecify.annotations.Nullable;
  */
 public class KpaDiagnosisDataMapper implements DataMapper<MtbDiagnosis> {
 
+  private static final PropertyColumn ICD10 = PropertyColumn.of("icd10");
+  private static final PropertyColumn ICDO3_LOKALISATION = PropertyColumn.of("icdo3lokalisation");
+  private static final PropertyColumn TUMORGRADING = PropertyColumn.of("tumorgrading");
+  private static final PropertyColumn WHOGRAD = PropertyColumn.of("whograd");
+
   private final KpaCatalogue kpaCatalogue;
   private final HistologieCatalogue histologieCatalogue;
   private final TumorausbreitungCatalogue tumorausbreitungCatalogue;
@@ -79,53 +85,45 @@ public class KpaDiagnosisDataMapper implements DataMapper<MtbDiagnosis> {
   public MtbDiagnosis getById(int id) {
     var data = kpaCatalogue.getById(id);
 
-    final var icd10 = data.getString("icd10");
-    final var icd10PropcatVersion = data.getInteger("icd10_propcat_version");
+    final var icd10 = data.getProperty(ICD10);
 
-    if (null == icd10 || null == icd10PropcatVersion) {
+    if (null == icd10) {
       throw new IgnorableMappingException(
           "Cannot get expected ICD10 code or property catalogue entry");
     }
 
     // Validate ICDO3 code presence
-    final var icd03 = data.getString("icdo3lokalisation");
-    final var icd03PropcatVersion = data.getInteger("icdo3lokalisation_propcat_version");
+    final var icd03 = data.getProperty(ICDO3_LOKALISATION);
 
-    if (null == icd03 || null == icd03PropcatVersion) {
+    if (null == icd03) {
       throw new IgnorableMappingException(
           "Cannot get expected ICDO3 code or property catalogue entry");
     }
 
+    propertyCatalogue.prefetch(List.of(icd10, icd03));
+    final var icd10Entry =
+        propertyCatalogue.getByCodeAndVersion(icd10.getCode(), icd10.getVersion());
+    final var icd03Entry =
+        propertyCatalogue.getByCodeAndVersion(icd03.getCode(), icd03.getVersion());
+
     var builder = MtbDiagnosis.builder();
     builder
         .id(data.getString("id"))
         .patient(data.getPatientReference())
         .code(
             Coding.builder()
-                .code(icd10)
+                .code(icd10.getCode())
                 .system("http://fhir.de/CodeSystem/bfarm/icd-10-gm")
-                .display(
-                    propertyCatalogue
-                        .getByCodeAndVersion(icd10, icd10PropcatVersion)
-                        .getShortdesc())
-                .version(
-                    propertyCatalogue
-                        .getByCodeAndVersion(icd10, icd10PropcatVersion)
-                        .getVersionDescription())
+                .display(icd10Entry.getShortdesc())
+                .version(icd10Entry.getVersionDescription())
                 .build())
         .recordedOn(data.getDate("datumerstdiagnose"))
         .topography(
             Coding.builder()
-                .code(icd03)
+                .code(icd03.getCode())
                 .system("urn:oid:2.16.840.1.113883.6.43.1")
-                .display(
-                    propertyCatalogue
-                        .getByCodeAndVersion(icd03, icd03PropcatVersion)
-                        .getShortdesc())
-                .version(
-                    propertyCatalogue
-                        .getByCodeAndVersion(icd03, icd03PropcatVersion)
-                        .getVersionDescription())
+                .display(icd03Entry.getShortdesc())
+                .version(icd03Entry.getVersionDescription())
                 .build())
         .type(getType(data))
         .grading(getGrading(id))
@@ -184,22 +182,17 @@ public class KpaDiagnosisDataMapper implements DataMapper<MtbDiagnosis> {
                 resultSet -> {
                   var builder = TumorGrading.builder().date(resultSet.getDate("zeitpunkt"));
 
-                  final var tumorgrading = resultSet.getString("tumorgrading");
-                  final var tumorgradingPropcat =
-                      resultSet.getInteger("tumorgrading_propcat_version");
+                  final var tumorgrading = resultSet.getProperty(TUMORGRADING);
+                  final var whograd = resultSet.getProperty(WHOGRAD);
 
-                  final var whograd = resultSet.getString("whograd");
-                  final var whogradPropcat = resultSet.getInteger("whograd_propcat_version");
-
-                  if (null != tumorgrading
-                      && !tumorgrading.isBlank()
-                      && null != tumorgradingPropcat) {
+                  if (null != tumorgrading && !tumorgrading.getCode().isBlank()) {
                     var propertyEntry =
-                        propertyCatalogue.getByCodeAndVersion(tumorgrading, tumorgradingPropcat);
+                        propertyCatalogue.getByCodeAndVersion(
+                            tumorgrading.getCode(), tumorgrading.getVersion());
                     builder.codes(
                         List.of(
                             Coding.builder()
-                                .code(resultSet.getString("tumorgrading"))
+                                .code(tumorgrading.getCode())
                                 .system("https://www.basisdatensatz.de/feld/161/grading")
                                 // TODO Annahme: "v1" ist Version 2025
                                 .version(
@@ -210,13 +203,14 @@ public class KpaDiagnosisDataMapper implements DataMapper<MtbDiagnosis> {
                                 .display(propertyEntry.getShortdesc())
                                 .build()));
                     return builder.build();
-                  } else if (null != whograd && !whograd.isBlank() && null != whogradPropcat) {
+                  } else if (null != whograd && !whograd.getCode().isBlank()) {
                     var propertyEntry =
-                        propertyCatalogue.getByCodeAndVersion(whograd, whogradPropcat);
+                        propertyCatalogue.getByCodeAndVersion(
+                            whograd.getCode(), whograd.getVersion());
                     builder.codes(
                         List.of(
                             Coding.builder()
-                                .code(whograd)
+                                .code(whograd.getCode())
                                 .system("dnpm-dip/mtb/who-grading-cns-tumors")
                                 .version(propertyEntry.getVersionDescription())
                                 .display(propertyEntry.getShortdesc())
@@ -253,30 +247,27 @@ public class KpaDiagnosisDataMapper implements DataMapper<MtbDiagnosis> {
 
   @NullMarked
   private List<Coding> getGermlineCodes(final int id) {
-    return keimbahndiagnoseCatalogue.getAllByParentId(id).stream()
-        .map(
-            it -> {
-              final var icd10 = it.getString("icd10");
-              final var icd10PropcatVersion = it.getInteger("icd10_propcat_version");
+    var properties =
+        keimbahndiagnoseCatalogue.getAllByParentId(id).stream()
+            .map(it -> it.getProperty(ICD10))
+            .filter(Objects::nonNull)
+            .filter(it -> !it.getCode().isBlank())
+            .collect(Collectors.toList());
 
-              if (null == icd10 || icd10.isBlank() || null == icd10PropcatVersion) {
-                return null;
-              }
+    propertyCatalogue.prefetch(properties);
 
+    return properties.stream()
+        .map(
+            icd10 -> {
+              var propertyEntry =
+                  propertyCatalogue.getByCodeAndVersion(icd10.getCode(), icd10.getVersion());
               return Coding.builder()
-                  .code(it.getString("icd10"))
+                  .code(icd10.getCode())
                   .system("http://fhir.de/CodeSystem/bfarm/icd-10-gm")
-                  .display(
-                      propertyCatalogue
-                          .getByCodeAndVersion(icd10, icd10PropcatVersion)
-                          .getShortdesc())
-                  .version(
-                      propertyCatalogue
-                          .getByCodeAndVersion(icd10, icd10PropcatVersion)
-                          .getVersionDescription())
+                  .display(propertyEntry.getShortdesc())
+                  .version(propertyEntry.getVersionDescription())
                   .build();
             })
-        .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
 
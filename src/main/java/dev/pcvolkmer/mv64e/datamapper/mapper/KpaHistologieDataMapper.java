@@ -87,25 +87,18 @@ public class KpaHistologieDataMapper extends AbstractSubformDataMapper<Histology
 
   @NullMarked
   public List<Integer> getMolGenIdsFromHistoOfTypeSequence(final int parentId) {
-    var seqHistos =
+    var histoIds =
         catalogue.getAllByParentId(parentId).stream()
-            .filter(this::isOfTypeSeqencing)
+            .map(histo -> histo.getInteger("histologie"))
+            .filter(Objects::nonNull)
             .collect(Collectors.toList());
-    logger.info("Found {} histologies of type sequence", seqHistos.size());
 
-    return seqHistos.stream()
-        .map(histo -> histo.getInteger("histologie"))
-        .filter(Objects::nonNull)
-        .collect(Collectors.toList());
-  }
+    var sequencingIds = molekulargenetikCatalogue.getIdsOfTypeSequencing(histoIds);
+    var seqHistoIds =
+        histoIds.stream().filter(sequencingIds::contains).collect(Collectors.toList());
+    logger.info("Found {} histologies of type sequence", seqHistoIds.size());
 
-  private boolean isOfTypeSeqencing(final ResultSet resultSet) {
-    var histoId = resultSet.getInteger("histologie");
-    if (null == histoId) {
-      return false;
-    }
-
-    return molekulargenetikCatalogue.isOfTypeSeqencing(histoId);
+    return seqHistoIds;
   }
 
   @Nullable
@@ -117,8 +110,9 @@ public class KpaHistologieDataMapper extends AbstractSubformDataMapper<Histology
     }
 
     var builder = HistologyReport.builder();
-    if (molekulargenetikCatalogue.isAvailable(histoId)) {
-      var osMolGen = molekulargenetikCatalogue.getById(histoId);
+    var osMolGenResult = molekulargenetikCatalogue.findById(histoId);
+    if (osMolGenResult.isPresent()) {
+      var osMolGen = osMolGenResult.get();
       var histologieReportResultBuilder = HistologyReportResults.builder();
       getTumorMorphologyFromOsMolGen(resultSet, osMolGen)
           .ifPresent(histologieReportResultBuilder::tumorMorphology);
@@ -132,8 +126,11 @@ public class KpaHistologieDataMapper extends AbstractSubformDataMapper<Histology
           .results(histologieReportResultBuilder.build());
 
       return builder.build();
-    } else if (pathologiebefundCatalogue.isAvailable(histoId)) {
-      var pathoBefund = pathologiebefundCatalogue.getById(histoId);
+    }
+
+    var pathoBefundResult = pathologiebefundCatalogue.findById(histoId);
+    if (pathoBefundResult.isPresent()) {
+      var pathoBefund = pathoBefundResult.get();
       var histologieReportResultBuilder = HistologyReportResults.builder();
       getTumorMorphologyFromOsPathoPefund(resultSet, pathoBefund)
           .ifPresent(histologieReportResultBuilder::tumorMorphology);
@@ -0,0 +1,112 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of mapping one single data set in a batch. Contains either the mapped value or the
+ * exception preventing the data set from being mapped.
+ *
+ * @param <T> The type of the mapped value
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class MappingResult<T> {
+
+  @Nullable private final T value;
+  @Nullable private final RuntimeException exception;
+
+  private MappingResult(@Nullable final T value, @Nullable final RuntimeException exception) {
+    this.value = value;
+    this.exception = exception;
+  }
+
+  /**
+   * Create result with mapped value
+   *
+   * @param value The mapped value
+   * @return The result
+   * @param <T> The type of the mapped value
+   */
+  public static <T> MappingResult<T> ok(final T value) {
+    return new MappingResult<>(Objects.requireNonNull(value), null);
+  }
+
+  /**
+   * Create result with exception
+   *
+   * @param exception The exception preventing the data set from being mapped
+   * @return The result
+   * @param <T> The type of the mapped value
+   */
+  public static <T> MappingResult<T> error(final RuntimeException exception) {
+    return new MappingResult<>(null, Objects.requireNonNull(exception));
+  }
+
+  /**
+   * Checks if the data set has been mapped
+   *
+   * @return true if the result contains a mapped value
+   */
+  public boolean isOk() {
+    return null != value;
+  }
+
+  /**
+   * Get the mapped value as optional
+   *
+   * @return The mapped value or an empty Optional if mapping failed
+   */
+  public Optional<T> ok() {
+    return Optional.ofNullable(value);
+  }
+
+  /**
+   * Get the exception if any
+   *
+   * @return The exception or null if the data set has been mapped
+   */
+  @Nullable
+  public RuntimeException getException() {
+    return exception;
+  }
+
+  /**
+   * Get the mapped value or throw the exception preventing the data set from being mapped
+   *
+   * @return The mapped value
+   */
+  public T orElseThrow() {
+    if (null != exception) {
+      throw exception;
+    }
+    if (null == value) {
+      throw new NoSuchElementException("No value present");
+    }
+    return value;
+  }
+}
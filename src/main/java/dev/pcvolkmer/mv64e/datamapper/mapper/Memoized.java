@@ -0,0 +1,58 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Thread-safe supplier computing its value once on first use
+ *
+ * @param <T> The type of the value
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+final class Memoized<T> implements Supplier<T> {
+
+  private final Supplier<T> loader;
+  @Nullable private volatile T value;
+
+  Memoized(final Supplier<T> loader) {
+    this.loader = loader;
+  }
+
+  @Override
+  public T get() {
+    var result = value;
+    if (null == result) {
+      synchronized (this) {
+        result = value;
+        if (null == result) {
+          result = loader.get();
+          value = result;
+        }
+      }
+    }
+    return result;
+  }
+}
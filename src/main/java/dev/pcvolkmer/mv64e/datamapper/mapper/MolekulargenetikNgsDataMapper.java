@@ -21,8 +21,11 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import dev.pcvolkmer.mv64e.datamapper.PropertyCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.PropertyColumn;
+import dev.pcvolkmer.mv64e.datamapper.PropertyValue;
 import dev.pcvolkmer.mv64e.datamapper.ResultSet;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.*;
+import dev.pcvolkmer.mv64e.datamapper.genes.Cytobands;
 import dev.pcvolkmer.mv64e.datamapper.genes.GeneUtils;
 import dev.pcvolkmer.mv64e.datamapper.mapper.exceptionhandler.tuples.Tuple;
 import dev.pcvolkmer.mv64e.datamapper.mapper.exceptionhandler.tuples.Tuple2;
@@ -32,6 +35,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -53,6 +57,12 @@ import org.slf4j.LoggerFactory;
 public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsReport> {
 
   private static final Logger logger = LoggerFactory.getLogger(MolekulargenetikNgsDataMapper.class);
+
+  private static final PropertyColumn SEQUENZIERGERAET = PropertyColumn.of("sequenziergeraet");
+  private static final PropertyColumn SEQKITTYP = PropertyColumn.of("seqkittyp");
+  private static final PropertyColumn SEQKITHERSTELLER = PropertyColumn.of("seqkithersteller");
+  private static final PropertyColumn SEQPIPELINE = PropertyColumn.of("seqpipeline");
+  private static final PropertyColumn REFERENZGENOM = PropertyColumn.of("referenzgenom");
   private final MolekulargenetikCatalogue catalogue;
   private final MolekulargenuntersuchungCatalogue untersuchungCatalogue;
   private final TumorCellContentMethodCodingCode tumorCellContentMethod;
@@ -86,6 +96,11 @@ public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsRepor
           id);
       return null;
     }
+    return this.map(data);
+  }
+
+  @NullMarked
+  private SomaticNgsReport map(final ResultSet data) {
     var builder = SomaticNgsReport.builder();
     builder
         .id(data.getString("id"))
@@ -126,17 +141,40 @@ public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsRepor
    */
   public List<SomaticNgsReport> getAllByKpaIdWithHisto(
       final int kpaId, final List<Integer> molgenIdsFromHisto) {
+    return getAllWithHisto(this.catalogue.getIdsByKpaId(kpaId), molgenIdsFromHisto);
+  }
 
-    var molgenIdsFromTherapyPlan = this.catalogue.getIdsByKpaId(kpaId);
+  /**
+   * Loads and maps all Prozedur related by the export context of the KPA procedure
+   *
+   * @param context The export context of the KPA procedure data set
+   * @param molgenIdsFromHisto List of procedure IDs for related histology forms
+   * @return The loaded Procedures
+   * @since 0.10
+   */
+  public List<SomaticNgsReport> getAllByExportContextWithHisto(
+      final ExportContext context, final List<Integer> molgenIdsFromHisto) {
+    return getAllWithHisto(context.getMolekulargenetikIds(), molgenIdsFromHisto);
+  }
 
+  private List<SomaticNgsReport> getAllWithHisto(
+      final Collection<Integer> molgenIdsFromTherapyPlan, final List<Integer> molgenIdsFromHisto) {
     // Merge both lists, remove duplicates
-    return Stream.concat(
-            molgenIdsFromTherapyPlan.stream(),
-            molgenIdsFromHisto != null ? molgenIdsFromHisto.stream() : Stream.empty())
-        .distinct()
-        .filter(this.catalogue::isOfTypeSeqencing)
-        .map(this::getById)
-        .filter(Objects::nonNull)
+    var molgenIds =
+        Stream.concat(
+                molgenIdsFromTherapyPlan.stream(),
+                molgenIdsFromHisto != null ? molgenIdsFromHisto.stream() : Stream.empty())
+            .distinct()
+            .collect(Collectors.toList());
+
+    // Check sequencing type of all procedures at once, load each procedure using the cache and
+    // skip procedures that are not unique
+    var sequencingIds = this.catalogue.getIdsOfTypeSequencing(molgenIds);
+    return molgenIds.stream()
+        .filter(sequencingIds::contains)
+        .map(this.catalogue::findById)
+        .flatMap(Optional::stream)
+        .map(this::map)
         .distinct()
         .collect(Collectors.toList());
   }
@@ -220,11 +258,10 @@ public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsRepor
         tryGetTranscriptID(subform.getString("evensemblid"), subform.getString("evnmnummer"));
 
     if (null != chromosome && null != hgncId && null != transcriptId) {
-      try {
-        snvBuilder.chromosome(Chromosome.forValue(chromosome));
-      } catch (Exception e) {
-        logger.warn("No chromosome found for '{}'", chromosome);
-      }
+      Cytobands.parseChromosome(chromosome)
+          .ifPresentOrElse(
+              snvBuilder::chromosome,
+              () -> logger.warn("No chromosome found for '{}'", chromosome));
       snvBuilder.gene(
           Coding.builder()
               .code(hgncId)
@@ -360,11 +397,10 @@ public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsRepor
     final var fusiondna5hgncid = subform.getString("fusiondna5hgncid");
 
     if (null != fusiondna5chromosome && null != fusiondna5ensemblid && null != fusiondna5hgncid) {
-      try {
-        fusionPartner5Prime.chromosome(Chromosome.forValue(fusiondna5chromosome));
-      } catch (Exception e) {
-        logger.warn("No chromosome found for '{}'", fusiondna5chromosome);
-      }
+      Cytobands.parseChromosome(fusiondna5chromosome)
+          .ifPresentOrElse(
+              fusionPartner5Prime::chromosome,
+              () -> logger.warn("No chromosome found for '{}'", fusiondna5chromosome));
       fusionPartner5Prime.gene(
           Coding.builder()
               .code(fusiondna5hgncid)
@@ -397,11 +433,10 @@ public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsRepor
     final var fusiondna3hgncid = subform.getString("fusiondna3hgncid");
 
     if (null != fusiondna3chromosome && null != fusiondna3ensemblid && null != fusiondna3hgncid) {
-      try {
-        fusionPartner3Prime.chromosome(Chromosome.forValue(fusiondna3chromosome));
-      } catch (Exception e) {
-        logger.warn("No chromosome found for '{}'", fusiondna3chromosome);
-      }
+      Cytobands.parseChromosome(fusiondna3chromosome)
+          .ifPresentOrElse(
+              fusionPartner3Prime::chromosome,
+              () -> logger.warn("No chromosome found for '{}'", fusiondna3chromosome));
       fusionPartner3Prime.gene(
           Coding.builder()
               .code(fusiondna3hgncid)
@@ -617,40 +652,37 @@ public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsRepor
 
     var builder = NgsReportMetadata.builder();
 
-    var sequenziergeraet = osMolResultSet.getString("sequenziergeraet");
-    var sequenziergeraetPv = osMolResultSet.getInteger("sequenziergeraet_propcat_version");
-    if (null != sequenziergeraet && null != sequenziergeraetPv) {
-      builder.sequencer(
-          propertyCatalogue.getShortdescOrEmptyByCodeAndVersion(
-              sequenziergeraet, sequenziergeraetPv));
+    var sequenziergeraet = osMolResultSet.getProperty(SEQUENZIERGERAET);
+    var seqKitType = osMolResultSet.getProperty(SEQKITTYP);
+    var seqKitManufacturer = osMolResultSet.getProperty(SEQKITHERSTELLER);
+    var seqPipeline = osMolResultSet.getProperty(SEQPIPELINE);
+    var referenceGenome = osMolResultSet.getProperty(REFERENZGENOM);
+
+    propertyCatalogue.prefetch(
+        Stream.of(sequenziergeraet, seqKitType, seqKitManufacturer, seqPipeline, referenceGenome)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList()));
+
+    if (null != sequenziergeraet) {
+      builder.sequencer(getShortdescOrEmpty(sequenziergeraet));
     } else {
       builder.sequencer("Sequencer not specified.");
     }
 
-    var seqKitType = osMolResultSet.getString("seqkittyp");
-    var seqKitTypePv = osMolResultSet.getInteger("seqkittyp_propcat_version");
-    if (null != seqKitType && null != seqKitTypePv) {
-      builder.kitType(
-          propertyCatalogue.getShortdescOrEmptyByCodeAndVersion(seqKitType, seqKitTypePv));
+    if (null != seqKitType) {
+      builder.kitType(getShortdescOrEmpty(seqKitType));
     } else {
       builder.kitType("SeqKitType not specified.");
     }
 
-    var seqKitManufacturer = osMolResultSet.getString("seqkithersteller");
-    var seqKitManufacturerPv = osMolResultSet.getInteger("seqkithersteller_propcat_version");
-    if (null != seqKitManufacturer && null != seqKitManufacturerPv) {
-      builder.kitManufacturer(
-          propertyCatalogue.getShortdescOrEmptyByCodeAndVersion(
-              seqKitManufacturer, seqKitManufacturerPv));
+    if (null != seqKitManufacturer) {
+      builder.kitManufacturer(getShortdescOrEmpty(seqKitManufacturer));
     } else {
       builder.kitManufacturer("SeqKitHersteller not specified.");
     }
 
-    var seqPipeline = osMolResultSet.getString("seqpipeline");
-    var seqPipelinePv = osMolResultSet.getInteger("seqpipeline_propcat_version");
-    if (null != seqPipeline && null != seqPipelinePv) {
-      final var pipeline =
-          propertyCatalogue.getShortdescOrEmptyByCodeAndVersion(seqPipeline, seqPipelinePv);
+    if (null != seqPipeline) {
+      final var pipeline = getShortdescOrEmpty(seqPipeline);
       if (!pipeline.isBlank()) {
         builder.pipeline(mapPipelineUri(pipeline).toString());
       } else {
@@ -661,17 +693,19 @@ public class MolekulargenetikNgsDataMapper implements DataMapper<SomaticNgsRepor
       builder.pipeline(mapPipelineUri(null).toString());
     }
 
-    var referenceGenome = osMolResultSet.getString("referenzgenom");
-    var referenceGenomePv = osMolResultSet.getInteger("referenzgenom_propcat_version");
-    if (null != referenceGenome && null != referenceGenomePv) {
-      builder.referenceGenome(
-          propertyCatalogue.getShortdescOrEmptyByCodeAndVersion(
-              referenceGenome, referenceGenomePv));
+    if (null != referenceGenome) {
+      builder.referenceGenome(getShortdescOrEmpty(referenceGenome));
     }
 
     return builder.build();
   }
 
+  @NullMarked
+  private String getShortdescOrEmpty(final PropertyValue property) {
+    return propertyCatalogue.getShortdescOrEmptyByCodeAndVersion(
+        property.getCode(), property.getVersion());
+  }
+
   private static String mapProteinChangeToLongFormat(String input) {
     final var mappingTable =
         List.of(
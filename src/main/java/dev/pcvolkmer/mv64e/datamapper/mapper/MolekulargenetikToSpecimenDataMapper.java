@@ -24,8 +24,11 @@ import dev.pcvolkmer.mv64e.datamapper.ResultSet;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.*;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import dev.pcvolkmer.mv64e.mtb.*;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullMarked;
@@ -74,8 +77,11 @@ public class MolekulargenetikToSpecimenDataMapper implements DataMapper<TumorSpe
   @NullMarked
   @Override
   public TumorSpecimen getById(int id) {
-    var data = molekulargenetikCatalogue.getById(id);
+    return this.map(molekulargenetikCatalogue.getById(id));
+  }
 
+  @NullMarked
+  private TumorSpecimen map(ResultSet data) {
     var builder = TumorSpecimen.builder();
     builder
         .id(data.getString("id"))
@@ -99,55 +105,35 @@ public class MolekulargenetikToSpecimenDataMapper implements DataMapper<TumorSpe
    */
   @NullMarked
   public List<TumorSpecimen> getAllByKpaId(int kpaId, Reference diagnoseReferenz) {
-    var therapieplanIds = therapieplanCatalogue.getByKpaId(kpaId);
-
-    var osMolGen =
-        therapieplanIds.stream()
-            .map(einzelempfehlungCatalogue::getAllByParentId)
-            .flatMap(
-                einzelempfehlungen ->
-                    einzelempfehlungen.stream()
-                        .map(
-                            einzelempfehlung ->
-                                einzelempfehlung.getInteger("ref_molekulargenetik")))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-
-    // Addition: Rebiopsie
-    osMolGen.addAll(
-        therapieplanIds.stream()
-            .map(rebiopsieCatalogue::getAllByParentId)
-            .flatMap(
-                einzelempfehlungen ->
-                    einzelempfehlungen.stream()
-                        .map(
-                            einzelempfehlung ->
-                                einzelempfehlung.getInteger("ref_molekulargenetik")))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet()));
+    return getAll(
+        kpaId,
+        ExportContext.referencedMolekulargenetikIds(
+            therapieplanCatalogue.getByKpaId(kpaId),
+            therapieplanCatalogue,
+            einzelempfehlungCatalogue,
+            rebiopsieCatalogue,
+            reevaluationCatalogue),
+        diagnoseReferenz);
+  }
 
-    // Addition: Reevaluation
-    osMolGen.addAll(
-        therapieplanIds.stream()
-            .map(reevaluationCatalogue::getAllByParentId)
-            .flatMap(
-                einzelempfehlungen ->
-                    einzelempfehlungen.stream()
-                        .map(
-                            einzelempfehlung ->
-                                einzelempfehlung.getInteger("ref_molekulargenetik")))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet()));
+  /**
+   * Loads and maps specimens by using the export context of the referencing KPA procedure
+   *
+   * @param context The export context of the referencing KPA procedure data set
+   * @param diagnoseReferenz The reference object to the diagnosis
+   * @return The loaded Patient data
+   * @since 0.10
+   */
+  @NullMarked
+  public List<TumorSpecimen> getAllByExportContext(
+      ExportContext context, Reference diagnoseReferenz) {
+    return getAll(context.getKpaId(), context.getMolekulargenetikIds(), diagnoseReferenz);
+  }
 
-    // Addition: Sequencing without target
-    osMolGen.addAll(
-        therapieplanIds.stream()
-            .filter(therapieplanCatalogue::isAvailable)
-            .map(therapieplanCatalogue::getById)
-            .filter(therapieplan -> !therapieplan.isNull("ref_no_empf_molgen"))
-            .map(therapieplan -> therapieplan.getInteger("ref_no_empf_molgen"))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet()));
+  @NullMarked
+  private List<TumorSpecimen> getAll(
+      int kpaId, Set<Integer> therapieplanMolGen, Reference diagnoseReferenz) {
+    var osMolGen = new HashSet<>(therapieplanMolGen);
 
     // Vorbefunde anhand Einsendenummer
     osMolGen.addAll(
@@ -169,20 +155,18 @@ public class MolekulargenetikToSpecimenDataMapper implements DataMapper<TumorSpe
 
     // Histologie
     osMolGen.addAll(
-        histologieCatalogue.getAllByParentId(kpaId).stream()
-            .map(rs -> rs.getInteger("histologie"))
-            .filter(Objects::nonNull)
-            .filter(molekulargenetikCatalogue::isAvailable)
-            .map(molekulargenetikCatalogue::getById)
-            .map(ResultSet::getId)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList()));
+        molekulargenetikCatalogue.existingIds(
+            histologieCatalogue.getAllByParentId(kpaId).stream()
+                .map(rs -> rs.getInteger("histologie"))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList())));
 
     return osMolGen.stream()
         .filter(Objects::nonNull)
         .distinct()
-        .filter(molekulargenetikCatalogue::isAvailable)
-        .map(this::getById)
+        .map(molekulargenetikCatalogue::findById)
+        .flatMap(Optional::stream)
+        .map(this::map)
         .peek(it -> it.setDiagnosis(diagnoseReferenz))
         .collect(Collectors.toList());
   }
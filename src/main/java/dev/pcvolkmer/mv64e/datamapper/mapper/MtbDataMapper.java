@@ -25,11 +25,20 @@ import static dev.pcvolkmer.mv64e.datamapper.mapper.exceptionhandler.TryAndLog.t
 import dev.pcvolkmer.mv64e.datamapper.PropertyCatalogue;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.*;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import dev.pcvolkmer.mv64e.datamapper.mapper.exceptionhandler.tuples.Tuple2;
+import dev.pcvolkmer.mv64e.datamapper.tracing.ExportTracer;
+import dev.pcvolkmer.mv64e.datamapper.tracing.Tracing;
 import dev.pcvolkmer.mv64e.mtb.*;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
@@ -42,17 +51,31 @@ import org.springframework.jdbc.core.JdbcTemplate;
 /**
  * Mapper class to load and map Mtb files from the database
  *
+ * <p>Instances are immutable and thread-safe, a single instance can be used to map Mtb files in
+ * concurrent threads. Configuration methods like {@link
+ * #tumorCellContentMethod(TumorCellContentMethodCodingCode)} return a new instance and do not
+ * modify the instance they are called on. The sub-mappers used to map a Mtb file are created once
+ * on first use and shared by all threads using the instance.
+ *
  * @author Paul-Christian Volkmer
  * @since 0.1
  */
 public class MtbDataMapper implements DataMapper<Mtb> {
 
+  /** Default number of cases loaded together by {@link #getByIds(Collection)} */
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
   private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
   private final DataCatalogueFactory catalogueFactory;
   private final PropertyCatalogue propertyCatalogue;
 
-  private TumorCellContentMethodCodingCode tumorCellContentMethod;
+  private final TumorCellContentMethodCodingCode tumorCellContentMethod;
+  private final int batchSize;
+  @Nullable private final Executor executor;
+  private final int parallelism;
+  private final ExportTracer tracer;
+  private final Memoized<Pipeline> pipeline;
 
   // In Würzburg immer histologisch!
   MtbDataMapper(final JdbcTemplate jdbcTemplate) {
@@ -72,9 +95,35 @@ public class MtbDataMapper implements DataMapper<Mtb> {
       final DataCatalogueFactory dataCatalogueFactory,
       final PropertyCatalogue propertyCatalogue,
       final TumorCellContentMethodCodingCode tumorCellContentMethod) {
+    this(
+        dataCatalogueFactory,
+        propertyCatalogue,
+        tumorCellContentMethod,
+        DEFAULT_BATCH_SIZE,
+        null,
+        1,
+        ExportTracer.noop(),
+        new Memoized<>(
+            () -> new Pipeline(dataCatalogueFactory, propertyCatalogue, tumorCellContentMethod)));
+  }
+
+  private MtbDataMapper(
+      final DataCatalogueFactory dataCatalogueFactory,
+      final PropertyCatalogue propertyCatalogue,
+      final TumorCellContentMethodCodingCode tumorCellContentMethod,
+      final int batchSize,
+      @Nullable final Executor executor,
+      final int parallelism,
+      final ExportTracer tracer,
+      final Memoized<Pipeline> pipeline) {
     this.catalogueFactory = dataCatalogueFactory;
     this.propertyCatalogue = propertyCatalogue;
     this.tumorCellContentMethod = tumorCellContentMethod;
+    this.batchSize = batchSize;
+    this.executor = executor;
+    this.parallelism = parallelism;
+    this.tracer = tracer;
+    this.pipeline = pipeline;
   }
 
   /**
@@ -127,20 +176,93 @@ public class MtbDataMapper implements DataMapper<Mtb> {
   }
 
   /**
-   * Sets tumor cell content method to be used. If not set, HISTOLOGIC will be used.
+   * Sets tumor cell content method to be used. If not set, HISTOLOGIC will be used. This instance
+   * will not be modified.
    *
    * @param tumorCellContentMethod The tumor cell content method to be used
-   * @return Instance of MtbDataMapper with enabled filter.
+   * @return New instance of MtbDataMapper using the given tumor cell content method
    */
   @NullMarked
   public MtbDataMapper tumorCellContentMethod(
       TumorCellContentMethodCodingCode tumorCellContentMethod) {
-    this.tumorCellContentMethod = tumorCellContentMethod;
-    return this;
+    return new MtbDataMapper(catalogueFactory, propertyCatalogue, tumorCellContentMethod)
+        .withExecution(batchSize, executor, parallelism, tracer);
+  }
+
+  /**
+   * Sets the number of cases loaded together by {@link #getByIds(Collection)}. All data of one
+   * batch is kept in memory until all cases of the batch have been mapped. If not set, {@value
+   * DEFAULT_BATCH_SIZE} will be used.
+   *
+   * @param batchSize The number of cases loaded together
+   * @return New instance of MtbDataMapper with the given batch size
+   * @since 0.10
+   */
+  @NullMarked
+  public MtbDataMapper batchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size must be greater than zero");
+    }
+    return withExecution(batchSize, executor, parallelism, tracer);
+  }
+
+  /**
+   * Enables concurrent mapping of independent sections of a Mtb file, like diagnoses, follow-ups
+   * or NGS reports, using the given executor. The resulting Mtb file is the same as if all sections
+   * had been mapped one after another on the calling thread.
+   *
+   * <p>Each running section might use its own database connection, the parallelism should
+   * therefore not exceed the available connections of the connection pool.
+   *
+   * <p>The executor may be the same bounded pool the mapper is called from. The calling thread does
+   * not wait for sections that have not been started by the executor yet but runs them itself.
+   *
+   * @param executor The executor to be used
+   * @param parallelism The maximum number of sections of one Mtb file mapped at the same time
+   * @return New instance of MtbDataMapper with enabled concurrent mapping
+   * @since 0.10
+   */
+  @NullMarked
+  public MtbDataMapper executor(Executor executor, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("The parallelism must be greater than zero");
+    }
+    return withExecution(batchSize, executor, parallelism, tracer);
+  }
+
+  /**
+   * Sets the tracer to be notified about each stage of mapping a Mtb file: the Mtb file itself, its
+   * sections, the sub-mappers used by a section and the data catalogue requests of a sub-mapper. If
+   * not set, a tracer ignoring all spans will be used.
+   *
+   * @param tracer The tracer to be used
+   * @return New instance of MtbDataMapper using the given tracer
+   * @since 0.10
+   */
+  @NullMarked
+  public MtbDataMapper tracer(ExportTracer tracer) {
+    return withExecution(batchSize, executor, parallelism, tracer);
+  }
+
+  @NullMarked
+  private MtbDataMapper withExecution(
+      int batchSize, @Nullable Executor executor, int parallelism, ExportTracer tracer) {
+    // Sub-mappers do not depend on execution settings and can be shared
+    return new MtbDataMapper(
+        catalogueFactory,
+        propertyCatalogue,
+        tumorCellContentMethod,
+        batchSize,
+        executor,
+        parallelism,
+        tracer,
+        pipeline);
   }
 
   /**
-   * Loads and maps a Mtb file using the root procedures database id
+   * Loads and maps a Mtb file using the root procedures database id. All related procedures are
+   * prefetched using set-based queries and all data catalogue requests are cached until the Mtb
+   * file has been mapped.
    *
    * @param kpaId The database id of the root procedure data set
    * @return The loaded Mtb file
@@ -148,282 +270,90 @@ public class MtbDataMapper implements DataMapper<Mtb> {
   @Override
   @NullMarked
   public Mtb getById(int kpaId) {
-    var kpaCatalogue = catalogueFactory.catalogue(KpaCatalogue.class);
-    var patientDataMapper =
-        new PatientDataMapper(catalogueFactory.catalogue(PatientCatalogue.class));
-    var kpaPatientDataMapper = new KpaPatientDataMapper(kpaCatalogue, propertyCatalogue);
-    var diagnosisDataMapper =
-        new KpaDiagnosisDataMapper(
-            kpaCatalogue,
-            catalogueFactory.catalogue(HistologieCatalogue.class),
-            catalogueFactory.catalogue(TumorausbreitungCatalogue.class),
-            catalogueFactory.catalogue(TumorgradingCatalogue.class),
-            catalogueFactory.catalogue(KeimbahndiagnoseCatalogue.class),
-            propertyCatalogue);
-    var mtbEpisodeDataMapper = new MtbEpisodeDataMapper(kpaCatalogue);
-    var prozedurMapper =
-        new KpaProzedurDataMapper(
-            catalogueFactory.catalogue(ProzedurCatalogue.class), propertyCatalogue);
-    var kpaTherapielinieMapper =
-        new KpaTherapielinieDataMapper(
-            catalogueFactory.catalogue(TherapielinieCatalogue.class), propertyCatalogue);
-    var kpaEcogMapper = new KpaEcogDataMapper(catalogueFactory.catalogue(EcogCatalogue.class));
-
-    var einzelempfehlungCatalogue = catalogueFactory.catalogue(EinzelempfehlungCatalogue.class);
-    var therapieplanCatalogue = catalogueFactory.catalogue(TherapieplanCatalogue.class);
-    var therapieplanDataMapper =
-        new TherapieplanDataMapper(
-            therapieplanCatalogue,
-            catalogueFactory.catalogue(RebiopsieCatalogue.class),
-            catalogueFactory.catalogue(ReevaluationCatalogue.class),
-            einzelempfehlungCatalogue,
-            catalogueFactory.catalogue(MolekulargenuntersuchungCatalogue.class),
-            propertyCatalogue);
-
-    var verwandteDataMapper =
-        new KpaVerwandteDataMapper(catalogueFactory.catalogue(VerwandteCatalogue.class));
-
-    var molekulargenetikCatalogue = catalogueFactory.catalogue(MolekulargenetikCatalogue.class);
-    var molekulargenetikToSpecimenDataMapper =
-        new MolekulargenetikToSpecimenDataMapper(
-            molekulargenetikCatalogue,
-            therapieplanCatalogue,
-            catalogueFactory.catalogue(RebiopsieCatalogue.class),
-            catalogueFactory.catalogue(ReevaluationCatalogue.class),
-            einzelempfehlungCatalogue,
-            catalogueFactory.catalogue(VorbefundeCatalogue.class),
-            catalogueFactory.catalogue(HistologieCatalogue.class));
-
-    var pathologiebefundCatalogue = catalogueFactory.catalogue(PathologiebefundCatalogue.class);
-    var pathologiebefundToSpecimenDataMapper =
-        new PathologiebefundToSpecimenDataMapper(
-            pathologiebefundCatalogue, catalogueFactory.catalogue(HistologieCatalogue.class));
-
-    var molekulargenetikNgsDataMapper =
-        new MolekulargenetikNgsDataMapper(
-            molekulargenetikCatalogue,
-            catalogueFactory.catalogue(MolekulargenuntersuchungCatalogue.class),
-            propertyCatalogue,
-            tumorCellContentMethod);
-    var molekulargenetikMsiDataMapper =
-        new MolekulargenetikMsiDataMapper(
-            catalogueFactory.catalogue(MolekulargenMsiCatalogue.class));
-
-    var kpaVorbefundeDataMapper =
-        new KpaVorbefundeDataMapper(
-            catalogueFactory.catalogue(VorbefundeCatalogue.class),
-            molekulargenetikCatalogue,
-            propertyCatalogue);
-
-    var kpaHistologieDataMapper =
-        new KpaHistologieDataMapper(
-            catalogueFactory.catalogue(HistologieCatalogue.class),
-            molekulargenetikCatalogue,
-            pathologiebefundCatalogue,
-            propertyCatalogue);
-
-    var consentMvDataMapper =
-        new ConsentMvDataMapper(
-            catalogueFactory.catalogue(ConsentMvCatalogue.class),
-            catalogueFactory.catalogue(ConsentMvVerlaufCatalogue.class));
-
-    var followUpTherapielinieMapper =
-        new FollowUpTherapielinieDataMapper(
-            catalogueFactory.catalogue(TherapielinieCatalogue.class),
-            einzelempfehlungCatalogue,
-            therapieplanCatalogue,
-            propertyCatalogue);
-
-    var followUpDataMapper =
-        new FollowUpDataMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
-
-    var followUpClaimMapper =
-        new FollowUpClaimMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
-
-    var followUpClaimResponseMapper =
-        new FollowUpClaimResponseMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
-
-    var followUpResponseBefundMapper =
-        new FollowUpResponseBefundMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
-
-    var followUpEcogMapper =
-        new FollowUpEcogDataMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
-
-    var resultBuilder = Mtb.builder();
-
-    try {
-      var kpaPatient = kpaPatientDataMapper.getById(kpaId);
-      var patient = patientDataMapper.getById(Integer.parseInt(kpaPatient.getId()));
-      kpaPatient.setId(patient.getId());
-      kpaPatient.setAddress(patient.getAddress());
-
-      var specimens = new ArrayList<TumorSpecimen>();
-
-      tryAndLogWithResult(() -> diagnosisDataMapper.getById(kpaId))
-          .andTryWithResult(
-              diagnosis -> {
-                // DNPM Klinik/Anamnese
-                resultBuilder.diagnoses(List.of(diagnosis));
-                return diagnosis;
-              })
-          .andTryWithResult(
-              diagnosis ->
-                  molekulargenetikToSpecimenDataMapper.getAllByKpaId(
-                      kpaId,
-                      Reference.builder().id(diagnosis.getId()).type("MTBDiagnosis").build()))
-          .andTry(specimens::addAll);
-
-      tryAndLogWithResult(() -> diagnosisDataMapper.getById(kpaId))
-          .andTryWithResult(
-              diagnosis -> {
-                // DNPM Klinik/Anamnese
-                resultBuilder.diagnoses(List.of(diagnosis));
-                return diagnosis;
-              })
-          .andTryWithResult(
-              diagnosis ->
-                  pathologiebefundToSpecimenDataMapper.getAllByKpaId(
-                      kpaId,
-                      Reference.builder().id(diagnosis.getId()).type("MTBDiagnosis").build()))
-          .andTry(specimens::addAll);
-
-      resultBuilder.specimens(specimens);
-
-      final var followUpIds =
-          catalogueFactory.catalogue(FollowUpCatalogue.class).getByKpaId(kpaId).stream()
-              .distinct()
-              .collect(Collectors.toList());
-
-      var followUps =
-          followUpIds.stream()
-              .map(followUpDataMapper::getById)
-              .filter(Objects::nonNull)
-              .collect(Collectors.toList());
-
-      var claims =
-          followUpIds.stream()
-              .map(id -> tryAndLogWithResult(() -> followUpClaimMapper.getById(id)).okOrNull())
-              .filter(Objects::nonNull)
-              .distinct()
-              .collect(Collectors.toList());
-
-      var claimResponses =
-          followUpIds.stream()
-              .map(
-                  id ->
-                      tryAndLogWithResult(() -> followUpClaimResponseMapper.getById(id)).okOrNull())
-              .filter(Objects::nonNull)
-              .distinct()
-              .collect(Collectors.toList());
-
-      var systemicTherapies =
-          new TherapiehistorieDataMapper(
-                  followUpTherapielinieMapper,
-                  therapieplanCatalogue,
-                  einzelempfehlungCatalogue,
-                  catalogueFactory.catalogue(FollowUpCatalogue.class),
-                  catalogueFactory.catalogue(TherapielinieCatalogue.class))
-              .getById(kpaId);
-
-      var responses =
-          followUpIds.stream()
-              .map(
-                  id ->
-                      tryAndLogWithResult(() -> followUpResponseBefundMapper.getById(id))
-                          .okOrNull())
-              .filter(Objects::nonNull)
-              .distinct()
-              .collect(Collectors.toList());
-
-      final var somaticNgsReports =
-          molekulargenetikNgsDataMapper.getAllByKpaIdWithHisto(
-              kpaId, kpaHistologieDataMapper.getMolGenIdsFromHistoOfTypeSequence(kpaId));
-
-      var msiFindings =
-          somaticNgsReports.stream()
-              .map(ngs -> Integer.parseInt(ngs.getId()))
-              .flatMap(ngsId -> molekulargenetikMsiDataMapper.getByParentId(ngsId).stream())
-              .filter(msi -> msi.getInterpretation() != null); // always filter incomplete MSI
-      // as not needed for MVH and
-      // interpretation not
-      // implemented
-
-      var performanceStatus =
-          Stream.concat(
-                  kpaEcogMapper.getByParentId(kpaId).stream(),
-                  followUpIds.stream().map(followUpEcogMapper::getById))
-              .filter(Objects::nonNull)
-              .distinct()
-              .collect(Collectors.toList());
-
-      resultBuilder
-          .patient(kpaPatient)
-          .episodesOfCare(List.of(mtbEpisodeDataMapper.getById(kpaId)))
-          .performanceStatus(performanceStatus)
-          .familyMemberHistories(verwandteDataMapper.getByParentId(kpaId))
-          // Vorbefunde
-          .priorDiagnosticReports(kpaVorbefundeDataMapper.getByParentId(kpaId))
-          // Histologie-Berichte
-          .histologyReports(kpaHistologieDataMapper.getByParentId(kpaId))
-          // DNPM Therapieplan
-          .carePlans(
-              therapieplanCatalogue.getByKpaId(kpaId).stream()
-                  .map(therapieplanDataMapper::getById)
-                  .collect(Collectors.toList()))
-          // NGS Berichte
-          .ngsReports(somaticNgsReports)
-          // MSI Befunde
-          .msiFindings(msiFindings.collect(Collectors.toList()))
-          // FollowUps mit Claims und Claim Responses
-          .followUps(followUps.isEmpty() ? null : followUps)
-          .claims(claims.isEmpty() ? null : claims)
-          .claimResponses(claimResponses.isEmpty() ? null : claimResponses)
-          // Therapie-Verlaufsdokumentation
-          .systemicTherapies(systemicTherapies.isEmpty() ? null : systemicTherapies)
-          // Response Befunde
-          .responses(responses.isEmpty() ? null : responses);
-
-      tryAndLogWithResult(() -> prozedurMapper.getByParentId(kpaId))
-          .ok()
-          .ifPresent(resultBuilder::guidelineProcedures);
-
-      tryAndLogWithResult(() -> kpaTherapielinieMapper.getByParentId(kpaId))
-          .ok()
-          .ifPresent(resultBuilder::guidelineTherapies);
-
-      var metadataBuilder = MvhMetadata.builder().type(MvhSubmissionType.INITIAL).transferTan("");
-
-      var consentId = kpaCatalogue.getById(kpaId).getInteger("consentmv64e");
-      var reasonMissingResearchConsent =
-          kpaCatalogue.getById(kpaId).getString("grundkeinbroadconsent");
+    try (var tracing = Tracing.start(tracer, "Mtb " + kpaId); var cache = CatalogueCache.open()) {
+      this.prefetch(List.of(kpaId));
+      return this.mapById(kpaId);
+    }
+  }
 
-      // Consent - as far as present
-      if (null != consentId) {
-        metadataBuilder.modelProjectConsent(consentMvDataMapper.getById(consentId));
-      }
+  /**
+   * Loads and maps a Mtb file using the root procedures database id and records statistics of all
+   * executed queries. Statistics are only recorded if the mapper uses an {@link
+   * InstrumentedJdbcTemplate}.
+   *
+   * @param kpaId The database id of the root procedure data set
+   * @return The loaded Mtb file and query statistics
+   * @since 0.10
+   */
+  @NullMarked
+  public MtbExportResult getByIdWithStatistics(int kpaId) {
+    try (var statistics = QueryStatistics.record()) {
+      var mtb = this.getById(kpaId);
+      logger.debug("Queries used to map Mtb file for procedure {}: {}", kpaId, statistics);
+      return new MtbExportResult(mtb, statistics);
+    }
+  }
 
-      // Reason for missing research consent
-      if (null != reasonMissingResearchConsent && !reasonMissingResearchConsent.isBlank()) {
-        try {
-          metadataBuilder.reasonResearchConsentMissing(
-              ResearchConsentReasonMissing.forValue(reasonMissingResearchConsent));
-        } catch (IOException e) {
-          logger.warn(
-              "A reason for missing research consent is set but cannot be used: '{}'",
-              reasonMissingResearchConsent);
+  /**
+   * Loads and maps Mtb files using the root procedures database ids. The cases are loaded in
+   * batches using set-based queries for all cases of a batch. Cases that cannot be mapped will not
+   * abort loading the other cases.
+   *
+   * @param kpaIds The database ids of the root procedure data sets
+   * @return The loaded Mtb file or the exception preventing it from being mapped by database id
+   * @since 0.10
+   */
+  @NullMarked
+  public Map<Integer, MappingResult<Mtb>> getByIds(Collection<Integer> kpaIds) {
+    var ids = kpaIds.stream().distinct().collect(Collectors.toList());
+    var result = new LinkedHashMap<Integer, MappingResult<Mtb>>();
+    for (var i = 0; i < ids.size(); i += batchSize) {
+      var batch = ids.subList(i, Math.min(i + batchSize, ids.size()));
+      try (var cache = CatalogueCache.open()) {
+        this.prefetch(batch);
+        for (var kpaId : batch) {
+          try (var tracing = Tracing.start(tracer, "Mtb " + kpaId)) {
+            result.put(kpaId, MappingResult.ok(this.mapById(kpaId)));
+          } catch (RuntimeException e) {
+            result.put(kpaId, MappingResult.error(e));
+          }
         }
       }
+    }
+    return result;
+  }
 
-      if (null != consentId
-          || (null != reasonMissingResearchConsent && !reasonMissingResearchConsent.isBlank())) {
-        resultBuilder.metadata(metadataBuilder.build());
-      }
-    } catch (DataAccessException e) {
-      logger.error("Error while getting Mtb.", e);
-      throw e;
+  @NullMarked
+  private void prefetch(Collection<Integer> kpaIds) {
+    try (var tracing = Tracing.start(tracer, "MtbDataMapper.prefetch")) {
+      KpaGraph.prefetchAll(catalogueFactory, kpaIds);
+    } catch (org.springframework.dao.DataAccessException e) {
+      // Not prefetched procedures will be loaded on request
+      logger.debug("Cannot prefetch procedures related to {}", kpaIds, e);
     }
+  }
 
-    return resultBuilder.build();
+  @NullMarked
+  private Mtb mapById(int kpaId) {
+    var sections =
+        null == executor ? Sections.sequential() : Sections.concurrent(executor, parallelism);
+    return pipeline.get().map(kpaId, sections);
+  }
+
+  @NullMarked
+  private static Tuple2<Optional<MtbDiagnosis>, List<TumorSpecimen>> mapDiagnosisWithSpecimens(
+      int kpaId,
+      KpaDiagnosisDataMapper diagnosisDataMapper,
+      Function<Reference, List<TumorSpecimen>> specimensMapper) {
+    var specimens = new ArrayList<TumorSpecimen>();
+    var diagnosis = tryAndLogWithResult(() -> diagnosisDataMapper.getById(kpaId));
+    diagnosis
+        .andTryWithResult(
+            it ->
+                specimensMapper.apply(
+                    Reference.builder().id(it.getId()).type("MTBDiagnosis").build()))
+        .andTry(specimens::addAll);
+    return new Tuple2<>(diagnosis.ok(), specimens);
   }
 
   /**
@@ -460,4 +390,477 @@ public class MtbDataMapper implements DataMapper<Mtb> {
             .catalogue(KpaCatalogue.class)
             .getLatestProcedureIdByPatientIdAndTumor(patientId, tumorId));
   }
+
+  /** Sub-mappers used to map Mtb files. The sub-mappers are stateless and shared by all threads. */
+  @NullMarked
+  private static final class Pipeline {
+
+    private final Logger logger = LoggerFactory.getLogger(MtbDataMapper.class);
+
+    private final DataCatalogueFactory catalogueFactory;
+    private final KpaCatalogue kpaCatalogue;
+    private final PatientDataMapper patientDataMapper;
+    private final KpaPatientDataMapper kpaPatientDataMapper;
+    private final KpaDiagnosisDataMapper diagnosisDataMapper;
+    private final MtbEpisodeDataMapper mtbEpisodeDataMapper;
+    private final KpaProzedurDataMapper prozedurMapper;
+    private final KpaTherapielinieDataMapper kpaTherapielinieMapper;
+    private final KpaEcogDataMapper kpaEcogMapper;
+    private final TherapieplanDataMapper therapieplanDataMapper;
+    private final KpaVerwandteDataMapper verwandteDataMapper;
+    private final MolekulargenetikToSpecimenDataMapper molekulargenetikToSpecimenDataMapper;
+    private final PathologiebefundToSpecimenDataMapper pathologiebefundToSpecimenDataMapper;
+    private final MolekulargenetikNgsDataMapper molekulargenetikNgsDataMapper;
+    private final MolekulargenetikMsiDataMapper molekulargenetikMsiDataMapper;
+    private final KpaVorbefundeDataMapper kpaVorbefundeDataMapper;
+    private final KpaHistologieDataMapper kpaHistologieDataMapper;
+    private final ConsentMvDataMapper consentMvDataMapper;
+    private final FollowUpTherapielinieDataMapper followUpTherapielinieMapper;
+    private final FollowUpDataMapper followUpDataMapper;
+    private final FollowUpClaimMapper followUpClaimMapper;
+    private final FollowUpClaimResponseMapper followUpClaimResponseMapper;
+    private final FollowUpResponseBefundMapper followUpResponseBefundMapper;
+    private final FollowUpEcogDataMapper followUpEcogMapper;
+    private final TherapiehistorieDataMapper therapiehistorieDataMapper;
+
+    private Pipeline(
+        final DataCatalogueFactory catalogueFactory,
+        final PropertyCatalogue propertyCatalogue,
+        final TumorCellContentMethodCodingCode tumorCellContentMethod) {
+      this.catalogueFactory = catalogueFactory;
+
+      this.kpaCatalogue = catalogueFactory.catalogue(KpaCatalogue.class);
+
+      this.patientDataMapper =
+          new PatientDataMapper(catalogueFactory.catalogue(PatientCatalogue.class));
+
+      this.kpaPatientDataMapper = new KpaPatientDataMapper(kpaCatalogue, propertyCatalogue);
+
+      this.diagnosisDataMapper =
+          new KpaDiagnosisDataMapper(
+              kpaCatalogue,
+              catalogueFactory.catalogue(HistologieCatalogue.class),
+              catalogueFactory.catalogue(TumorausbreitungCatalogue.class),
+              catalogueFactory.catalogue(TumorgradingCatalogue.class),
+              catalogueFactory.catalogue(KeimbahndiagnoseCatalogue.class),
+              propertyCatalogue);
+
+      this.mtbEpisodeDataMapper = new MtbEpisodeDataMapper(kpaCatalogue);
+
+      this.prozedurMapper =
+          new KpaProzedurDataMapper(
+              catalogueFactory.catalogue(ProzedurCatalogue.class), propertyCatalogue);
+
+      this.kpaTherapielinieMapper =
+          new KpaTherapielinieDataMapper(
+              catalogueFactory.catalogue(TherapielinieCatalogue.class), propertyCatalogue);
+
+      this.kpaEcogMapper = new KpaEcogDataMapper(catalogueFactory.catalogue(EcogCatalogue.class));
+
+      var einzelempfehlungCatalogue = catalogueFactory.catalogue(EinzelempfehlungCatalogue.class);
+
+      var therapieplanCatalogue = catalogueFactory.catalogue(TherapieplanCatalogue.class);
+
+      this.therapieplanDataMapper =
+          new TherapieplanDataMapper(
+              therapieplanCatalogue,
+              catalogueFactory.catalogue(RebiopsieCatalogue.class),
+              catalogueFactory.catalogue(ReevaluationCatalogue.class),
+              einzelempfehlungCatalogue,
+              catalogueFactory.catalogue(MolekulargenuntersuchungCatalogue.class),
+              propertyCatalogue);
+
+      this.verwandteDataMapper =
+          new KpaVerwandteDataMapper(catalogueFactory.catalogue(VerwandteCatalogue.class));
+
+      var molekulargenetikCatalogue = catalogueFactory.catalogue(MolekulargenetikCatalogue.class);
+
+      this.molekulargenetikToSpecimenDataMapper =
+          new MolekulargenetikToSpecimenDataMapper(
+              molekulargenetikCatalogue,
+              therapieplanCatalogue,
+              catalogueFactory.catalogue(RebiopsieCatalogue.class),
+              catalogueFactory.catalogue(ReevaluationCatalogue.class),
+              einzelempfehlungCatalogue,
+              catalogueFactory.catalogue(VorbefundeCatalogue.class),
+              catalogueFactory.catalogue(HistologieCatalogue.class));
+
+      var pathologiebefundCatalogue = catalogueFactory.catalogue(PathologiebefundCatalogue.class);
+
+      this.pathologiebefundToSpecimenDataMapper =
+          new PathologiebefundToSpecimenDataMapper(
+              pathologiebefundCatalogue, catalogueFactory.catalogue(HistologieCatalogue.class));
+
+      this.molekulargenetikNgsDataMapper =
+          new MolekulargenetikNgsDataMapper(
+              molekulargenetikCatalogue,
+              catalogueFactory.catalogue(MolekulargenuntersuchungCatalogue.class),
+              propertyCatalogue,
+              tumorCellContentMethod);
+
+      this.molekulargenetikMsiDataMapper =
+          new MolekulargenetikMsiDataMapper(
+              catalogueFactory.catalogue(MolekulargenMsiCatalogue.class));
+
+      this.kpaVorbefundeDataMapper =
+          new KpaVorbefundeDataMapper(
+              catalogueFactory.catalogue(VorbefundeCatalogue.class),
+              molekulargenetikCatalogue,
+              propertyCatalogue);
+
+      this.kpaHistologieDataMapper =
+          new KpaHistologieDataMapper(
+              catalogueFactory.catalogue(HistologieCatalogue.class),
+              molekulargenetikCatalogue,
+              pathologiebefundCatalogue,
+              propertyCatalogue);
+
+      this.consentMvDataMapper =
+          new ConsentMvDataMapper(
+              catalogueFactory.catalogue(ConsentMvCatalogue.class),
+              catalogueFactory.catalogue(ConsentMvVerlaufCatalogue.class));
+
+      this.followUpTherapielinieMapper =
+          new FollowUpTherapielinieDataMapper(
+              catalogueFactory.catalogue(TherapielinieCatalogue.class),
+              einzelempfehlungCatalogue,
+              therapieplanCatalogue,
+              propertyCatalogue);
+
+      this.followUpDataMapper =
+          new FollowUpDataMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
+
+      this.followUpClaimMapper =
+          new FollowUpClaimMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
+
+      this.followUpClaimResponseMapper =
+          new FollowUpClaimResponseMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
+
+      this.followUpResponseBefundMapper =
+          new FollowUpResponseBefundMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
+
+      this.followUpEcogMapper =
+          new FollowUpEcogDataMapper(catalogueFactory.catalogue(FollowUpCatalogue.class));
+
+      this.therapiehistorieDataMapper =
+          new TherapiehistorieDataMapper(
+              followUpTherapielinieMapper,
+              therapieplanCatalogue,
+              einzelempfehlungCatalogue,
+              catalogueFactory.catalogue(FollowUpCatalogue.class),
+              catalogueFactory.catalogue(TherapielinieCatalogue.class));
+    }
+
+    private Mtb map(int kpaId, Sections sections) {
+      var context = ExportContext.create(catalogueFactory, kpaId);
+      var resultBuilder = Mtb.builder();
+
+      try {
+        var kpaPatientSection =
+            sections.submit(
+                "Mtb.patient",
+                () -> {
+                  var kpaPatient =
+                      Tracing.span(
+                          KpaPatientDataMapper.class,
+                          "getById",
+                          () -> kpaPatientDataMapper.getById(kpaId));
+                  var patient =
+                      Tracing.span(
+                          PatientDataMapper.class,
+                          "getById",
+                          () -> patientDataMapper.getById(Integer.parseInt(kpaPatient.getId())));
+                  kpaPatient.setId(patient.getId());
+                  kpaPatient.setAddress(patient.getAddress());
+                  return kpaPatient;
+                });
+
+        var molekulargenetikSpecimensSection =
+            sections.submit(
+                "Mtb.specimens (Molekulargenetik)",
+                () ->
+                    mapDiagnosisWithSpecimens(
+                        kpaId,
+                        diagnosisDataMapper,
+                        reference ->
+                            Tracing.span(
+                                MolekulargenetikToSpecimenDataMapper.class,
+                                "getAllByExportContext",
+                                () ->
+                                    molekulargenetikToSpecimenDataMapper.getAllByExportContext(
+                                        context, reference))));
+
+        var pathologiebefundSpecimensSection =
+            sections.submit(
+                "Mtb.specimens (Pathologiebefund)",
+                () ->
+                    mapDiagnosisWithSpecimens(
+                        kpaId,
+                        diagnosisDataMapper,
+                        reference ->
+                            Tracing.span(
+                                PathologiebefundToSpecimenDataMapper.class,
+                                "getAllByKpaId",
+                                () ->
+                                    pathologiebefundToSpecimenDataMapper.getAllByKpaId(
+                                        kpaId, reference))));
+
+        final var followUpIds = context.getFollowUpIds();
+
+        var followUpsSection =
+            sections.submit(
+                "Mtb.followUps",
+                () ->
+                    Tracing.span(
+                        FollowUpDataMapper.class,
+                        "getById",
+                        () ->
+                            followUpIds.stream()
+                                .map(followUpDataMapper::getById)
+                                .filter(Objects::nonNull)
+                                .collect(Collectors.toList())));
+
+        var claimsSection =
+            sections.submit(
+                "Mtb.claims",
+                () ->
+                    Tracing.span(
+                        FollowUpClaimMapper.class,
+                        "getById",
+                        () ->
+                            followUpIds.stream()
+                                .map(
+                                    id ->
+                                        tryAndLogWithResult(() -> followUpClaimMapper.getById(id))
+                                            .okOrNull())
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .collect(Collectors.toList())));
+
+        var claimResponsesSection =
+            sections.submit(
+                "Mtb.claimResponses",
+                () ->
+                    Tracing.span(
+                        FollowUpClaimResponseMapper.class,
+                        "getById",
+                        () ->
+                            followUpIds.stream()
+                                .map(
+                                    id ->
+                                        tryAndLogWithResult(
+                                                () -> followUpClaimResponseMapper.getById(id))
+                                            .okOrNull())
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .collect(Collectors.toList())));
+
+        var systemicTherapiesSection =
+            sections.submit(
+                "Mtb.systemicTherapies",
+                () ->
+                    Tracing.span(
+                        TherapiehistorieDataMapper.class,
+                        "getByExportContext",
+                        () -> therapiehistorieDataMapper.getByExportContext(context)));
+
+        var responsesSection =
+            sections.submit(
+                "Mtb.responses",
+                () ->
+                    Tracing.span(
+                        FollowUpResponseBefundMapper.class,
+                        "getById",
+                        () ->
+                            followUpIds.stream()
+                                .map(
+                                    id ->
+                                        tryAndLogWithResult(
+                                                () -> followUpResponseBefundMapper.getById(id))
+                                            .okOrNull())
+                                .filter(Objects::nonNull)
+                                .distinct()
+                                .collect(Collectors.toList())));
+
+        var ngsReportsSection =
+            sections.submit(
+                "Mtb.ngsReports",
+                () -> {
+                  final var histoMolGenIds =
+                      Tracing.span(
+                          KpaHistologieDataMapper.class,
+                          "getMolGenIdsFromHistoOfTypeSequence",
+                          () -> kpaHistologieDataMapper.getMolGenIdsFromHistoOfTypeSequence(kpaId));
+
+                  final var somaticNgsReports =
+                      Tracing.span(
+                          MolekulargenetikNgsDataMapper.class,
+                          "getAllByExportContextWithHisto",
+                          () ->
+                              molekulargenetikNgsDataMapper.getAllByExportContextWithHisto(
+                                  context, histoMolGenIds));
+
+                  var msiFindings =
+                      Tracing.span(
+                          MolekulargenetikMsiDataMapper.class,
+                          "getByParentId",
+                          () ->
+                              somaticNgsReports.stream()
+                                  .map(ngs -> Integer.parseInt(ngs.getId()))
+                                  .flatMap(
+                                      ngsId ->
+                                          molekulargenetikMsiDataMapper
+                                              .getByParentId(ngsId)
+                                              .stream())
+                                  // always filter incomplete MSI as not needed for MVH and
+                                  // interpretation not implemented
+                                  .filter(msi -> msi.getInterpretation() != null)
+                                  .collect(Collectors.toList()));
+
+                  return new Tuple2<>(somaticNgsReports, msiFindings);
+                });
+
+        var performanceStatusSection =
+            sections.submit(
+                "Mtb.performanceStatus",
+                () -> {
+                  var kpaEcogs =
+                      Tracing.span(
+                          KpaEcogDataMapper.class,
+                          "getByParentId",
+                          () -> kpaEcogMapper.getByParentId(kpaId));
+                  var followUpEcogs =
+                      Tracing.span(
+                          FollowUpEcogDataMapper.class,
+                          "getById",
+                          () ->
+                              followUpIds.stream()
+                                  .map(followUpEcogMapper::getById)
+                                  .collect(Collectors.toList()));
+                  return Stream.concat(kpaEcogs.stream(), followUpEcogs.stream())
+                      .filter(Objects::nonNull)
+                      .distinct()
+                      .collect(Collectors.toList());
+                });
+
+        var episodeOfCareSection =
+            sections.submit("Mtb.episodesOfCare", () -> mtbEpisodeDataMapper.getById(kpaId));
+        var familyMemberHistoriesSection =
+            sections.submit(
+                "Mtb.familyMemberHistories", () -> verwandteDataMapper.getByParentId(kpaId));
+        var priorDiagnosticReportsSection =
+            sections.submit(
+                "Mtb.priorDiagnosticReports", () -> kpaVorbefundeDataMapper.getByParentId(kpaId));
+        var histologyReportsSection =
+            sections.submit(
+                "Mtb.histologyReports", () -> kpaHistologieDataMapper.getByParentId(kpaId));
+        var carePlansSection =
+            sections.submit(
+                "Mtb.carePlans",
+                () ->
+                    context.getTherapieplanIds().stream()
+                        .map(therapieplanDataMapper::getById)
+                        .collect(Collectors.toList()));
+
+        var guidelineProceduresSection =
+            sections.submit(
+                "Mtb.guidelineProcedures",
+                () -> tryAndLogWithResult(() -> prozedurMapper.getByParentId(kpaId)).ok());
+        var guidelineTherapiesSection =
+            sections.submit(
+                "Mtb.guidelineTherapies",
+                () -> tryAndLogWithResult(() -> kpaTherapielinieMapper.getByParentId(kpaId)).ok());
+
+        var metadataSection = sections.submit("Mtb.metadata", () -> mapMetadata(kpaId));
+
+        // Assemble all sections in a fixed order
+        var kpaPatient = kpaPatientSection.get();
+
+        var specimens = new ArrayList<TumorSpecimen>();
+        for (var section :
+            List.of(molekulargenetikSpecimensSection, pathologiebefundSpecimensSection)) {
+          var diagnosisWithSpecimens = section.get();
+          // DNPM Klinik/Anamnese
+          diagnosisWithSpecimens
+              .get1()
+              .ifPresent(diagnosis -> resultBuilder.diagnoses(List.of(diagnosis)));
+          specimens.addAll(diagnosisWithSpecimens.get2());
+        }
+        resultBuilder.specimens(specimens);
+
+        var followUps = followUpsSection.get();
+        var claims = claimsSection.get();
+        var claimResponses = claimResponsesSection.get();
+        var systemicTherapies = systemicTherapiesSection.get();
+        var responses = responsesSection.get();
+        var ngsReports = ngsReportsSection.get();
+
+        resultBuilder
+            .patient(kpaPatient)
+            .episodesOfCare(List.of(episodeOfCareSection.get()))
+            .performanceStatus(performanceStatusSection.get())
+            .familyMemberHistories(familyMemberHistoriesSection.get())
+            // Vorbefunde
+            .priorDiagnosticReports(priorDiagnosticReportsSection.get())
+            // Histologie-Berichte
+            .histologyReports(histologyReportsSection.get())
+            // DNPM Therapieplan
+            .carePlans(carePlansSection.get())
+            // NGS Berichte
+            .ngsReports(ngsReports.get1())
+            // MSI Befunde
+            .msiFindings(ngsReports.get2())
+            // FollowUps mit Claims und Claim Responses
+            .followUps(followUps.isEmpty() ? null : followUps)
+            .claims(claims.isEmpty() ? null : claims)
+            .claimResponses(claimResponses.isEmpty() ? null : claimResponses)
+            // Therapie-Verlaufsdokumentation
+            .systemicTherapies(systemicTherapies.isEmpty() ? null : systemicTherapies)
+            // Response Befunde
+            .responses(responses.isEmpty() ? null : responses);
+
+        guidelineProceduresSection.get().ifPresent(resultBuilder::guidelineProcedures);
+        guidelineTherapiesSection.get().ifPresent(resultBuilder::guidelineTherapies);
+        metadataSection.get().ifPresent(resultBuilder::metadata);
+      } catch (DataAccessException e) {
+        logger.error("Error while getting Mtb.", e);
+        throw e;
+      } finally {
+        sections.await();
+      }
+
+      return resultBuilder.build();
+    }
+
+    private Optional<MvhMetadata> mapMetadata(int kpaId) {
+      var metadataBuilder = MvhMetadata.builder().type(MvhSubmissionType.INITIAL).transferTan("");
+
+      var consentId = kpaCatalogue.getById(kpaId).getInteger("consentmv64e");
+      var reasonMissingResearchConsent =
+          kpaCatalogue.getById(kpaId).getString("grundkeinbroadconsent");
+
+      // Consent - as far as present
+      if (null != consentId) {
+        metadataBuilder.modelProjectConsent(consentMvDataMapper.getById(consentId));
+      }
+
+      // Reason for missing research consent
+      if (null != reasonMissingResearchConsent && !reasonMissingResearchConsent.isBlank()) {
+        try {
+          metadataBuilder.reasonResearchConsentMissing(
+              ResearchConsentReasonMissing.forValue(reasonMissingResearchConsent));
+        } catch (IOException e) {
+          logger.warn(
+              "A reason for missing research consent is set but cannot be used: '{}'",
+              reasonMissingResearchConsent);
+        }
+      }
+
+      if (null != consentId
+          || (null != reasonMissingResearchConsent && !reasonMissingResearchConsent.isBlank())) {
+        return Optional.of(metadataBuilder.build());
+      }
+      return Optional.empty();
+    }
+  }
 }
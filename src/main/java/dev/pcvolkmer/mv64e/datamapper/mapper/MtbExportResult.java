@@ -0,0 +1,64 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.InstrumentedJdbcTemplate;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.QueryStatistics;
+import dev.pcvolkmer.mv64e.mtb.Mtb;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Result of mapping one single Mtb file including statistics of all queries executed to map the
+ * Mtb file
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+public final class MtbExportResult {
+
+  private final Mtb mtb;
+  private final QueryStatistics queryStatistics;
+
+  MtbExportResult(final Mtb mtb, final QueryStatistics queryStatistics) {
+    this.mtb = mtb;
+    this.queryStatistics = queryStatistics;
+  }
+
+  /**
+   * Get the mapped Mtb file
+   *
+   * @return The Mtb file
+   */
+  public Mtb getMtb() {
+    return mtb;
+  }
+
+  /**
+   * Get statistics of all queries executed to map the Mtb file. Statistics are only available if
+   * the mapper uses an {@link InstrumentedJdbcTemplate} and will be empty otherwise.
+   *
+   * @return The query statistics
+   */
+  public QueryStatistics getQueryStatistics() {
+    return queryStatistics;
+  }
+}
@@ -26,6 +26,7 @@ import dev.pcvolkmer.mv64e.datamapper.datacatalogues.PathologiebefundCatalogue;
 import dev.pcvolkmer.mv64e.mtb.*;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.NullMarked;
@@ -60,8 +61,11 @@ public class PathologiebefundToSpecimenDataMapper implements DataMapper<TumorSpe
   @NullMarked
   @Override
   public TumorSpecimen getById(int id) {
-    var data = pathologiebefundCatalogue.getById(id);
+    return this.map(pathologiebefundCatalogue.getById(id));
+  }
 
+  @NullMarked
+  private TumorSpecimen map(ResultSet data) {
     var builder = TumorSpecimen.builder();
     builder
         .id(data.getString("id"))
@@ -88,12 +92,10 @@ public class PathologiebefundToSpecimenDataMapper implements DataMapper<TumorSpe
     return histologieCatalogue.getAllByParentId(kpaId).stream()
         .map(rs -> rs.getInteger("histologie"))
         .filter(Objects::nonNull)
-        .filter(pathologiebefundCatalogue::isAvailable)
-        .map(pathologiebefundCatalogue::getById)
-        .map(ResultSet::getId)
-        .filter(Objects::nonNull)
         .distinct()
-        .map(this::getById)
+        .map(pathologiebefundCatalogue::findById)
+        .flatMap(Optional::stream)
+        .map(this::map)
         .peek(it -> it.setDiagnosis(diagnoseReferenz))
         .collect(Collectors.toList());
   }
@@ -0,0 +1,235 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.CatalogueCache;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.QueryStatistics;
+import dev.pcvolkmer.mv64e.datamapper.tracing.Tracing;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Runs independent sections of one Mtb file. Sections run on the calling thread one after another
+ * or concurrently using an executor with limited parallelism. The {@link CatalogueCache} open for
+ * the calling thread and the {@link QueryStatistics} recording for the calling thread are shared
+ * with all sections. Each section is traced as child span of the calling threads {@link Tracing}.
+ *
+ * <p>The calling thread never waits for a section that has not been started by the executor yet.
+ * Such a section will be run on the calling thread instead. This prevents a deadlock if the calling
+ * thread itself belongs to the executor and all of its threads are busy.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+@NullMarked
+final class Sections {
+
+  @Nullable private final Executor executor;
+  @Nullable private final Semaphore permits;
+  private final List<Task<?>> submitted = new ArrayList<>();
+
+  private Sections(@Nullable final Executor executor, final int parallelism) {
+    this.executor = executor;
+    this.permits = null == executor ? null : new Semaphore(parallelism);
+  }
+
+  /**
+   * Create sections running on the calling thread one after another
+   *
+   * @return The sections
+   */
+  static Sections sequential() {
+    return new Sections(null, 1);
+  }
+
+  /**
+   * Create sections running concurrently
+   *
+   * @param executor The executor to be used
+   * @param parallelism The maximum number of sections running at the same time
+   * @return The sections
+   */
+  static Sections concurrent(final Executor executor, final int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("The parallelism must be greater than zero");
+    }
+    return new Sections(executor, parallelism);
+  }
+
+  /**
+   * Submits a section. Sequential sections run immediately, exceptions are thrown on submission.
+   * If there is no free permit for a concurrent section, submitted sections not yet started by the
+   * executor will run on the calling thread until a permit is released. If the executor rejects
+   * the section, it will run on the calling thread.
+   *
+   * @param name The name of the section used as span name
+   * @param supplier The section
+   * @return The section result to be requested after all sections have been submitted
+   * @param <T> The type of the section result
+   */
+  <T> Section<T> submit(final String name, final Supplier<T> supplier) {
+    final var sectionExecutor = this.executor;
+    final var sectionPermits = this.permits;
+    if (null == sectionExecutor || null == sectionPermits) {
+      var value = Tracing.span(name, supplier);
+      return () -> value;
+    }
+
+    var cache = CatalogueCache.current();
+    var statistics = QueryStatistics.current();
+    var tracing = Tracing.current();
+    var task =
+        new Task<T>(
+            () -> {
+              try (var attached = null == cache ? null : cache.attach();
+                  var recording = null == statistics ? null : statistics.attach();
+                  var traced = null == tracing ? null : tracing.attach()) {
+                return Tracing.span(name, supplier);
+              } finally {
+                sectionPermits.release();
+              }
+            });
+
+    while (!sectionPermits.tryAcquire()) {
+      if (!runPendingTask()) {
+        // All sections holding a permit have been started and will release it
+        sectionPermits.acquireUninterruptibly();
+        break;
+      }
+    }
+    submitted.add(task);
+    try {
+      sectionExecutor.execute(task);
+    } catch (RejectedExecutionException e) {
+      task.run();
+    }
+
+    return task::get;
+  }
+
+  private boolean runPendingTask() {
+    for (var task : submitted) {
+      if (task.tryRun()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Waits until all submitted sections are done regardless of their results. This ensures no
+   * section uses the shared cache after it has been closed.
+   */
+  void await() {
+    submitted.forEach(
+        task -> {
+          task.run();
+          try {
+            task.future.join();
+          } catch (CompletionException e) {
+            // Result or exception is requested using the section
+          }
+        });
+  }
+
+  /**
+   * A section task to be run once, either by the executor or by the calling thread
+   *
+   * @param <T> The type of the section result
+   */
+  private static final class Task<T> implements Runnable {
+    private final Supplier<T> supplier;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+
+    private Task(final Supplier<T> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public void run() {
+      tryRun();
+    }
+
+    /**
+     * Runs the section if it has not been started yet
+     *
+     * @return true if the section has been run by this call
+     */
+    boolean tryRun() {
+      if (!started.compareAndSet(false, true)) {
+        return false;
+      }
+      try {
+        future.complete(supplier.get());
+      } catch (RuntimeException | Error e) {
+        future.completeExceptionally(e);
+      }
+      return true;
+    }
+
+    /**
+     * Get the section result. Runs the section on the calling thread if it has not been started
+     * yet, otherwise waits for the section to complete.
+     *
+     * @return The section result
+     */
+    T get() {
+      tryRun();
+      try {
+        return future.join();
+      } catch (CompletionException e) {
+        var cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Result of a submitted section
+   *
+   * @param <T> The type of the section result
+   */
+  @FunctionalInterface
+  interface Section<T> {
+
+    /**
+     * Get the section result. Waits for the section to complete if necessary.
+     *
+     * @return The section result
+     */
+    T get();
+  }
+}
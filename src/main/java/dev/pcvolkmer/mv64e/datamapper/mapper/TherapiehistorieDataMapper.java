@@ -67,15 +67,33 @@ public class TherapiehistorieDataMapper implements DataMapper<List<SystemicThera
   @NullMarked
   @Override
   public List<SystemicTherapy> getById(int id) {
-    return therapieplanCatalogue.getByKpaId(id).stream()
-        .flatMap(
-            carePlanId ->
-                this.einzelempfehlungCatalogue.getAllByParentId(carePlanId).stream()
-                    .filter(it -> "systemisch".equals(it.getString("empfehlungskategorie")))
-                    .map(ResultSet::getId)
-                    .distinct()
-                    .filter(Objects::nonNull)
-                    .map(this::mapSystemicTherapiesFromRecommendation))
+    return map(
+        therapieplanCatalogue.getByKpaId(id).stream()
+            .flatMap(
+                carePlanId -> this.einzelempfehlungCatalogue.getAllByParentId(carePlanId).stream())
+            .collect(Collectors.toList()));
+  }
+
+  /**
+   * Loads and maps systemic therapies using the export context of the KPA procedure
+   *
+   * @param context The export context of the KPA procedure data set
+   * @return The loaded systemic therapies
+   * @since 0.10
+   */
+  @NullMarked
+  public List<SystemicTherapy> getByExportContext(ExportContext context) {
+    return map(context.getEinzelempfehlungen());
+  }
+
+  @NullMarked
+  private List<SystemicTherapy> map(List<ResultSet> einzelempfehlungen) {
+    return einzelempfehlungen.stream()
+        .filter(it -> "systemisch".equals(it.getString("empfehlungskategorie")))
+        .map(ResultSet::getId)
+        .distinct()
+        .filter(Objects::nonNull)
+        .map(this::mapSystemicTherapiesFromRecommendation)
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
   }
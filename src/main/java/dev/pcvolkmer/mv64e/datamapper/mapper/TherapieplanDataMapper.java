@@ -21,6 +21,8 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import dev.pcvolkmer.mv64e.datamapper.PropertyCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.PropertyColumn;
+import dev.pcvolkmer.mv64e.datamapper.PropertyValue;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.*;
 import dev.pcvolkmer.mv64e.datamapper.exceptions.IgnorableMappingException;
 import dev.pcvolkmer.mv64e.mtb.*;
@@ -40,6 +42,8 @@ import org.jspecify.annotations.Nullable;
  */
 public class TherapieplanDataMapper implements DataMapper<MtbCarePlan> {
 
+  private static final PropertyColumn HUMANGEN_BER_GRUND = PropertyColumn.of("humangen_ber_grund");
+
   private final TherapieplanCatalogue therapieplanCatalogue;
   private final RebiopsieCatalogue rebiopsieCatalogue;
   private final ReevaluationCatalogue reevaluationCatalogue;
@@ -140,8 +144,7 @@ public class TherapieplanDataMapper implements DataMapper<MtbCarePlan> {
               .issuedOn(therapieplanData.getDate("datum_tk_humangenber"))
               .reason(
                   getGeneticCounselingRecommendationReasonCoding(
-                      therapieplanData.getString("humangen_ber_grund"),
-                      therapieplanData.getInteger("humangen_ber_grund_propcat_version")))
+                      therapieplanData.getProperty(HUMANGEN_BER_GRUND)))
               .build());
     }
 
@@ -185,14 +188,12 @@ public class TherapieplanDataMapper implements DataMapper<MtbCarePlan> {
 
   @Nullable
   private GeneticCounselingRecommendationReasonCoding
-      getGeneticCounselingRecommendationReasonCoding(
-          @Nullable String value, @Nullable Integer version) {
-    if (value == null
-        || version == null
+      getGeneticCounselingRecommendationReasonCoding(@Nullable PropertyValue property) {
+    if (property == null
         || !Arrays.stream(GeneticCounselingRecommendationReasonCodingCode.values())
             .map(GeneticCounselingRecommendationReasonCodingCode::toValue)
             .collect(Collectors.toSet())
-            .contains(value)) {
+            .contains(property.getCode())) {
       return null;
     }
 
@@ -200,8 +201,12 @@ public class TherapieplanDataMapper implements DataMapper<MtbCarePlan> {
         GeneticCounselingRecommendationReasonCoding.builder()
             .system("dnpm-dip/mtb/recommendation/genetic-counseling/reason");
     try {
-      resultBuilder.code(GeneticCounselingRecommendationReasonCodingCode.forValue(value));
-      resultBuilder.display(propertyCatalogue.getByCodeAndVersion(value, version).getShortdesc());
+      resultBuilder.code(
+          GeneticCounselingRecommendationReasonCodingCode.forValue(property.getCode()));
+      resultBuilder.display(
+          propertyCatalogue
+              .getByCodeAndVersion(property.getCode(), property.getVersion())
+              .getShortdesc());
     } catch (IOException e) {
       return null;
     }
@@ -0,0 +1,62 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.tracing;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Tracer to be notified about each stage of mapping a Mtb file. Stages are represented by
+ * hierarchical spans: the Mtb file, its sections, the sub-mappers used by a section and the data
+ * catalogue requests of a sub-mapper.
+ *
+ * <p>Implementations must be thread-safe, spans might be started and ended on different threads
+ * at the same time. Each span is ended on the thread it has been started on.
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public interface ExportTracer {
+
+  /**
+   * Starts a new span
+   *
+   * @param name The name of the span, e.g. {@code KpaCatalogue.getById}
+   * @param parent The parent span or null for a root span
+   * @return The started span
+   */
+  Span startSpan(String name, @Nullable Span parent);
+
+  /**
+   * Get a tracer ignoring all spans
+   *
+   * @return The tracer
+   */
+  static ExportTracer noop() {
+    return NoopExportTracer.INSTANCE;
+  }
+
+  /** A started span */
+  interface Span {
+
+    /** Ends the span */
+    void end();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.tracing;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Tracer ignoring all spans
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+final class NoopExportTracer implements ExportTracer {
+
+  static final NoopExportTracer INSTANCE = new NoopExportTracer();
+
+  private static final Span SPAN = () -> {};
+
+  private NoopExportTracer() {}
+
+  @Override
+  public Span startSpan(final String name, @Nullable final Span parent) {
+    return SPAN;
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.tracing;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Tracer recording a tree of spans with wall time and an estimate of the memory allocated by the
+ * thread a span has been executed on. Memory allocated by child spans executed on other threads is
+ * not included in the estimate of the parent span.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * var tracer = RecordingExportTracer.create();
+ * var mapper = MtbDataMapper.create(dataSource).tracer(tracer);
+ * mapper.getById(kpaId);
+ * logger.info(TraceRenderer.toText(tracer.getSpans()));
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public final class RecordingExportTracer implements ExportTracer {
+
+  @Nullable private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+  private final List<RecordedSpan> spans = new CopyOnWriteArrayList<>();
+
+  private RecordingExportTracer() {}
+
+  /**
+   * Create a new recording tracer
+   *
+   * @return The tracer
+   */
+  public static RecordingExportTracer create() {
+    return new RecordingExportTracer();
+  }
+
+  @Override
+  public Span startSpan(final String name, @Nullable final Span parent) {
+    var span = new RecordedSpan(name, Thread.currentThread().getName());
+    if (parent instanceof RecordedSpan) {
+      ((RecordedSpan) parent).children.add(span);
+    } else {
+      spans.add(span);
+    }
+    return span;
+  }
+
+  /**
+   * Get all recorded root spans in order of their start
+   *
+   * @return The recorded root spans
+   */
+  public List<RecordedSpan> getSpans() {
+    return List.copyOf(spans);
+  }
+
+  /** Removes all recorded spans */
+  public void clear() {
+    spans.clear();
+  }
+
+  @Nullable
+  private static com.sun.management.ThreadMXBean threadMXBean() {
+    try {
+      var bean = ManagementFactory.getThreadMXBean();
+      if (bean instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+        return (com.sun.management.ThreadMXBean) bean;
+      }
+    } catch (LinkageError | SecurityException e) {
+      // Allocation estimates are not available on this platform
+    }
+    return null;
+  }
+
+  private static long allocatedBytes() {
+    var threads = THREADS;
+    if (null == threads || !threads.isThreadAllocatedMemoryEnabled()) {
+      return -1;
+    }
+    return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /** A recorded span */
+  public static final class RecordedSpan implements Span {
+
+    private final String name;
+    private final String thread;
+    private final Instant start;
+    private final long startNanos;
+    private final long startAllocatedBytes;
+    private final List<RecordedSpan> children = new CopyOnWriteArrayList<>();
+    private volatile long durationNanos = -1;
+    private volatile long allocatedBytes = -1;
+
+    private RecordedSpan(final String name, final String thread) {
+      this.name = name;
+      this.thread = thread;
+      this.start = Instant.now();
+      this.startNanos = System.nanoTime();
+      this.startAllocatedBytes = allocatedBytes();
+    }
+
+    @Override
+    public void end() {
+      if (durationNanos >= 0) {
+        return;
+      }
+      var endAllocatedBytes = allocatedBytes();
+      if (startAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+        this.allocatedBytes = endAllocatedBytes - startAllocatedBytes;
+      }
+      this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Get the name of the span
+     *
+     * @return The name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Get the name of the thread the span has been executed on
+     *
+     * @return The thread name
+     */
+    public String getThread() {
+      return thread;
+    }
+
+    /**
+     * Get the start of the span
+     *
+     * @return The start
+     */
+    public Instant getStart() {
+      return start;
+    }
+
+    /**
+     * Get the wall time of the span
+     *
+     * @return The wall time or null if the span has not been ended
+     */
+    @Nullable
+    public Duration getDuration() {
+      var nanos = durationNanos;
+      return nanos < 0 ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Get the estimated number of bytes allocated by the thread the span has been executed on
+     *
+     * @return The number of bytes or -1 if there is no estimate available
+     */
+    public long getAllocatedBytes() {
+      return allocatedBytes;
+    }
+
+    /**
+     * Get the child spans in order of their start
+     *
+     * @return The child spans
+     */
+    public List<RecordedSpan> getChildren() {
+      return List.copyOf(children);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.pcvolkmer.mv64e.datamapper.tracing.RecordingExportTracer.RecordedSpan;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Renders recorded spans as indented text or as JSON to diagnose slow Mtb files offline
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public final class TraceRenderer {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private TraceRenderer() {}
+
+  /**
+   * Renders spans as text, one line for each span with child spans indented
+   *
+   * @param spans The root spans
+   * @return The rendered text
+   */
+  public static String toText(final List<RecordedSpan> spans) {
+    var result = new StringBuilder();
+    spans.forEach(span -> appendText(result, span, 0));
+    return result.toString();
+  }
+
+  /**
+   * Renders spans as JSON array. Each span contains its name, thread, start, wall time in
+   * milliseconds, estimated allocated bytes and child spans.
+   *
+   * @param spans The root spans
+   * @return The rendered JSON
+   */
+  public static String toJson(final List<RecordedSpan> spans) {
+    var result = OBJECT_MAPPER.createArrayNode();
+    spans.forEach(span -> appendJson(result, span));
+    try {
+      return OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(result);
+    } catch (JsonProcessingException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void appendText(
+      final StringBuilder result, final RecordedSpan span, final int depth) {
+    var duration = span.getDuration();
+    result
+        .append("  ".repeat(depth))
+        .append(span.getName())
+        .append(": ")
+        .append(null == duration ? "not ended" : duration.toMillis() + " ms");
+    if (span.getAllocatedBytes() >= 0) {
+      result.append(", ").append(span.getAllocatedBytes() / 1024).append(" KiB allocated");
+    }
+    result.append(" [").append(span.getThread()).append(']').append(System.lineSeparator());
+    span.getChildren().forEach(child -> appendText(result, child, depth + 1));
+  }
+
+  private static void appendJson(final ArrayNode result, final RecordedSpan span) {
+    var duration = span.getDuration();
+    ObjectNode node =
+        result
+            .addObject()
+            .put("name", span.getName())
+            .put("thread", span.getThread())
+            .put("start", span.getStart().toString());
+    if (null == duration) {
+      node.putNull("durationMillis");
+    } else {
+      node.put("durationMillis", duration.toNanos() / 1_000_000.0);
+    }
+    node.put("allocatedBytes", span.getAllocatedBytes());
+    var children = node.putArray("children");
+    span.getChildren().forEach(child -> appendJson(children, child));
+  }
+}
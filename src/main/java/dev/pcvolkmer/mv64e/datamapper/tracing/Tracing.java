@@ -0,0 +1,152 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.tracing;
+
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Tracing of the current thread. While tracing is started for the current thread, mapping stages
+ * wrapped using {@link #span(String, Supplier)} are reported as child spans of the current span to
+ * the {@link ExportTracer} in use. Without started tracing, mapping stages are executed without
+ * any span.
+ *
+ * <p>Usage:
+ *
+ * <pre>{@code
+ * try (var tracing = Tracing.start(tracer, "Mtb")) {
+ *   // All spans within this block are children of span "Mtb"
+ *   var result = Tracing.span("Stage", () -> stage());
+ * }
+ * }</pre>
+ *
+ * @author Paul-Christian Volkmer
+ * @since 0.10
+ */
+public final class Tracing implements AutoCloseable {
+
+  private static final ThreadLocal<Tracing> CURRENT = new ThreadLocal<>();
+
+  private final ExportTracer tracer;
+  private final ExportTracer.Span span;
+  private final boolean owner;
+  @Nullable private final Tracing previous;
+
+  private Tracing(
+      final ExportTracer tracer,
+      final ExportTracer.Span span,
+      final boolean owner,
+      @Nullable final Tracing previous) {
+    this.tracer = tracer;
+    this.span = span;
+    this.owner = owner;
+    this.previous = previous;
+  }
+
+  /**
+   * Starts a span for the current thread. The span is a child of the current span if the current
+   * thread already uses the same tracer, otherwise it is a root span.
+   *
+   * @param tracer The tracer to be used
+   * @param name The name of the span
+   * @return The started tracing to be closed to end the span
+   */
+  public static Tracing start(final ExportTracer tracer, final String name) {
+    var current = CURRENT.get();
+    var parent = null != current && current.tracer == tracer ? current.span : null;
+    var tracing = new Tracing(tracer, tracer.startSpan(name, parent), true, current);
+    CURRENT.set(tracing);
+    return tracing;
+  }
+
+  /**
+   * Executes the given supplier within a child span of the current span. If tracing has not been
+   * started for the current thread, the supplier is executed without any span.
+   *
+   * @param name The name of the span
+   * @param supplier The supplier to be executed
+   * @return The result of the supplier
+   * @param <T> The result type
+   */
+  public static <T> T span(final String name, final Supplier<T> supplier) {
+    var current = CURRENT.get();
+    if (null == current) {
+      return supplier.get();
+    }
+    try (var tracing = start(current.tracer, name)) {
+      return supplier.get();
+    }
+  }
+
+  /**
+   * Executes the given supplier within a child span of the current span named after the source
+   * class and method, e.g. {@code KpaCatalogue.getById}. If tracing has not been started for the
+   * current thread, the supplier is executed without any span.
+   *
+   * @param source The class executing the supplier
+   * @param method The name of the method
+   * @param supplier The supplier to be executed
+   * @return The result of the supplier
+   * @param <T> The result type
+   */
+  public static <T> T span(final Class<?> source, final String method, final Supplier<T> supplier) {
+    if (null == CURRENT.get()) {
+      return supplier.get();
+    }
+    return span(source.getSimpleName() + "." + method, supplier);
+  }
+
+  /**
+   * Get the tracing started for the current thread, e.g. to share it with worker threads using
+   * {@link #attach()}
+   *
+   * @return The tracing or null if tracing has not been started
+   */
+  @Nullable
+  public static Tracing current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Uses the span of this tracing as current span of the current thread, e.g. to trace mapping
+   * stages executed by worker threads. Closing the returned instance does not end the span.
+   *
+   * @return The attached tracing
+   */
+  public Tracing attach() {
+    var attached = new Tracing(tracer, span, false, CURRENT.get());
+    CURRENT.set(attached);
+    return attached;
+  }
+
+  /** Ends the span if it has been started by this instance and restores the previous tracing */
+  @Override
+  public void close() {
+    if (owner) {
+      span.end();
+    }
+    if (null == previous) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyCatalogueStoreTest {
+
+  PropertyCatalogueStore store;
+
+  @BeforeEach
+  void setUp() {
+    var builder = new PropertyCatalogueStore.Builder();
+    builder.add(1, "C00.0", "Lippe", "Bösartige Neubildung der Lippe", "1.2.3", "2019");
+    builder.add(1, "C00.1", "Lippe", "Bösartige Neubildung der Lippe", "1.2.3", "2019");
+    builder.add(2, "C00.0", "Lippe", null, null, null);
+    builder.addVersion(3);
+    this.store = builder.build();
+  }
+
+  @Test
+  void shouldFindEntries() {
+    assertThat(store.size()).isEqualTo(3);
+    assertThat(store.getVersions()).isEqualTo(List.of(1, 2, 3));
+
+    assertThat(store.find("C00.1", 1))
+        .hasValueSatisfying(
+            entry -> {
+              assertThat(entry.getCode()).isEqualTo("C00.1");
+              assertThat(entry.getShortdesc()).isEqualTo("Lippe");
+              assertThat(entry.getDescription()).isEqualTo("Bösartige Neubildung der Lippe");
+              assertThat(entry.getVersionOid()).isEqualTo("1.2.3");
+              assertThat(entry.getVersionDescription()).isEqualTo("2019");
+            });
+    assertThat(store.find("C00.0", 2))
+        .hasValueSatisfying(entry -> assertThat(entry.getDescription()).isNull());
+  }
+
+  @Test
+  void shouldNotFindUnknownEntries() {
+    assertThat(store.find("C00.1", 2)).isEmpty();
+    assertThat(store.find("C99.9", 1)).isEmpty();
+    assertThat(store.containsVersion(3)).isTrue();
+    assertThat(store.containsVersion(4)).isFalse();
+  }
+
+  @Test
+  void shouldFindEntriesIgnoringCaseOfCode() {
+    assertThat(store.find("c00.1", 1))
+        .hasValueSatisfying(entry -> assertThat(entry.getCode()).isEqualTo("C00.1"));
+    assertThat(store.find("c00.0", 2)).isPresent();
+  }
+
+  @Test
+  void shouldWriteAndReadSnapshot(@TempDir Path tempDir) throws IOException {
+    var file = tempDir.resolve("propcat.bin");
+
+    store.writeTo(file);
+    var actual = PropertyCatalogueStore.readFrom(file);
+
+    assertThat(actual.size()).isEqualTo(3);
+    assertThat(actual.getVersions()).isEqualTo(List.of(1, 2, 3));
+    assertThat(actual.find("C00.0", 1))
+        .hasValueSatisfying(
+            entry ->
+                assertThat(entry.getDescription()).isEqualTo("Bösartige Neubildung der Lippe"));
+    assertThat(actual.find("c00.1", 1)).isPresent();
+  }
+
+  @Test
+  void shouldNotReadInvalidSnapshot(@TempDir Path tempDir) throws IOException {
+    var file = tempDir.resolve("propcat.bin");
+    Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+    assertThrows(IOException.class, () -> PropertyCatalogueStore.readFrom(file));
+  }
+
+  @Test
+  void shouldLoadRequestedVersions(@Mock JdbcTemplate jdbcTemplate) {
+    var actual = PropertyCatalogueStore.load(jdbcTemplate, List.of(2, 1, 2));
+
+    var captor = ArgumentCaptor.forClass(String.class);
+    verify(jdbcTemplate)
+        .query(captor.capture(), any(RowCallbackHandler.class), any(Object[].class));
+
+    assertThat(captor.getValue())
+        .isEqualTo(
+            "SELECT e.property_version_id, code, shortdesc, e.description, v.oid AS version_oid, v.description AS version_description FROM property_catalogue_version_entry e JOIN property_catalogue_version v ON (e.property_version_id = v.id) WHERE e.property_version_id IN (?, ?)");
+    assertThat(actual.getVersions()).isEqualTo(List.of(1, 2));
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyCatalogueTest {
+
+  @Test
+  void shouldCacheEntries(@Mock JdbcTemplate jdbcTemplate) {
+    when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt()))
+        .thenReturn(new PropertyCatalogue.Entry("C00.0", "Lippe", "Lippe"));
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+
+    assertThat(catalogue.getByCodeAndVersion("C00.0", 1).getShortdesc()).isEqualTo("Lippe");
+    assertThat(catalogue.getByCodeAndVersion("C00.0", 1).getShortdesc()).isEqualTo("Lippe");
+
+    verify(jdbcTemplate, times(1))
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+    assertThat(catalogue.getCacheStatistics().getHitCount()).isEqualTo(1);
+    assertThat(catalogue.getCacheStatistics().getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheMissingEntries(@Mock JdbcTemplate jdbcTemplate) {
+    when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt()))
+        .thenThrow(new EmptyResultDataAccessException(1));
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+
+    assertThrows(DataAccessException.class, () -> catalogue.getByCodeAndVersion("X", 1));
+    assertThrows(DataAccessException.class, () -> catalogue.getByCodeAndVersion("X", 1));
+
+    verify(jdbcTemplate, times(1))
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+  }
+
+  @Test
+  void shouldNotCacheFailedRequests(@Mock JdbcTemplate jdbcTemplate) {
+    when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt()))
+        .thenThrow(new IllegalStateException("Test"));
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+
+    assertThrows(DataAccessException.class, () -> catalogue.getByCodeAndVersion("X", 1));
+    assertThrows(DataAccessException.class, () -> catalogue.getByCodeAndVersion("X", 1));
+
+    verify(jdbcTemplate, times(2))
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+  }
+
+  @Test
+  void shouldPrefetchEntriesUsingOneQueryPerVersion(@Mock JdbcTemplate jdbcTemplate) {
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class)))
+        .thenReturn(List.of(new PropertyCatalogue.Entry("C00.0", "Lippe", "Lippe")));
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+    catalogue.prefetch(
+        List.of(PropertyValue.of("C00.0", 1), PropertyValue.of("X", 1), PropertyValue.of("X", 1)));
+
+    assertThat(catalogue.getByCodeAndVersion("C00.0", 1).getShortdesc()).isEqualTo("Lippe");
+    assertThrows(DataAccessException.class, () -> catalogue.getByCodeAndVersion("X", 1));
+
+    var captor = ArgumentCaptor.forClass(String.class);
+    verify(jdbcTemplate, times(1))
+        .query(captor.capture(), any(RowMapper.class), any(Object[].class));
+    assertThat(captor.getValue()).endsWith("WHERE property_version_id = ? AND code IN (?, ?)");
+    verify(jdbcTemplate, never())
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+  }
+
+  @Test
+  void shouldNotPrefetchCachedEntries(@Mock JdbcTemplate jdbcTemplate) {
+    when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt()))
+        .thenReturn(new PropertyCatalogue.Entry("C00.0", "Lippe", "Lippe"));
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+    catalogue.getByCodeAndVersion("C00.0", 1);
+    catalogue.prefetch(List.of(PropertyValue.of("C00.0", 1)));
+
+    verify(jdbcTemplate, never()).query(anyString(), any(RowMapper.class), any(Object[].class));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries(@Mock JdbcTemplate jdbcTemplate) {
+    doAnswer(
+            invocationOnMock -> {
+              var code = invocationOnMock.getArgument(2, String.class);
+              return new PropertyCatalogue.Entry(code, code, code);
+            })
+        .when(jdbcTemplate)
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 2);
+
+    catalogue.getByCodeAndVersion("A", 1);
+    catalogue.getByCodeAndVersion("B", 1);
+    catalogue.getByCodeAndVersion("A", 1);
+    catalogue.getByCodeAndVersion("C", 1);
+    // "B" has been evicted
+    catalogue.getByCodeAndVersion("A", 1);
+    catalogue.getByCodeAndVersion("B", 1);
+
+    verify(jdbcTemplate, times(4))
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+    assertThat(catalogue.getCacheStatistics().getSize()).isEqualTo(2);
+    assertThat(catalogue.getCacheStatistics().getEvictionCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldInvalidateCache(@Mock JdbcTemplate jdbcTemplate) {
+    when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt()))
+        .thenReturn(new PropertyCatalogue.Entry("C00.0", "Lippe", "Lippe"));
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+
+    catalogue.getByCodeAndVersion("C00.0", 1);
+    catalogue.invalidateCache();
+    catalogue.getByCodeAndVersion("C00.0", 1);
+
+    verify(jdbcTemplate, times(2))
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+  }
+
+  @Test
+  void shouldUseStoreForContainedVersions(@Mock JdbcTemplate jdbcTemplate) {
+    var builder = new PropertyCatalogueStore.Builder();
+    builder.add(1, "C00.0", "Lippe", "Lippe", null, null);
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+    catalogue.useStore(builder.build());
+
+    assertThat(catalogue.getByCodeAndVersion("C00.0", 1).getShortdesc()).isEqualTo("Lippe");
+    assertThrows(DataAccessException.class, () -> catalogue.getByCodeAndVersion("X", 1));
+
+    verify(jdbcTemplate, never())
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+  }
+
+  @Test
+  void shouldFallbackToDatabaseForUnknownVersions(@Mock JdbcTemplate jdbcTemplate) {
+    when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt()))
+        .thenReturn(new PropertyCatalogue.Entry("C00.0", "Lippe", "Lippe"));
+
+    var builder = new PropertyCatalogueStore.Builder();
+    builder.add(1, "C00.0", "Lippe", "Lippe", null, null);
+
+    var catalogue = new PropertyCatalogue(jdbcTemplate, 10);
+    catalogue.useStore(builder.build());
+
+    assertThat(catalogue.getByCodeAndVersion("C00.0", 2).getShortdesc()).isEqualTo("Lippe");
+
+    verify(jdbcTemplate, times(1))
+        .queryForObject(anyString(), any(RowMapper.class), anyString(), anyInt());
+  }
+}
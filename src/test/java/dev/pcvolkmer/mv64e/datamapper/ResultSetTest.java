@@ -25,8 +25,11 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -42,6 +45,33 @@ class ResultSetTest {
     assertThat(data.getString("int")).isEqualTo("42");
   }
 
+  @Test
+  void shouldReturnTrimmedStringWithoutCopy() {
+    var value = "TestString";
+    var data = ResultSet.from(Map.of("string", value, "padded", " TestString "));
+
+    assertThat(data.getString("string")).isSameAs(value);
+    assertThat(data.getString("padded")).isEqualTo("TestString");
+  }
+
+  @Test
+  void shouldRemoveInvalidCodePoints() {
+    var data = ResultSet.from(Map.of("string", "Test\uD800String \uD83D\uDE00"));
+
+    assertThat(data.getString("string")).isEqualTo("TestString \uD83D\uDE00");
+  }
+
+  @Test
+  void shouldMemoizeSanitizedStringValues() {
+    var data = ResultSet.from(new HashMap<>(Map.of("string", "Test\uD800String")));
+
+    var first = data.getString("string");
+    assertThat(data.getString("string")).isSameAs(first);
+
+    data.getRawData().put("string", "Other\uD800String");
+    assertThat(data.getString("string")).isEqualTo("OtherString");
+  }
+
   @Test
   void shouldReturnIntegerValues() {
     var data = getTestData();
@@ -71,6 +101,58 @@ class ResultSetTest {
         .isEqualTo(new Date(Date.from(Instant.parse("2025-06-21T00:00:00Z")).getTime()));
   }
 
+  @Test
+  void shouldReturnLocalDateValues() {
+    var data =
+        ResultSet.from(
+            Map.of(
+                "date",
+                Date.valueOf("2025-06-21"),
+                "timestamp",
+                Timestamp.valueOf("2025-06-21 23:59:59"),
+                "localdate",
+                LocalDate.of(2025, 6, 21)));
+
+    assertThat(data.getLocalDate("date")).isEqualTo(LocalDate.of(2025, 6, 21));
+    assertThat(data.getLocalDate("timestamp")).isEqualTo(LocalDate.of(2025, 6, 21));
+    assertThat(data.getLocalDate("localdate")).isEqualTo(LocalDate.of(2025, 6, 21));
+    assertThat(data.getLocalDate("null")).isNull();
+  }
+
+  @Test
+  void shouldReturnDateValuesOfAllDateTypes() {
+    var expected = java.util.Date.from(Instant.parse("2025-06-21T00:00:00Z"));
+    var data =
+        ResultSet.from(
+            Map.of(
+                "timestamp",
+                Timestamp.valueOf("2025-06-21 23:59:59"),
+                "localdate",
+                LocalDate.of(2025, 6, 21)));
+
+    assertThat(data.getDate("timestamp")).isEqualTo(expected);
+    assertThat(data.getDate("localdate")).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldMemoizeConvertedDateValues() {
+    var data = ResultSet.from(new HashMap<>(Map.of("date", Date.valueOf("2025-06-21"))));
+
+    var first = data.getLocalDate("date");
+    assertThat(data.getLocalDate("date")).isSameAs(first);
+    assertThat(data.getDate("date")).isNotSameAs(data.getDate("date"));
+
+    data.getRawData().put("date", Date.valueOf("2025-06-22"));
+    assertThat(data.getLocalDate("date")).isEqualTo(LocalDate.of(2025, 6, 22));
+  }
+
+  @Test
+  void shouldNotConvertStringToDate() {
+    var data = getTestData();
+
+    assertThrows(IllegalArgumentException.class, () -> data.getLocalDate("string"));
+  }
+
   @Test
   void shouldHandleBooleanValues() {
     var data = getTestData();
@@ -208,6 +290,36 @@ class ResultSetTest {
     assertThat(data.getParentId()).isEqualTo(11);
   }
 
+  @Test
+  void shouldBeEqualIfIdsAreEqual() {
+    var first = ResultSet.from(Map.of("id", 22, "string", "TestString"));
+    var second = ResultSet.from(Map.of("id", 22, "string", "OtherString"));
+    var third = ResultSet.from(Map.of("id", 23, "string", "TestString"));
+
+    assertThat(first).isEqualTo(second).hasSameHashCodeAs(second).isNotEqualTo(third);
+  }
+
+  @Test
+  void shouldBeEqualIfAllValuesAreEqualWithoutId() {
+    var first = ResultSet.from(Map.of("string", "TestString"));
+    var second = ResultSet.from(Map.of("string", "TestString"));
+    var third = ResultSet.from(Map.of("string", "OtherString"));
+
+    assertThat(first).isEqualTo(second).hasSameHashCodeAs(second).isNotEqualTo(third);
+  }
+
+  @Test
+  void shouldReturnPropertyValue() {
+    var data = getTestData();
+
+    assertThat(data.getProperty(PropertyColumn.of("evidenzlevel")))
+        .isEqualTo(PropertyValue.of("1", 1234));
+    assertThat(data.getProperty(PropertyColumn.of("string"))).isNull();
+    assertThat(PropertyColumn.of("evidenzlevel")).isSameAs(PropertyColumn.of("evidenzlevel"));
+    assertThat(PropertyColumn.of("evidenzlevel").getVersionName())
+        .isEqualTo("evidenzlevel_propcat_version");
+  }
+
   static ResultSet getTestData() {
     return ResultSet.from(
         Map.of(
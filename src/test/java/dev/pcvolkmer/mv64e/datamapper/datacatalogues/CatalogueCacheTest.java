@@ -0,0 +1,240 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueCacheTest {
+
+  JdbcTemplate jdbcTemplate;
+  EinzelempfehlungCatalogue catalogue;
+
+  @BeforeEach
+  void setUp(@Mock JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.catalogue = EinzelempfehlungCatalogue.create(jdbcTemplate);
+  }
+
+  private void mockQueryResult() {
+    doAnswer(
+            invocationOnMock -> {
+              var sql = invocationOnMock.getArgument(0, String.class);
+              ArrayList<Map<String, Object>> result = new ArrayList<>();
+              if (!sql.contains("_merkmale")) {
+                var map = new HashMap<String, Object>();
+                map.put("id", 1);
+                map.put("hauptprozedur_id", 42);
+                result.add(map);
+              }
+              return result;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowMapper.class), anyInt());
+  }
+
+  @Test
+  void shouldNotCacheWithoutOpenCache() {
+    mockQueryResult();
+
+    this.catalogue.getById(1);
+    this.catalogue.getById(1);
+
+    // Two requests with two queries each
+    verify(this.jdbcTemplate, times(4)).query(anyString(), any(RowMapper.class), anyInt());
+    assertThat(CatalogueCache.isOpen()).isFalse();
+  }
+
+  @Test
+  void shouldCacheResultsWithinOpenCache() {
+    mockQueryResult();
+
+    try (var cache = CatalogueCache.open()) {
+      var first = this.catalogue.getById(1);
+      var second = this.catalogue.getById(1);
+      var firstList = this.catalogue.getAllByParentId(42);
+      var secondList = this.catalogue.getAllByParentId(42);
+
+      assertThat(second).isSameAs(first);
+      assertThat(secondList).isSameAs(firstList);
+      assertThat(cache.size()).isEqualTo(2);
+    }
+
+    verify(this.jdbcTemplate, times(4)).query(anyString(), any(RowMapper.class), anyInt());
+  }
+
+  @Test
+  void shouldDropCachedResultsOnClose() {
+    mockQueryResult();
+
+    try (var cache = CatalogueCache.open()) {
+      this.catalogue.getById(1);
+    }
+    try (var cache = CatalogueCache.open()) {
+      this.catalogue.getById(1);
+    }
+
+    verify(this.jdbcTemplate, times(4)).query(anyString(), any(RowMapper.class), anyInt());
+    assertThat(CatalogueCache.isOpen()).isFalse();
+  }
+
+  @Test
+  void shouldKeepOuterCacheOpenIfInnerCacheIsClosed() {
+    mockQueryResult();
+
+    try (var outer = CatalogueCache.open()) {
+      try (var inner = CatalogueCache.open()) {
+        this.catalogue.getById(1);
+      }
+      assertThat(CatalogueCache.isOpen()).isTrue();
+      this.catalogue.getById(1);
+    }
+
+    verify(this.jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), anyInt());
+  }
+
+  @Test
+  void shouldCacheMissingRecords() {
+    doAnswer(invocationOnMock -> List.of())
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowMapper.class), anyInt());
+
+    try (var cache = CatalogueCache.open()) {
+      assertThrows(DataAccessException.class, () -> this.catalogue.getById(1));
+      assertThat(this.catalogue.findById(1)).isEmpty();
+    }
+
+    verify(this.jdbcTemplate, times(1)).query(anyString(), any(RowMapper.class), anyInt());
+  }
+
+  @Test
+  void shouldUseCachedProceduresForIdList() {
+    mockQueryResult();
+
+    try (var cache = CatalogueCache.open()) {
+      var resultSet = this.catalogue.getById(1);
+
+      assertThat(this.catalogue.getByIdList(List.of(1))).containsExactly(resultSet);
+    }
+
+    // Only the queries of the first request by id
+    verify(this.jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), anyInt());
+  }
+
+  @Test
+  void shouldUsePrefetchedSubforms() {
+    doAnswer(
+            invocationOnMock -> {
+              var sql = invocationOnMock.getArgument(0, String.class);
+              ArrayList<Map<String, Object>> result = new ArrayList<>();
+              if (!sql.contains("_merkmale")) {
+                var map = new HashMap<String, Object>();
+                map.put("id", 1);
+                map.put("hauptprozedur_id", 42);
+                result.add(map);
+              }
+              return result;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    try (var cache = CatalogueCache.open()) {
+      var prefetched = this.catalogue.prefetchByParentIds(List.of(42, 43));
+
+      assertThat(this.catalogue.getAllByParentId(42)).isEqualTo(prefetched.get(42));
+      assertThat(this.catalogue.getAllByParentId(43)).isEmpty();
+      assertThat(this.catalogue.getById(1).getParentId()).isEqualTo(42);
+      assertThat(this.catalogue.exists(1)).isTrue();
+    }
+
+    // One query for sub procedures and one for related "Merkmale"
+    verify(this.jdbcTemplate, times(2))
+        .query(anyString(), any(RowMapper.class), any(Object[].class));
+  }
+
+  @Test
+  void shouldUsePrefetchedMissingRecords() {
+    doAnswer(invocationOnMock -> List.of())
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    try (var cache = CatalogueCache.open()) {
+      this.catalogue.prefetchByIds(List.of(1, 2));
+
+      assertThat(this.catalogue.findById(1)).isEmpty();
+      assertThat(this.catalogue.exists(2)).isFalse();
+      assertThat(this.catalogue.existingIds(List.of(1, 2))).isEmpty();
+    }
+
+    // One query for procedures and none for "Merkmale" of missing procedures
+    verify(this.jdbcTemplate, times(1))
+        .query(anyString(), any(RowMapper.class), any(Object[].class));
+    verify(this.jdbcTemplate, never())
+        .queryForList(anyString(), eq(Integer.class), any(Object[].class));
+  }
+
+  @Test
+  void shouldShareAttachedCacheWithOtherThreads() throws Exception {
+    mockQueryResult();
+    var executor = Executors.newSingleThreadExecutor();
+
+    try (var cache = CatalogueCache.open()) {
+      var first = this.catalogue.getById(1);
+      var shared = CatalogueCache.current();
+
+      var second =
+          executor
+              .submit(
+                  () -> {
+                    try (var attached = shared.attach()) {
+                      return this.catalogue.getById(1);
+                    }
+                  })
+              .get();
+
+      assertThat(second).isSameAs(first);
+      assertThat(executor.submit(CatalogueCache::isOpen).get()).isFalse();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(this.jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), anyInt());
+  }
+}
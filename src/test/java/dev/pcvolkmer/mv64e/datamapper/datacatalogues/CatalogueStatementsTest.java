@@ -0,0 +1,141 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueStatementsTest {
+
+  CatalogueStatements statements;
+
+  @BeforeEach
+  void setUp(@Mock JdbcTemplate jdbcTemplate) {
+    this.statements = EinzelempfehlungCatalogue.create(jdbcTemplate).getStatements();
+  }
+
+  @Test
+  void shouldRegisterAllStatements() {
+    assertThat(statements.getTableName()).isEqualTo("dk_dnpm_uf_einzelempfehlung");
+    assertThat(statements.getStatements())
+        .extracting(CatalogueStatement::getName)
+        .containsExactly(
+            CatalogueStatements.BY_ID,
+            CatalogueStatements.BY_ID_LIST,
+            CatalogueStatements.EXISTS,
+            CatalogueStatements.AVAILABLE,
+            CatalogueStatements.EXISTING_IDS,
+            CatalogueStatements.MERKMALE_BY_IDS,
+            CatalogueStatements.DISEASES,
+            CatalogueStatements.BY_PARENT_ID,
+            CatalogueStatements.MERKMALE_BY_PARENT_ID,
+            CatalogueStatements.BY_PARENT_ID_LIST,
+            CatalogueStatements.MERKMALE_BY_PARENT_ID_LIST,
+            CatalogueStatements.PARENT_ID_BY_ID);
+  }
+
+  @Test
+  void shouldRegisterCatalogueSpecificStatements(@Mock JdbcTemplate jdbcTemplate) {
+    assertThat(MolekulargenetikCatalogue.create(jdbcTemplate).getStatements().getStatements())
+        .extracting(CatalogueStatement::getName)
+        .contains(
+            MolekulargenetikCatalogue.IDS_BY_PATIENT_ID,
+            MolekulargenetikCatalogue.IDS_BY_THERAPIEPLAN_ID,
+            MolekulargenetikCatalogue.IDS_BY_KPA_ID,
+            MolekulargenetikCatalogue.SAMPLE_CONSERVATION_BY_ID);
+    assertThat(PatientCatalogue.create(jdbcTemplate).getStatements().getStatements())
+        .extracting(CatalogueStatement::getName)
+        .containsExactly(CatalogueStatements.BY_ID);
+  }
+
+  @Test
+  void shouldBuildSqlOnlyOnce() {
+    var statement = statements.get(CatalogueStatements.BY_ID);
+
+    assertThat(statement.getSql()).isSameAs(statement.getSql());
+    assertThat(statement.isInList()).isFalse();
+  }
+
+  @Test
+  void shouldExpandAndMemoizeInListStatements() {
+    var statement = statements.get(CatalogueStatements.MERKMALE_BY_IDS);
+
+    assertThat(statement.isInList()).isTrue();
+    assertThat(statement.getSql(3))
+        .isEqualTo(
+            "SELECT eintrag_id, feldname, feldwert FROM dk_dnpm_uf_einzelempfehlung_merkmale WHERE eintrag_id IN (?, ?, ?)");
+    assertThat(statement.getSql(3)).isSameAs(statement.getSql(3));
+  }
+
+  @Test
+  void shouldThrowExceptionForUnknownStatement() {
+    assertThatThrownBy(() -> statements.get("unknown"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @MockitoSettings(strictness = Strictness.LENIENT)
+  void shouldReportMissingTablesAndColumns(@Mock DatabaseMetaData metaData) throws Exception {
+    var existingColumns =
+        Map.of(
+            "dk_dnpm_uf_einzelempfehlung", new String[] {"id"},
+            "prozedur", new String[] {"id", "patient_id", "hauptprozedur_id"},
+            "patient", new String[] {"ID", "PATIENTEN_ID"},
+            "erkrankung_prozedur", new String[] {"erkrankung_id", "prozedur_id"},
+            "erkrankung", new String[] {"id"});
+
+    doAnswer(
+            invocationOnMock -> {
+              var columns =
+                  existingColumns.getOrDefault(invocationOnMock.getArgument(2), new String[0]);
+              var resultSet = mock(ResultSet.class);
+              var index = new int[] {0};
+              when(resultSet.next()).thenAnswer(invocation -> index[0]++ < columns.length);
+              when(resultSet.getString("COLUMN_NAME"))
+                  .thenAnswer(invocation -> columns[index[0] - 1]);
+              return resultSet;
+            })
+        .when(metaData)
+        .getColumns(any(), any(), anyString(), any());
+
+    var actual = statements.validate(metaData);
+
+    assertThat(actual)
+        .containsExactlyInAnyOrder(
+            "Table 'dk_dnpm_uf_einzelempfehlung_merkmale' does not exist",
+            "Column 'prozedur.geloescht' does not exist");
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import dev.pcvolkmer.mv64e.datamapper.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompactRowMapperTest {
+
+  @Test
+  void shouldShareSchemaOfAllRows(
+      @Mock java.sql.ResultSet resultSet, @Mock ResultSetMetaData metaData) throws SQLException {
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(metaData.getColumnCount()).thenReturn(3);
+    when(metaData.getColumnLabel(1)).thenReturn("id");
+    when(metaData.getColumnLabel(2)).thenReturn("Name");
+    when(metaData.getColumnLabel(3)).thenReturn("ID");
+    when(resultSet.getObject(1)).thenReturn(1, 2);
+    when(resultSet.getObject(2)).thenReturn("Test1", "Test2");
+
+    var mapper = new CompactRowMapper();
+    var first = mapper.mapRow(resultSet, 0);
+    var second = mapper.mapRow(resultSet, 1);
+
+    assertThat(first).isEqualTo(Map.of("id", 1, "Name", "Test1"));
+    assertThat(second).isEqualTo(Map.of("id", 2, "Name", "Test2"));
+    assertThat(second.get("NAME")).isEqualTo("Test2");
+    verify(resultSet, times(1)).getMetaData();
+    verify(resultSet, never()).getObject(3);
+  }
+
+  @Test
+  void shouldAddValuesNotPartOfSchema() {
+    var values = new Object[] {1, "Test"};
+    var row = new CompactRow(CompactRowMapper.Schema.of("id", "name"), values);
+
+    row.putAll(Map.of("name", "Changed", "feldname", List.of("wert1")));
+
+    assertThat(row).hasSize(3).containsKey("FELDNAME");
+    assertThat(row.get("name")).isEqualTo("Changed");
+    assertThat(new HashMap<>(row))
+        .isEqualTo(Map.of("id", 1, "name", "Changed", "feldname", List.of("wert1")));
+    assertThat(ResultSet.from(row).getMerkmalList("feldname")).containsExactly("wert1");
+  }
+
+  @Test
+  void shouldReturnNullForUnknownColumn() {
+    var row = new CompactRow(CompactRowMapper.Schema.of("id"), new Object[] {1});
+
+    assertThat(row.get("unknown")).isNull();
+    assertThat(row.containsKey("unknown")).isFalse();
+  }
+}
@@ -21,6 +21,7 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -34,6 +35,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
 @ExtendWith(MockitoExtension.class)
 class ConsentMvVerlaufCatalogueTest {
@@ -51,12 +53,12 @@ class ConsentMvVerlaufCatalogueTest {
   void shouldUseCorrectQuery(@Mock Map<String, Object> resultSet) {
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
@@ -67,12 +69,12 @@ class ConsentMvVerlaufCatalogueTest {
   void shouldUseCorrectSubformQuery(@Mock Map<String, Object> resultSet) {
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getAllByParentId(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
@@ -21,6 +21,7 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -37,6 +38,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
 @ExtendWith(MockitoExtension.class)
 class FollowUpCatalogueTest {
@@ -54,12 +56,12 @@ class FollowUpCatalogueTest {
   void shouldUseCorrectQuery(@Mock Map<String, Object> resultSet) {
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
@@ -72,9 +74,9 @@ class FollowUpCatalogueTest {
             invocationOnMock -> {
               var sql = invocationOnMock.getArgument(0, String.class);
               ArrayList<Map<String, Object>> result = new ArrayList<>();
-              if (sql.startsWith("SELECT feldname")) {
-                result.add(Map.of("feldname", "name", "feldwert", "wert1"));
-                result.add(Map.of("feldname", "name", "feldwert", "wert2"));
+              if (sql.startsWith("SELECT eintrag_id")) {
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert1"));
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert2"));
               } else {
                 var map = new HashMap<String, Object>();
                 map.put("id", 1);
@@ -84,7 +86,7 @@ class FollowUpCatalogueTest {
               return result;
             })
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     var result = this.catalogue.getById(1);
 
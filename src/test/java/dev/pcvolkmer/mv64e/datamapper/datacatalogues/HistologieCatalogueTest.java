@@ -21,6 +21,7 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -36,6 +37,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
 @ExtendWith(MockitoExtension.class)
 class HistologieCatalogueTest {
@@ -53,12 +55,12 @@ class HistologieCatalogueTest {
   void shouldUseCorrectQuery(@Mock Map<String, Object> resultSet) {
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
@@ -69,12 +71,12 @@ class HistologieCatalogueTest {
   void shouldUseCorrectSubformQuery(@Mock Map<String, Object> resultSet) {
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getAllByParentId(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
@@ -87,16 +89,16 @@ class HistologieCatalogueTest {
 
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getMerkmaleById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
-            "SELECT feldname, feldwert FROM dk_dnpm_uf_histologie_merkmale WHERE eintrag_id = ?");
+            "SELECT eintrag_id, feldname, feldwert FROM dk_dnpm_uf_histologie_merkmale WHERE eintrag_id IN (?)");
   }
 
   @Test
@@ -105,9 +107,9 @@ class HistologieCatalogueTest {
             invocationOnMock -> {
               var sql = invocationOnMock.getArgument(0, String.class);
               ArrayList<Map<String, Object>> result = new ArrayList<>();
-              if (sql.startsWith("SELECT feldname")) {
-                result.add(Map.of("feldname", "name", "feldwert", "wert1"));
-                result.add(Map.of("feldname", "name", "feldwert", "wert2"));
+              if (sql.startsWith("SELECT eintrag_id")) {
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert1"));
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert2"));
               } else {
                 var map = new HashMap<String, Object>();
                 map.put("id", 1);
@@ -117,7 +119,7 @@ class HistologieCatalogueTest {
               return result;
             })
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     var result = this.catalogue.getById(1);
 
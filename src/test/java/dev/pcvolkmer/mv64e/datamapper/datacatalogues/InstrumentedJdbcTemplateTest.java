@@ -0,0 +1,200 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedJdbcTemplateTest {
+
+  Connection connection;
+  InstrumentedJdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp(@Mock DataSource dataSource, @Mock Connection connection) throws SQLException {
+    this.connection = connection;
+    this.jdbcTemplate = new InstrumentedJdbcTemplate(dataSource);
+
+    when(dataSource.getConnection()).thenReturn(connection);
+  }
+
+  private static ResultSetExtractor<Integer> countRows() {
+    return resultSet -> {
+      var count = 0;
+      while (resultSet.next()) {
+        count++;
+      }
+      return count;
+    };
+  }
+
+  private void mockPreparedStatement(PreparedStatement statement, ResultSet resultSet)
+      throws SQLException {
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, true, false);
+  }
+
+  @Test
+  void shouldRecordLabeledQueries(@Mock PreparedStatement statement, @Mock ResultSet resultSet)
+      throws SQLException {
+    mockPreparedStatement(statement, resultSet);
+
+    try (var statistics = QueryStatistics.record()) {
+      var actual =
+          InstrumentedJdbcTemplate.labeled(
+              KpaCatalogue.class,
+              "getById",
+              () -> jdbcTemplate.query("SELECT * FROM dk_dnpm_kpa WHERE id = ?", countRows(), 1));
+
+      assertThat(actual).isEqualTo(2);
+      assertThat(statistics.getStatementCount()).isEqualTo(1);
+      assertThat(statistics.getRowCount()).isEqualTo(2);
+      assertThat(statistics.getEntries())
+          .singleElement()
+          .satisfies(
+              entry -> {
+                assertThat(entry.getName()).isEqualTo("KpaCatalogue.getById");
+                assertThat(entry.getStatementCount()).isEqualTo(1);
+                assertThat(entry.getRowCount()).isEqualTo(2);
+                assertThat(entry.getFailureCount()).isZero();
+              });
+    }
+  }
+
+  @Test
+  void shouldNotifyListenersUsingSqlForUnlabeledQueries(
+      @Mock Statement statement, @Mock ResultSet resultSet) throws SQLException {
+    when(connection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(anyString())).thenReturn(resultSet);
+    when(resultSet.next()).thenReturn(true, false);
+
+    var events = new ArrayList<QueryEvent>();
+    jdbcTemplate.addListener(events::add);
+
+    jdbcTemplate.query("SELECT * FROM dk_dnpm_kpa", countRows());
+
+    assertThat(events)
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getSource()).isEqualTo("InstrumentedJdbcTemplate");
+              assertThat(event.getStatement()).isEqualTo("SELECT * FROM dk_dnpm_kpa");
+              assertThat(event.getSql()).isEqualTo("SELECT * FROM dk_dnpm_kpa");
+              assertThat(event.getRows()).isEqualTo(1);
+              assertThat(event.isFailed()).isFalse();
+            });
+  }
+
+  @Test
+  void shouldRecordFailedQueries(@Mock PreparedStatement statement, @Mock ResultSet resultSet)
+      throws SQLException {
+    mockPreparedStatement(statement, resultSet);
+
+    try (var statistics = QueryStatistics.record()) {
+      assertThrows(
+          IllegalStateException.class,
+          () ->
+              InstrumentedJdbcTemplate.labeled(
+                  KpaCatalogue.class,
+                  "getById",
+                  () ->
+                      jdbcTemplate.query(
+                          "SELECT * FROM dk_dnpm_kpa WHERE id = ?",
+                          (ResultSetExtractor<Integer>)
+                              rs -> {
+                                rs.next();
+                                throw new IllegalStateException("Failure");
+                              },
+                          1)));
+
+      assertThat(statistics.getEntries())
+          .singleElement()
+          .satisfies(
+              entry -> {
+                assertThat(entry.getName()).isEqualTo("KpaCatalogue.getById");
+                assertThat(entry.getRowCount()).isEqualTo(1);
+                assertThat(entry.getFailureCount()).isEqualTo(1);
+              });
+    }
+  }
+
+  @Test
+  void shouldNotRecordQueriesAfterRecordingHasBeenClosed(
+      @Mock PreparedStatement statement, @Mock ResultSet resultSet) throws SQLException {
+    mockPreparedStatement(statement, resultSet);
+
+    var statistics = QueryStatistics.record();
+    statistics.close();
+
+    jdbcTemplate.query("SELECT * FROM dk_dnpm_kpa WHERE id = ?", countRows(), 1);
+
+    assertThat(QueryStatistics.current()).isNull();
+    assertThat(statistics.getStatementCount()).isZero();
+  }
+
+  @Test
+  void shouldRecordQueriesOfAttachedWorkerThreads(
+      @Mock PreparedStatement statement, @Mock ResultSet resultSet) throws Exception {
+    mockPreparedStatement(statement, resultSet);
+
+    var executor = Executors.newSingleThreadExecutor();
+    try (var statistics = QueryStatistics.record()) {
+      executor
+          .submit(
+              () -> {
+                try (var attached = statistics.attach()) {
+                  InstrumentedJdbcTemplate.labeled(
+                      KpaCatalogue.class,
+                      "getById",
+                      () -> jdbcTemplate.query("SELECT * FROM dk_dnpm_kpa", countRows(), 1));
+                }
+              })
+          .get();
+
+      assertThat(statistics.getEntries())
+          .extracting(QueryStatistics.Entry::getName)
+          .isEqualTo(List.of("KpaCatalogue.getById"));
+      assertThat(statistics.getRowCount()).isEqualTo(2);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
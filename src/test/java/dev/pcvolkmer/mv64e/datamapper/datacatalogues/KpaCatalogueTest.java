@@ -55,12 +55,12 @@ class KpaCatalogueTest {
   void shouldUseCorrectQuery(@Mock Map<String, Object> resultSet) {
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
@@ -84,15 +84,16 @@ class KpaCatalogueTest {
 
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getMerkmaleById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
-        .isEqualTo("SELECT feldname, feldwert FROM dk_dnpm_kpa_merkmale WHERE eintrag_id = ?");
+        .isEqualTo(
+            "SELECT eintrag_id, feldname, feldwert FROM dk_dnpm_kpa_merkmale WHERE eintrag_id IN (?)");
   }
 
   @Test
@@ -101,9 +102,9 @@ class KpaCatalogueTest {
             invocationOnMock -> {
               var sql = invocationOnMock.getArgument(0, String.class);
               ArrayList<Map<String, Object>> result = new ArrayList<>();
-              if (sql.startsWith("SELECT feldname")) {
-                result.add(Map.of("feldname", "name", "feldwert", "wert1"));
-                result.add(Map.of("feldname", "name", "feldwert", "wert2"));
+              if (sql.startsWith("SELECT eintrag_id")) {
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert1"));
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert2"));
               } else {
                 var map = new HashMap<String, Object>();
                 map.put("id", 1);
@@ -113,11 +114,122 @@ class KpaCatalogueTest {
               return result;
             })
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     var result = this.catalogue.getById(1);
 
     assertThat(result.getInteger("id")).isEqualTo(1);
     assertThat(result.getMerkmalList("name")).isEqualTo(List.of("wert1", "wert2"));
   }
+
+  @Test
+  void shouldLoadIdListAndReportMissingAndDuplicateIds() {
+    doAnswer(
+            invocationOnMock -> {
+              var sql = invocationOnMock.getArgument(0, String.class);
+              ArrayList<Map<String, Object>> result = new ArrayList<>();
+              if (sql.startsWith("SELECT eintrag_id")) {
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert1"));
+              } else {
+                for (var id : List.of(1, 2, 4, 4)) {
+                  var map = new HashMap<String, Object>();
+                  map.put("id", id);
+                  result.add(map);
+                }
+              }
+              return result;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    var result = this.catalogue.getByIdListResult(List.of(2, 1, 3, 4));
+
+    var captor = ArgumentCaptor.forClass(String.class);
+    verify(this.jdbcTemplate, times(2))
+        .query(captor.capture(), any(RowMapper.class), any(Object[].class));
+
+    assertThat(captor.getAllValues().get(0))
+        .isEqualTo(
+            "SELECT patient.patienten_id, dk_dnpm_kpa.*, prozedur.patient_id, prozedur.hauptprozedur_id FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id IN (?, ?, ?, ?)");
+    assertThat(result.getResultSets()).hasSize(2);
+    assertThat(result.getResultSets().get(0).getId()).isEqualTo(2);
+    assertThat(result.getResultSets().get(1).getMerkmalList("name")).isEqualTo(List.of("wert1"));
+    assertThat(result.getMissingIds()).isEqualTo(List.of(3));
+    assertThat(result.getDuplicateIds()).isEqualTo(List.of(4));
+    assertThat(result.isComplete()).isFalse();
+  }
+
+  @Test
+  void shouldThrowExceptionIfNoRecordFoundForIdList() {
+    doAnswer(invocationOnMock -> List.of())
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowMapper.class), any(Object[].class));
+
+    var ex = assertThrows(DataAccessException.class, () -> catalogue.getByIdList(List.of(1, 2)));
+    assertThat(ex).hasMessage("No record found for id: 1");
+  }
+
+  @Test
+  void shouldUseExpectedQueryToCheckExistence() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), anyInt()))
+        .thenReturn(List.of(1));
+
+    assertThat(this.catalogue.exists(1)).isTrue();
+
+    var captor = ArgumentCaptor.forClass(String.class);
+    verify(this.jdbcTemplate).queryForList(captor.capture(), eq(Integer.class), anyInt());
+    verify(this.jdbcTemplate, never()).query(anyString(), any(RowMapper.class), anyInt());
+
+    assertThat(captor.getValue())
+        .isEqualTo(
+            "SELECT 1 FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id = ? LIMIT 1");
+  }
+
+  @Test
+  void shouldNotBeAvailableIfRecordIsNotUnique() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), anyInt()))
+        .thenReturn(List.of(1, 1));
+
+    assertThat(this.catalogue.isAvailable(1)).isFalse();
+
+    var captor = ArgumentCaptor.forClass(String.class);
+    verify(this.jdbcTemplate).queryForList(captor.capture(), eq(Integer.class), anyInt());
+    verify(this.jdbcTemplate, never()).query(anyString(), any(RowMapper.class), anyInt());
+
+    assertThat(captor.getValue())
+        .isEqualTo(
+            "SELECT 1 FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id = ? LIMIT 2");
+  }
+
+  @Test
+  void shouldBeAvailableIfRecordIsUnique() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), anyInt()))
+        .thenReturn(List.of(1));
+
+    assertThat(this.catalogue.isAvailable(1)).isTrue();
+  }
+
+  @Test
+  void shouldUseExpectedQueryToGetExistingIds() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class)))
+        .thenReturn(List.of(1, 3));
+
+    var result = this.catalogue.existingIds(List.of(1, 2, 3));
+
+    var captor = ArgumentCaptor.forClass(String.class);
+    verify(this.jdbcTemplate)
+        .queryForList(captor.capture(), eq(Integer.class), any(Object[].class));
+
+    assertThat(captor.getValue())
+        .isEqualTo(
+            "SELECT prozedur.id FROM dk_dnpm_kpa JOIN prozedur ON (prozedur.id = dk_dnpm_kpa.id) JOIN patient ON (patient.id = prozedur.patient_id) WHERE geloescht = 0 AND prozedur.id IN (?, ?, ?)");
+    assertThat(result).containsExactlyInAnyOrder(1, 3);
+  }
+
+  @Test
+  void shouldReturnEmptyOptionalIfNoRecordFound() {
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class), anyInt())).thenReturn(List.of());
+
+    assertThat(this.catalogue.findById(1)).isEmpty();
+  }
 }
@@ -0,0 +1,179 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+class KpaGraphTest {
+
+  private static Map<String, Object> row(Object... keysAndValues) {
+    var result = new HashMap<String, Object>();
+    for (var i = 0; i < keysAndValues.length; i += 2) {
+      result.put((String) keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return result;
+  }
+
+  /**
+   * Mocks a database with one Klinik/Anamnese (1) with one Therapieplan (2) and the given number
+   * of Einzelempfehlung procedures (100...), each referencing a Molekulargenetik procedure (200...)
+   */
+  private static JdbcTemplate mockJdbcTemplate(int recommendations) {
+    var jdbcTemplate = mock(JdbcTemplate.class);
+    doAnswer(
+            invocationOnMock -> {
+              var sql = invocationOnMock.getArgument(0, String.class);
+              var args =
+                  Arrays.copyOfRange(
+                      invocationOnMock.getArguments(), 2, invocationOnMock.getArguments().length);
+              var result = new ArrayList<Map<String, Object>>();
+              if (sql.contains("FROM dk_dnpm_kpa JOIN")) {
+                result.add(row("id", 1, "hauptprozedur_id", null));
+              } else if (sql.startsWith("SELECT DISTINCT prozedur.id AS procedure_id")) {
+                result.add(row("procedure_id", 2, "ref_dnpm_klinikanamnese", 1));
+              } else if (sql.contains("FROM dk_dnpm_therapieplan JOIN")) {
+                result.add(row("id", 2, "hauptprozedur_id", null));
+              } else if (sql.contains("dk_dnpm_uf_einzelempfehlung.*")
+                  && sql.contains("hauptprozedur_id IN")) {
+                for (var i = 0; i < recommendations; i++) {
+                  result.add(
+                      row("id", 100 + i, "hauptprozedur_id", 2, "ref_molekulargenetik", 200 + i));
+                }
+              } else if (sql.contains("FROM dk_molekulargenetik JOIN")) {
+                Arrays.stream(args).forEach(id -> result.add(row("id", id)));
+              }
+              return result;
+            })
+        .when(jdbcTemplate)
+        .query(anyString(), any(RowMapper.class), any(Object[].class));
+    return jdbcTemplate;
+  }
+
+  private static DataCatalogueFactory mockCatalogueFactory(JdbcTemplate jdbcTemplate) {
+    var catalogues = new HashMap<Class<?>, Object>();
+    var catalogueFactory = mock(DataCatalogueFactory.class);
+    doAnswer(
+            invocationOnMock -> {
+              var clazz = invocationOnMock.getArgument(0, Class.class);
+              return catalogues.computeIfAbsent(
+                  clazz,
+                  c -> {
+                    try {
+                      return c.getMethod("create", JdbcTemplate.class).invoke(null, jdbcTemplate);
+                    } catch (ReflectiveOperationException e) {
+                      throw new IllegalStateException(e);
+                    }
+                  });
+            })
+        .when(catalogueFactory)
+        .catalogue(any());
+    return catalogueFactory;
+  }
+
+  @Test
+  void shouldRequireOpenCache() {
+    var catalogueFactory = mock(DataCatalogueFactory.class);
+
+    assertThrows(IllegalStateException.class, () -> KpaGraph.prefetch(catalogueFactory, 1));
+    verifyNoInteractions(catalogueFactory);
+  }
+
+  @Test
+  void shouldPrefetchRelatedProcedures() {
+    var jdbcTemplate = mockJdbcTemplate(2);
+    var catalogueFactory = mockCatalogueFactory(jdbcTemplate);
+
+    try (var cache = CatalogueCache.open()) {
+      var graph = KpaGraph.prefetch(catalogueFactory, 1);
+
+      assertThat(graph.getKpaId()).isEqualTo(1);
+      assertThat(graph.getTherapieplanIds()).isEqualTo(Set.of(2));
+      assertThat(graph.getEinzelempfehlungIds()).isEqualTo(Set.of(100, 101));
+      assertThat(graph.getMolekulargenetikIds()).isEqualTo(Set.of(200, 201));
+      assertThat(graph.getFollowUpIds()).isEmpty();
+      assertThat(graph.getConsentMvId()).isNull();
+
+      clearInvocations(jdbcTemplate);
+
+      var einzelempfehlungCatalogue = catalogueFactory.catalogue(EinzelempfehlungCatalogue.class);
+      assertThat(einzelempfehlungCatalogue.getAllByParentId(2)).hasSize(2);
+      assertThat(einzelempfehlungCatalogue.getById(101).getInteger("ref_molekulargenetik"))
+          .isEqualTo(201);
+      var molekulargenetikCatalogue = catalogueFactory.catalogue(MolekulargenetikCatalogue.class);
+      assertThat(molekulargenetikCatalogue.findById(200)).isPresent();
+      assertThat(catalogueFactory.catalogue(HistologieCatalogue.class).getAllByParentId(1))
+          .isEmpty();
+      assertThat(catalogueFactory.catalogue(FollowUpCatalogue.class).getByRecommendationId(100))
+          .isEmpty();
+
+      verifyNoInteractions(jdbcTemplate);
+    }
+  }
+
+  @Test
+  void shouldUseConstantNumberOfQueries() {
+    var jdbcTemplates = List.of(mockJdbcTemplate(1), mockJdbcTemplate(50));
+
+    for (var jdbcTemplate : jdbcTemplates) {
+      try (var cache = CatalogueCache.open()) {
+        KpaGraph.prefetch(mockCatalogueFactory(jdbcTemplate), 1);
+      }
+    }
+
+    assertThat(mockingDetails(jdbcTemplates.get(1)).getInvocations())
+        .hasSameSizeAs(mockingDetails(jdbcTemplates.get(0)).getInvocations());
+  }
+
+  @Test
+  void shouldPrefetchMultipleCasesTogether() {
+    var singleCaseJdbcTemplate = mockJdbcTemplate(2);
+    var jdbcTemplate = mockJdbcTemplate(2);
+
+    try (var cache = CatalogueCache.open()) {
+      KpaGraph.prefetchAll(mockCatalogueFactory(singleCaseJdbcTemplate), List.of(1));
+    }
+    try (var cache = CatalogueCache.open()) {
+      var graphs = KpaGraph.prefetchAll(mockCatalogueFactory(jdbcTemplate), List.of(1, 3));
+
+      assertThat(graphs).containsOnlyKeys(1, 3);
+      assertThat(graphs.get(1).getEinzelempfehlungIds()).isEqualTo(Set.of(100, 101));
+      assertThat(graphs.get(3).getTherapieplanIds()).isEmpty();
+      assertThat(graphs.get(3).getMolekulargenetikIds()).isEmpty();
+    }
+
+    assertThat(mockingDetails(jdbcTemplate).getInvocations())
+        .hasSameSizeAs(mockingDetails(singleCaseJdbcTemplate).getInvocations());
+  }
+}
@@ -21,8 +21,7 @@
 package dev.pcvolkmer.mv64e.datamapper.datacatalogues;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
@@ -36,6 +35,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
 @ExtendWith(MockitoExtension.class)
 class MolekulargenetikCatalogueTest {
@@ -53,12 +53,12 @@ class MolekulargenetikCatalogueTest {
   void shouldUseCorrectQuery(@Mock Map<String, Object> resultSet) {
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
@@ -71,16 +71,16 @@ class MolekulargenetikCatalogueTest {
 
     doAnswer(invocationOnMock -> List.of(resultSet))
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     this.catalogue.getMerkmaleById(1);
 
     var captor = ArgumentCaptor.forClass(String.class);
-    verify(this.jdbcTemplate).queryForList(captor.capture(), anyInt());
+    verify(this.jdbcTemplate).query(captor.capture(), any(RowMapper.class), anyInt());
 
     assertThat(captor.getValue())
         .isEqualTo(
-            "SELECT feldname, feldwert FROM dk_molekulargenetik_merkmale WHERE eintrag_id = ?");
+            "SELECT eintrag_id, feldname, feldwert FROM dk_molekulargenetik_merkmale WHERE eintrag_id IN (?)");
   }
 
   @Test
@@ -89,9 +89,9 @@ class MolekulargenetikCatalogueTest {
             invocationOnMock -> {
               var sql = invocationOnMock.getArgument(0, String.class);
               ArrayList<Map<String, Object>> result = new ArrayList<>();
-              if (sql.startsWith("SELECT feldname")) {
-                result.add(Map.of("feldname", "name", "feldwert", "wert1"));
-                result.add(Map.of("feldname", "name", "feldwert", "wert2"));
+              if (sql.startsWith("SELECT eintrag_id")) {
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert1"));
+                result.add(Map.of("eintrag_id", 1, "feldname", "name", "feldwert", "wert2"));
               } else {
                 var map = new HashMap<String, Object>();
                 map.put("id", 1);
@@ -101,11 +101,62 @@ class MolekulargenetikCatalogueTest {
               return result;
             })
         .when(jdbcTemplate)
-        .queryForList(anyString(), anyInt());
+        .query(anyString(), any(RowMapper.class), anyInt());
 
     var result = this.catalogue.getById(1);
 
     assertThat(result.getInteger("id")).isEqualTo(1);
     assertThat(result.getMerkmalList("name")).isEqualTo(List.of("wert1", "wert2"));
   }
+
+  @Test
+  void shouldUseCorrectSequencingQuery() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class)))
+        .thenReturn(List.of(1));
+
+    var result = this.catalogue.getIdsOfTypeSequencing(List.of(1, 2));
+
+    var captor = ArgumentCaptor.forClass(String.class);
+    verify(this.jdbcTemplate)
+        .queryForList(captor.capture(), eq(Integer.class), any(Object[].class));
+
+    assertThat(captor.getValue())
+        .isEqualTo(
+            "SELECT DISTINCT prozedur.id FROM dk_molekulargenetik JOIN prozedur ON (prozedur.id = dk_molekulargenetik.id) JOIN patient ON (patient.id = prozedur.patient_id) JOIN dk_molekulargenetik_merkmale ON (dk_molekulargenetik_merkmale.eintrag_id = prozedur.id) WHERE geloescht = 0 AND dk_molekulargenetik_merkmale.feldname = 'AnalyseMethoden' AND dk_molekulargenetik_merkmale.feldwert = 'S' AND prozedur.id IN (?, ?)");
+    assertThat(result).containsExactly(1);
+  }
+
+  @Test
+  void shouldCheckTypeSequencingWithoutLoadingProcedure() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), anyInt()))
+        .thenReturn(List.of(1));
+
+    assertThat(this.catalogue.isOfTypeSeqencing(1)).isTrue();
+
+    verify(this.jdbcTemplate, never()).query(anyString(), any(RowMapper.class), anyInt());
+  }
+
+  @Test
+  void shouldUseCachedSequencingTypeChecks() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class)))
+        .thenReturn(List.of(1));
+
+    try (var cache = CatalogueCache.open()) {
+      assertThat(this.catalogue.getIdsOfTypeSequencing(List.of(1, 2))).containsExactly(1);
+      assertThat(this.catalogue.isOfTypeSeqencing(1)).isTrue();
+      assertThat(this.catalogue.isOfTypeSeqencing(2)).isFalse();
+      assertThat(this.catalogue.getIdsOfTypeSequencing(List.of(1, 2))).containsExactly(1);
+    }
+
+    verify(this.jdbcTemplate, times(1))
+        .queryForList(startsWith("SELECT DISTINCT"), eq(Integer.class), any(Object[].class));
+  }
+
+  @Test
+  void shouldNotBeOfTypeSequencingIfRecordIsNotUnique() {
+    when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), any(Object[].class)))
+        .thenReturn(List.of(1, 1));
+
+    assertThat(this.catalogue.isOfTypeSeqencing(1)).isFalse();
+  }
 }
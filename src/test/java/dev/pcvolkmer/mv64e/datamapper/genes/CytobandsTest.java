@@ -0,0 +1,88 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.pcvolkmer.mv64e.mtb.Chromosome;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CytobandsTest {
+
+  static Stream<Arguments> locations() {
+    return Stream.of(
+        Arguments.of("chr7", Chromosome.CHR7),
+        Arguments.of("CHR19", Chromosome.CHR19),
+        Arguments.of("7", Chromosome.CHR7),
+        Arguments.of("7q34", Chromosome.CHR7),
+        Arguments.of("13cen", Chromosome.CHR13),
+        Arguments.of(" 9p21.3", Chromosome.CHR9),
+        Arguments.of("chrX", Chromosome.CHR_X),
+        Arguments.of("Xp22.33", Chromosome.CHR_X),
+        Arguments.of("y", Chromosome.CHR_Y));
+  }
+
+  @ParameterizedTest
+  @MethodSource("locations")
+  void shouldParseChromosome(String value, Chromosome expected) {
+    assertThat(Cytobands.parseChromosome(value)).hasValue(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "chr", "0", "23", "123", "7a", "mitochondria", "reserved"})
+  void shouldNotParseInvalidChromosome(String value) {
+    assertThat(Cytobands.parseChromosome(value)).isEmpty();
+  }
+
+  @Test
+  void shouldNotParseNullChromosome() {
+    assertThat(Cytobands.parseChromosome(null)).isEmpty();
+  }
+
+  @Test
+  void shouldParseAllChromosomes() {
+    assertThat(Cytobands.parseChromosomes("Xp22.33 and Yp11.2"))
+        .containsExactly(Chromosome.CHR_X, Chromosome.CHR_Y);
+    assertThat(Cytobands.parseChromosomes("13cen, GRCh38 novel patch"))
+        .containsExactly(Chromosome.CHR13);
+    assertThat(Cytobands.parseChromosomes("not on reference assembly")).isEmpty();
+  }
+
+  @Test
+  void shouldUseCodesOfChromosomes() {
+    for (var chromosome : Chromosome.values()) {
+      var code = Cytobands.code(chromosome);
+      if (code > 0) {
+        assertThat(Cytobands.byCode(code)).isEqualTo(chromosome);
+      }
+    }
+    assertThat(Cytobands.code(Chromosome.CHR1)).isEqualTo(1);
+    assertThat(Cytobands.code(Chromosome.CHR_X)).isEqualTo(23);
+    assertThat(Cytobands.code(Chromosome.CHR_Y)).isEqualTo(24);
+    assertThat(Cytobands.byCode(0)).isNull();
+    assertThat(Cytobands.byCode(25)).isNull();
+  }
+}
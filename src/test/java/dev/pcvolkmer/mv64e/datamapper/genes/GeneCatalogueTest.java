@@ -0,0 +1,101 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GeneCatalogueTest {
+
+  private GeneCatalogue catalogue;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    var hgncFile =
+        String.join(
+            "\n",
+            "HGNC ID\tApproved symbol\tApproved name\tChromosome\tPrevious symbols\tAlias symbols\tEnsembl ID(supplied by Ensembl)",
+            "HGNC:1097\tBRAF\tB-Raf proto-oncogene, serine/threonine kinase\t7q34\tBRAF1\tB-RAF1, NS7\tENSG00000157764",
+            "HGNC:6407\tKRAS\tKRAS proto-oncogene, GTPase\t12p12.1\tKRAS2, RASK2\tNS, C-K-RAS\tENSG00000133703",
+            "HGNC:7989\tNRAS\tNRAS proto-oncogene, GTPase\t1p13.2\t\tNS6, NS\tENSG00000213281",
+            "HGNC:1\tNS7\tTest gene\t1p13.2\t\t\t");
+    catalogue =
+        GeneCatalogue.fromHgncFile(
+            new ByteArrayInputStream(hgncFile.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void shouldReadHgncFile() {
+    assertThat(catalogue.size()).isEqualTo(4);
+    assertThat(catalogue.findByHgncId("HGNC:6407"))
+        .hasValueSatisfying(
+            gene -> {
+              assertThat(gene.getSymbol()).isEqualTo("KRAS");
+              assertThat(gene.getEnsemblId()).isEqualTo("ENSG00000133703");
+              assertThat(gene.getPreviousSymbols()).containsExactly("KRAS2", "RASK2");
+              assertThat(gene.getAliasSymbols()).containsExactly("NS", "C-K-RAS");
+            });
+  }
+
+  @Test
+  void shouldResolvePreviousSymbol() {
+    assertThat(catalogue.findBySymbol("rask2")).map(Gene::getSymbol).hasValue("KRAS");
+  }
+
+  @Test
+  void shouldResolveAliasSymbol() {
+    assertThat(catalogue.findBySymbol("NS6")).map(Gene::getSymbol).hasValue("NRAS");
+  }
+
+  @Test
+  void shouldPreferApprovedSymbolOverAliasSymbol() {
+    assertThat(catalogue.findBySymbol("NS7")).map(Gene::getHgncId).hasValue("HGNC:1");
+  }
+
+  @Test
+  void shouldNotResolveAmbiguousAliasSymbol() {
+    assertThat(catalogue.findBySymbol("NS")).isEmpty();
+  }
+
+  @Test
+  void shouldReadHgncFileWithoutOptionalColumns() throws IOException {
+    var hgncFile =
+        "HGNC ID\tApproved symbol\tApproved name\tChromosome\n"
+            + "HGNC:1097\tBRAF\tB-Raf proto-oncogene, serine/threonine kinase\t7q34\n";
+
+    var actual =
+        GeneCatalogue.fromHgncFile(
+            new ByteArrayInputStream(hgncFile.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(actual.findBySymbol("BRAF"))
+        .hasValueSatisfying(
+            gene -> {
+              assertThat(gene.getEnsemblId()).isEmpty();
+              assertThat(gene.getPreviousSymbols()).isEmpty();
+              assertThat(gene.getAliasSymbols()).isEmpty();
+            });
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.genes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.pcvolkmer.mv64e.mtb.Chromosome;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GeneSnapshotTest {
+
+  @Test
+  void shouldAgreeWithListOfGenes() throws IOException {
+    var genes = GeneUtils.genes();
+    var resource = getClass().getClassLoader().getResourceAsStream(GeneSnapshot.RESOURCE);
+    assertThat(resource).as("Gene snapshot generated at build time").isNotNull();
+
+    GeneSnapshot snapshot;
+    try (resource) {
+      snapshot = GeneSnapshot.read(resource);
+    }
+
+    var index = GeneIndex.of(genes);
+    assertThat(snapshot.size()).isEqualTo(genes.size());
+    for (var gene : genes) {
+      assertThat(snapshot.findByHgncId(gene.getHgncId()))
+          .hasValueSatisfying(
+              actual -> {
+                assertThat(actual).isEqualTo(gene);
+                assertThat(actual.getChromosomesInPropertyForm())
+                    .isEqualTo(gene.getChromosomesInPropertyForm());
+              });
+      assertThat(snapshot.findBySymbol(gene.getSymbol()))
+          .isEqualTo(index.findBySymbol(gene.getSymbol()));
+    }
+  }
+
+  @Test
+  void shouldWriteAndReadSnapshot() throws IOException {
+    var snapshot = writeAndRead(testGenes());
+
+    assertThat(snapshot.size()).isEqualTo(3);
+    assertThat(snapshot.findBySymbol("braf"))
+        .hasValueSatisfying(
+            gene -> {
+              assertThat(gene.getHgncId()).isEqualTo("HGNC:1097");
+              assertThat(gene.getEnsemblId()).isEqualTo("ENSG00000157764");
+              assertThat(gene.getName()).isEqualTo("B-Raf proto-oncogene, serine/threonine kinase");
+              assertThat(gene.getChromosome()).isEqualTo("7q34");
+              assertThat(gene.getSingleChromosomeInPropertyForm()).hasValue(Chromosome.CHR7);
+            });
+    assertThat(snapshot.findByHgncId("hgnc:6407")).map(Gene::getSymbol).hasValue("KRAS");
+    assertThat(snapshot.findBySymbol("UNKNOWN")).isEmpty();
+    assertThat(snapshot.findByHgncId("HGNC:0")).isEmpty();
+  }
+
+  @Test
+  void shouldUseFirstGeneForDuplicateSymbol() throws IOException {
+    var snapshot = writeAndRead(testGenes());
+
+    assertThat(snapshot.findBySymbol("KRAS")).map(Gene::getHgncId).hasValue("HGNC:6407");
+  }
+
+  @Test
+  void shouldResolveMultipleChromosomes() throws IOException {
+    var snapshot = writeAndRead(testGenes());
+
+    assertThat(snapshot.findByHgncId("HGNC:4"))
+        .hasValueSatisfying(
+            gene -> {
+              assertThat(gene.getChromosomesInPropertyForm())
+                  .containsExactly(Chromosome.CHR_X, Chromosome.CHR_Y);
+              assertThat(gene.getSingleChromosomeInPropertyForm()).isEmpty();
+            });
+  }
+
+  @Test
+  void shouldRejectInvalidSnapshot() {
+    var inputStream = new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+    assertThrows(IOException.class, () -> GeneSnapshot.read(inputStream));
+  }
+
+  private static List<Gene> testGenes() {
+    return List.of(
+        new Gene(
+            "HGNC:1097",
+            "ENSG00000157764",
+            "BRAF",
+            "B-Raf proto-oncogene, serine/threonine kinase",
+            "7q34"),
+        new Gene("HGNC:6407", "ENSG00000133703", "KRAS", "KRAS proto-oncogene, GTPase", "12p12.1"),
+        new Gene("HGNC:4", "", "KRAS", "Test gene", "Xp22.33 and Yp11.2"));
+  }
+
+  private static GeneSnapshot writeAndRead(final List<Gene> genes) throws IOException {
+    var outputStream = new ByteArrayOutputStream();
+    GeneSnapshotWriter.write(genes, outputStream);
+    return GeneSnapshot.read(new ByteArrayInputStream(outputStream.toByteArray()));
+  }
+}
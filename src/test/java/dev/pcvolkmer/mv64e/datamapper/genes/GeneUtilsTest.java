@@ -21,8 +21,12 @@
 package dev.pcvolkmer.mv64e.datamapper.genes;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import dev.pcvolkmer.mv64e.mtb.Chromosome;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class GeneUtilsTest {
@@ -77,4 +81,68 @@ class GeneUtilsTest {
               assertThat(gene.getSingleChromosomeInPropertyForm()).hasValue(Chromosome.CHR13);
             });
   }
+
+  @Test
+  void findByHgncSymbolIgnoringCase() {
+    var actual = GeneUtils.findBySymbol("braf");
+
+    assertThat(actual).map(Gene::getHgncId).hasValue("HGNC:1097");
+  }
+
+  @Test
+  void findByHgncIdIgnoringCase() {
+    var actual = GeneUtils.findByHgncId("hgnc:1097");
+
+    assertThat(actual).map(Gene::getSymbol).hasValue("BRAF");
+  }
+
+  @Test
+  void shouldNotFindUnknownSymbol() {
+    assertThat(GeneUtils.findBySymbol("UNKNOWN GENE")).isEmpty();
+    assertThat(GeneUtils.findByHgncId("HGNC:0")).isEmpty();
+  }
+
+  @Test
+  void shouldLoadGenesOnce() {
+    var catalogue = GeneCatalogue.bundled();
+
+    assertThat(catalogue.size()).isEqualTo(44244);
+    assertThat(GeneCatalogue.bundled()).isSameAs(catalogue);
+    assertThat(GeneUtils.getCatalogue()).isSameAs(catalogue);
+  }
+
+  @Test
+  void shouldUseReplacedCatalogue() throws IOException {
+    var hgncFile =
+        "HGNC ID\tApproved symbol\tApproved name\tChromosome\n"
+            + "HGNC:1\tTEST1\tTest gene\t7q34\n";
+
+    try {
+      GeneUtils.setCatalogue(
+          GeneCatalogue.fromHgncFile(
+              new ByteArrayInputStream(hgncFile.getBytes(StandardCharsets.UTF_8))));
+
+      assertThat(GeneUtils.findBySymbol("TEST1")).map(Gene::getHgncId).hasValue("HGNC:1");
+      assertThat(GeneUtils.findBySymbol("BRAF")).isEmpty();
+    } finally {
+      GeneUtils.resetCatalogue();
+    }
+
+    assertThat(GeneUtils.findBySymbol("BRAF")).isPresent();
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    var statistics = GeneUtils.getStatistics();
+    statistics.reset();
+
+    GeneUtils.findBySymbol("BRAF");
+    GeneUtils.findBySymbol("UNKNOWN");
+    GeneUtils.findBySymbol("UNKNOWN");
+    GeneUtils.findByHgncId("HGNC:1097");
+
+    assertThat(statistics.getHits()).isEqualTo(2);
+    assertThat(statistics.getMisses()).isEqualTo(2);
+    assertThat(statistics.getMissedValues()).containsExactly(entry("UNKNOWN", 2L));
+  }
 }
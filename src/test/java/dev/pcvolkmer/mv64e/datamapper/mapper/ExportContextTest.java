@@ -0,0 +1,186 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.DataCatalogueFactory;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.EinzelempfehlungCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.FollowUpCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.RebiopsieCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.ReevaluationCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.TherapieplanCatalogue;
+import dev.pcvolkmer.mv64e.datamapper.test.Column;
+import dev.pcvolkmer.mv64e.datamapper.test.TestResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ExportContextTest {
+
+  TherapieplanCatalogue therapieplanCatalogue;
+  EinzelempfehlungCatalogue einzelempfehlungCatalogue;
+  RebiopsieCatalogue rebiopsieCatalogue;
+  ReevaluationCatalogue reevaluationCatalogue;
+  FollowUpCatalogue followUpCatalogue;
+  ExportContext context;
+
+  @BeforeEach
+  void setUp(
+      @Mock DataCatalogueFactory catalogueFactory,
+      @Mock TherapieplanCatalogue therapieplanCatalogue,
+      @Mock EinzelempfehlungCatalogue einzelempfehlungCatalogue,
+      @Mock RebiopsieCatalogue rebiopsieCatalogue,
+      @Mock ReevaluationCatalogue reevaluationCatalogue,
+      @Mock FollowUpCatalogue followUpCatalogue) {
+    this.therapieplanCatalogue = therapieplanCatalogue;
+    this.einzelempfehlungCatalogue = einzelempfehlungCatalogue;
+    this.rebiopsieCatalogue = rebiopsieCatalogue;
+    this.reevaluationCatalogue = reevaluationCatalogue;
+    this.followUpCatalogue = followUpCatalogue;
+
+    when(catalogueFactory.catalogue(TherapieplanCatalogue.class)).thenReturn(therapieplanCatalogue);
+    when(catalogueFactory.catalogue(EinzelempfehlungCatalogue.class))
+        .thenReturn(einzelempfehlungCatalogue);
+    when(catalogueFactory.catalogue(RebiopsieCatalogue.class)).thenReturn(rebiopsieCatalogue);
+    when(catalogueFactory.catalogue(ReevaluationCatalogue.class))
+        .thenReturn(reevaluationCatalogue);
+    when(catalogueFactory.catalogue(FollowUpCatalogue.class)).thenReturn(followUpCatalogue);
+
+    this.context = ExportContext.create(catalogueFactory, 1);
+  }
+
+  @Test
+  void shouldNotLoadAnythingOnCreation() {
+    assertThat(context.getKpaId()).isEqualTo(1);
+
+    verifyNoInteractions(
+        therapieplanCatalogue,
+        einzelempfehlungCatalogue,
+        rebiopsieCatalogue,
+        reevaluationCatalogue,
+        followUpCatalogue);
+  }
+
+  @Test
+  void shouldLoadTherapieplanIdsOnce() {
+    when(therapieplanCatalogue.getByKpaId(1)).thenReturn(List.of(2, 3, 2));
+
+    assertThat(context.getTherapieplanIds()).containsExactly(2, 3);
+    assertThat(context.getTherapieplanIds()).containsExactly(2, 3);
+
+    verify(therapieplanCatalogue, times(1)).getByKpaId(anyInt());
+  }
+
+  @Test
+  void shouldLoadEinzelempfehlungenOfAllTherapieplaeneOnce() {
+    when(therapieplanCatalogue.getByKpaId(1)).thenReturn(List.of(2, 3));
+    when(einzelempfehlungCatalogue.getAllByParentId(2))
+        .thenReturn(List.of(TestResultSet.withColumns(Column.name(Column.ID).value(100))));
+    when(einzelempfehlungCatalogue.getAllByParentId(3))
+        .thenReturn(List.of(TestResultSet.withColumns(Column.name(Column.ID).value(101))));
+
+    assertThat(context.getEinzelempfehlungen()).hasSize(2);
+    assertThat(context.getEinzelempfehlungen()).hasSize(2);
+    assertThat(context.getTherapieplanIds()).containsExactly(2, 3);
+
+    verify(therapieplanCatalogue, times(1)).getByKpaId(anyInt());
+    verify(einzelempfehlungCatalogue, times(2)).getAllByParentId(anyInt());
+  }
+
+  @Test
+  void shouldLoadFollowUpIdsOnce() {
+    when(followUpCatalogue.getByKpaId(1)).thenReturn(List.of(4, 4, 5));
+
+    assertThat(context.getFollowUpIds()).containsExactly(4, 5);
+    assertThat(context.getFollowUpIds()).containsExactly(4, 5);
+
+    verify(followUpCatalogue, times(1)).getByKpaId(anyInt());
+  }
+
+  @Test
+  void shouldCollectReferencedMolekulargenetikIdsOnce() {
+    when(therapieplanCatalogue.getByKpaId(1)).thenReturn(List.of(2));
+    when(therapieplanCatalogue.findById(2))
+        .thenReturn(
+            Optional.of(
+                TestResultSet.withColumns(
+                    Column.name(Column.ID).value(2), Column.name("ref_no_empf_molgen").value(13))));
+    when(einzelempfehlungCatalogue.getAllByParentId(2))
+        .thenReturn(
+            List.of(
+                TestResultSet.withColumns(
+                    Column.name(Column.ID).value(100),
+                    Column.name("ref_molekulargenetik").value(10)),
+                TestResultSet.withColumns(Column.name(Column.ID).value(101))));
+    when(rebiopsieCatalogue.getAllByParentId(2))
+        .thenReturn(
+            List.of(
+                TestResultSet.withColumns(
+                    Column.name(Column.ID).value(102),
+                    Column.name("ref_molekulargenetik").value(11))));
+    when(reevaluationCatalogue.getAllByParentId(2))
+        .thenReturn(
+            List.of(
+                TestResultSet.withColumns(
+                    Column.name(Column.ID).value(103),
+                    Column.name("ref_molekulargenetik").value(10))));
+
+    assertThat(context.getMolekulargenetikIds()).isEqualTo(Set.of(10, 11, 13));
+    assertThat(context.getMolekulargenetikIds()).isEqualTo(Set.of(10, 11, 13));
+
+    verify(therapieplanCatalogue, times(1)).getByKpaId(anyInt());
+    verify(einzelempfehlungCatalogue, times(1)).getAllByParentId(anyInt());
+    verify(rebiopsieCatalogue, times(1)).getAllByParentId(anyInt());
+    verify(reevaluationCatalogue, times(1)).getAllByParentId(anyInt());
+  }
+
+  @Test
+  void shouldLoadOnceIfUsedConcurrently() throws Exception {
+    when(therapieplanCatalogue.getByKpaId(1)).thenReturn(List.of(2, 3));
+
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var tasks = new ArrayList<Callable<List<Integer>>>();
+      for (var i = 0; i < 32; i++) {
+        tasks.add(context::getTherapieplanIds);
+      }
+      for (var future : executor.invokeAll(tasks)) {
+        assertThat(future.get()).containsExactly(2, 3);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(therapieplanCatalogue, times(1)).getByKpaId(anyInt());
+  }
+}
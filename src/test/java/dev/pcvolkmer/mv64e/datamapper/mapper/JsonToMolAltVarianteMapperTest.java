@@ -21,11 +21,15 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import dev.pcvolkmer.mv64e.mtb.Coding;
 import dev.pcvolkmer.mv64e.mtb.GeneAlterationReference;
 import dev.pcvolkmer.mv64e.mtb.Reference;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class JsonToMolAltVarianteMapperTest {
 
@@ -64,4 +68,21 @@ class JsonToMolAltVarianteMapperTest {
     var variant = actual.get(0);
     assertThat(variant).isEqualTo(22641112);
   }
+
+  @Test
+  void shouldMapJsonToIdsSkippingOtherProperties() {
+    var json =
+        "[{\"gen\":\"BRAF\",\"details\":{\"id\":1},\"exons\":[1,2],\"id\":\"22641112\"},"
+            + "{\"id\":22641113}]";
+
+    var actual = JsonToMolAltVarianteMapper.mapIds(json);
+
+    assertThat(actual).containsExactly(22641112, 22641113);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "null", "{}", "[null]", "[{\"gen\":\"BRAF\"}]", "[{\"id\":\"a\"}]"})
+  void shouldNotMapInvalidJsonToIds(String json) {
+    assertThrows(DataAccessException.class, () -> JsonToMolAltVarianteMapper.mapIds(json));
+  }
 }
@@ -42,6 +42,7 @@ import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -88,15 +89,14 @@ class KpaHistologieDataMapperTest {
                       PropcatColumn.name("morphologie").value("8000/0"),
                       Column.name("tumorzellgehalt").value(80))));
 
-      when(this.molekulargenetikCatalogue.isAvailable(anyInt())).thenReturn(true);
-
-      when(this.molekulargenetikCatalogue.getById(anyInt()))
+      when(this.molekulargenetikCatalogue.findById(anyInt()))
           .thenReturn(
-              TestResultSet.withColumns(
-                  Column.name(Column.ID).value(100),
-                  Column.name(Column.PATIENTEN_ID).value(42),
-                  Column.name("histologie").value(100),
-                  DateColumn.name("datum").value("2000-01-01")));
+              Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(100),
+                      Column.name(Column.PATIENTEN_ID).value(42),
+                      Column.name("histologie").value(100),
+                      DateColumn.name("datum").value("2000-01-01"))));
 
       doAnswer(
               invocationOnMock -> {
@@ -165,13 +165,14 @@ class KpaHistologieDataMapperTest {
                       Column.name("histologie").value(100),
                       DateColumn.name("erstellungsdatum").value("2000-01-01"))));
 
-      when(this.molekulargenetikCatalogue.getById(anyInt()))
+      when(this.molekulargenetikCatalogue.findById(anyInt()))
           .thenReturn(
-              TestResultSet.withColumns(
-                  Column.name(Column.ID).value(100),
-                  Column.name(Column.PATIENTEN_ID).value(42),
-                  Column.name("histologie").value(100),
-                  DateColumn.name("datum").value("2000-01-01")));
+              Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(100),
+                      Column.name(Column.PATIENTEN_ID).value(42),
+                      Column.name("histologie").value(100),
+                      DateColumn.name("datum").value("2000-01-01"))));
 
       var actualList = this.dataMapper.getByParentId(1);
       assertThat(actualList).hasSize(1);
@@ -244,16 +245,15 @@ class KpaHistologieDataMapperTest {
                       Column.name("histologie").value(100),
                       DateColumn.name("erstellungsdatum").value("2000-01-01"))));
 
-      when(this.pathologiebefundCatalogue.isAvailable(anyInt())).thenReturn(true);
-
-      when(this.pathologiebefundCatalogue.getById(anyInt()))
+      when(this.pathologiebefundCatalogue.findById(anyInt()))
           .thenReturn(
-              TestResultSet.withColumns(
-                  Column.name(Column.ID).value(100),
-                  Column.name(Column.PATIENTEN_ID).value(42),
-                  Column.name("histologie").value(100),
-                  DateColumn.name("histologiedatum").value("2000-01-01"),
-                  PropcatColumn.name("icdo3histologie").value("8000/0")));
+              Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(100),
+                      Column.name(Column.PATIENTEN_ID).value(42),
+                      Column.name("histologie").value(100),
+                      DateColumn.name("histologiedatum").value("2000-01-01"),
+                      PropcatColumn.name("icdo3histologie").value("8000/0"))));
 
       doAnswer(
               invocationOnMock -> {
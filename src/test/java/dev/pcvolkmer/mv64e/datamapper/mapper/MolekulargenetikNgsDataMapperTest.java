@@ -3,6 +3,8 @@ package dev.pcvolkmer.mv64e.datamapper.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.pcvolkmer.mv64e.datamapper.PropertyCatalogue;
@@ -13,6 +15,8 @@ import dev.pcvolkmer.mv64e.datamapper.test.PropcatColumn;
 import dev.pcvolkmer.mv64e.datamapper.test.TestResultSet;
 import dev.pcvolkmer.mv64e.mtb.*;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -92,6 +96,53 @@ class MolekulargenetikNgsDataMapperTest {
     assertThat(actual).isInstanceOf(SomaticNgsReport.class);
   }
 
+  @Test
+  void shouldMapNgsReportsOfTypeSequencingOnly() {
+    when(molekulargenetikCatalogue.getIdsByKpaId(anyInt())).thenReturn(List.of(1, 2));
+    when(molekulargenetikCatalogue.getIdsOfTypeSequencing(anyCollection()))
+        .thenReturn(Set.of(1, 3));
+    doAnswer(
+            invocationOnMock -> {
+              var id = invocationOnMock.getArgument(0, Integer.class);
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("AnalyseMethoden").values("S")));
+            })
+        .when(molekulargenetikCatalogue)
+        .findById(anyInt());
+
+    var actual = this.mapper.getAllByKpaIdWithHisto(1, List.of(2, 3));
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual.get(0).getId()).isEqualTo("1");
+    assertThat(actual.get(1).getId()).isEqualTo("3");
+    verify(molekulargenetikCatalogue, never()).findById(2);
+  }
+
+  @Test
+  void shouldSkipNonUniqueNgsReport() {
+    when(molekulargenetikCatalogue.getIdsByKpaId(anyInt())).thenReturn(List.of(1, 2));
+    when(molekulargenetikCatalogue.getIdsOfTypeSequencing(anyCollection()))
+        .thenReturn(Set.of(1, 2));
+    // getById() would throw "Multiple records found for id: 1"
+    when(molekulargenetikCatalogue.findById(1)).thenReturn(Optional.empty());
+    when(molekulargenetikCatalogue.findById(2))
+        .thenReturn(
+            Optional.of(
+                TestResultSet.withColumns(
+                    Column.name(Column.ID).value(2),
+                    Column.name(Column.PATIENTEN_ID).value(4711),
+                    PropcatColumn.name("AnalyseMethoden").values("S"))));
+
+    var actual = this.mapper.getAllByKpaIdWithHisto(1, List.of());
+
+    assertThat(actual).hasSize(1);
+    assertThat(actual.get(0).getId()).isEqualTo("2");
+    verify(molekulargenetikCatalogue, never()).getById(anyInt());
+  }
+
   @Test
   void shouldAlwaysContainMetadataInNgsReport() {
     doAnswer(
@@ -1005,6 +1056,69 @@ class MolekulargenetikNgsDataMapperTest {
             });
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "chr1,CHR1",
+    "7,CHR7",
+    "7q34,CHR7",
+    "chr7 (GRCh38),CHR7",
+    "X,CHR_X",
+    "x,CHR_X",
+    "chrXq28,CHR_X",
+    // Not a chromosome - no chromosome in variant
+    "chr23,",
+    "7a,",
+    "abc,",
+    "'',"
+  })
+  void shouldMapSimpleVariantChromosome(final String value, final Chromosome expectedChromosome) {
+    doAnswer(
+            invocationOnMock -> {
+              var id = invocationOnMock.getArgument(0, Integer.class);
+              return TestResultSet.withColumns(
+                  Column.name(Column.ID).value(id),
+                  Column.name(Column.PATIENTEN_ID).value(4711),
+                  PropcatColumn.name("AnalyseMethoden").values("S"),
+                  PropcatColumn.name("entnahmemethode").value("B"),
+                  PropcatColumn.name("probenmaterial").value("T"));
+            })
+        .when(molekulargenetikCatalogue)
+        .getById(eq(1));
+
+    doAnswer(
+            invocationOnMock -> {
+              var id = invocationOnMock.getArgument(0, Integer.class);
+              return List.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      Column.name(Column.HAUPTPROZEDUR_ID).value(1),
+                      PropcatColumn.name("ergebnis").value("P"),
+                      Column.name("untersucht").value("BRAF"),
+                      Column.name("EVStart").value(123),
+                      Column.name("evaltnucleotide").value("C"),
+                      Column.name("evrefnucleotide").value("A"),
+                      // Not real data - just for testing purposes
+                      Column.name("evhgncid").value("HGNC:1234"),
+                      Column.name("evchromosom").value(value),
+                      Column.name("evensemblid").value("ENSG00000123456")));
+            })
+        .when(molekulargenuntersuchungCatalogue)
+        .getAllByParentId(anyInt());
+
+    when(molekulargenetikCatalogue.isOfTypeSeqencing(anyInt())).thenReturn(true);
+
+    var actual = this.mapper.getById(1);
+
+    assertThat(actual).isInstanceOf(SomaticNgsReport.class);
+    assertThat(actual.getResults().getSimpleVariants())
+        .satisfies(
+            simpleVariants -> {
+              assertThat(simpleVariants).hasSize(1);
+              assertThat(simpleVariants.get(0).getChromosome()).isEqualTo(expectedChromosome);
+            });
+  }
+
   public static Stream<Arguments> providePipelineAndUri() {
     return Stream.of(
         // This does not result in an exception
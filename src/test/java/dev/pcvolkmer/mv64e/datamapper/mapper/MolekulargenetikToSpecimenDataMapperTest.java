@@ -21,6 +21,7 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doAnswer;
@@ -36,6 +37,8 @@ import dev.pcvolkmer.mv64e.mtb.*;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -132,18 +135,18 @@ class MolekulargenetikToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Molekulargenetik
-    when(this.molekulargenetikCatalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("entnahmemethode").value("B"),
-                  PropcatColumn.name("probenmaterial").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("entnahmemethode").value("B"),
+                      PropcatColumn.name("probenmaterial").value("T")));
             })
         .when(molekulargenetikCatalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -227,18 +230,18 @@ class MolekulargenetikToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Molekulargenetik
-    when(this.molekulargenetikCatalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("entnahmemethode").value("B"),
-                  PropcatColumn.name("probenmaterial").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("entnahmemethode").value("B"),
+                      PropcatColumn.name("probenmaterial").value("T")));
             })
         .when(molekulargenetikCatalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -268,19 +271,19 @@ class MolekulargenetikToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Molekulargenetik
-    when(this.molekulargenetikCatalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("materialfixierung").value(value),
-                  PropcatColumn.name("entnahmemethode").value("B"),
-                  PropcatColumn.name("probenmaterial").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("materialfixierung").value(value),
+                      PropcatColumn.name("entnahmemethode").value("B"),
+                      PropcatColumn.name("probenmaterial").value("T")));
             })
         .when(molekulargenetikCatalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -358,18 +361,18 @@ class MolekulargenetikToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Molekulargenetik
-    when(this.molekulargenetikCatalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("entnahmemethode").value(value),
-                  PropcatColumn.name("probenmaterial").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("entnahmemethode").value(value),
+                      PropcatColumn.name("probenmaterial").value("T")));
             })
         .when(molekulargenetikCatalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -440,18 +443,18 @@ class MolekulargenetikToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Molekulargenetik
-    when(this.molekulargenetikCatalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("entnahmemethode").value("B"),
-                  PropcatColumn.name("probenmaterial").value(value));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("entnahmemethode").value("B"),
+                      PropcatColumn.name("probenmaterial").value(value)));
             })
         .when(molekulargenetikCatalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -478,19 +481,19 @@ class MolekulargenetikToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Molekulargenetik
-    when(this.molekulargenetikCatalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("entnahmemethode").value("B"),
-                  DateColumn.name("entnahmedatum").value("2025-06-28"),
-                  PropcatColumn.name("probenmaterial").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("entnahmemethode").value("B"),
+                      DateColumn.name("entnahmedatum").value("2025-06-28"),
+                      PropcatColumn.name("probenmaterial").value("T")));
             })
         .when(molekulargenetikCatalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -619,25 +622,24 @@ class MolekulargenetikToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Molekulargenetik - only "42" is available
-    doAnswer(invocationOnMock -> invocationOnMock.getArgument(0, Integer.class) == 42)
-        .when(molekulargenetikCatalogue)
-        .isAvailable(anyInt());
+    when(molekulargenetikCatalogue.existingIds(anyCollection())).thenReturn(Set.of(42));
 
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
               if (id == 42) {
-                return TestResultSet.withColumns(
-                    Column.name(Column.ID).value(id),
-                    Column.name(Column.PATIENTEN_ID).value(4711),
-                    PropcatColumn.name("entnahmemethode").value("B"),
-                    DateColumn.name("entnahmedatum").value("2025-06-28"),
-                    PropcatColumn.name("probenmaterial").value("T"));
+                return Optional.of(
+                    TestResultSet.withColumns(
+                        Column.name(Column.ID).value(id),
+                        Column.name(Column.PATIENTEN_ID).value(4711),
+                        PropcatColumn.name("entnahmemethode").value("B"),
+                        DateColumn.name("entnahmedatum").value("2025-06-28"),
+                        PropcatColumn.name("probenmaterial").value("T")));
               }
               throw new DataAccessException("Unexpected test id: " + id);
             })
         .when(molekulargenetikCatalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -21,18 +21,27 @@
 package dev.pcvolkmer.mv64e.datamapper.mapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import dev.pcvolkmer.mv64e.datamapper.PropertyCatalogue;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.*;
+import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import dev.pcvolkmer.mv64e.datamapper.test.Column;
 import dev.pcvolkmer.mv64e.datamapper.test.PropcatColumn;
 import dev.pcvolkmer.mv64e.datamapper.test.TestResultSet;
 import dev.pcvolkmer.mv64e.mtb.*;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -61,6 +70,24 @@ class MtbDataMapperTest {
     assertThat(MtbDataMapper.create(dataSource)).isNotNull();
   }
 
+  @Test
+  void shouldNotAcceptInvalidBatchSize() {
+    assertThrows(IllegalArgumentException.class, () -> mtbDataMapper.batchSize(0));
+  }
+
+  @Test
+  void shouldNotAcceptInvalidParallelism() {
+    assertThrows(IllegalArgumentException.class, () -> mtbDataMapper.executor(Runnable::run, 0));
+  }
+
+  @Test
+  void shouldReturnNewInstanceOnConfiguration() {
+    assertThat(mtbDataMapper.tumorCellContentMethod(TumorCellContentMethodCodingCode.BIOINFORMATIC))
+        .isNotSameAs(mtbDataMapper);
+    assertThat(mtbDataMapper.batchSize(10)).isNotSameAs(mtbDataMapper);
+    assertThat(mtbDataMapper.executor(Runnable::run, 2)).isNotSameAs(mtbDataMapper);
+  }
+
   @Nested
   class InitializedMtbDataMapper {
 
@@ -318,5 +345,115 @@ class MtbDataMapperTest {
                         });
               });
     }
+
+    @Test
+    void shouldMapByIdsAndReportFailedCases() {
+      when(kpaCatalogue.getById(1))
+          .thenReturn(
+              TestResultSet.withColumns(
+                  Column.name(Column.ID).value(1),
+                  Column.name(Column.PATIENTEN_ID).value(42),
+                  Column.name("patient_id").value(42),
+                  PropcatColumn.name("icd10").value("C00.0"),
+                  PropcatColumn.name("icdo3lokalisation").value("8000/0")));
+      when(kpaCatalogue.getById(2)).thenThrow(new DataAccessException("No record found for id: 2"));
+
+      when(patientCatalogue.getById(anyInt()))
+          .thenReturn(TestResultSet.withColumns(Column.name(Column.ID).value(42)));
+
+      var actual = out.batchSize(1).getByIds(List.of(1, 2, 1));
+
+      assertThat(actual).containsOnlyKeys(1, 2);
+      assertThat(actual.get(1).ok()).containsInstanceOf(Mtb.class);
+      assertThat(actual.get(2).isOk()).isFalse();
+      assertThat(actual.get(2).getException()).isInstanceOf(DataAccessException.class);
+
+      // One batch for each distinct case
+      verify(kpaCatalogue, times(2)).prefetchByIds(anyCollection());
+    }
+
+    @Test
+    void shouldMapSameMtbUsingConcurrentSections() {
+      when(kpaCatalogue.getById(anyInt()))
+          .thenReturn(
+              TestResultSet.withColumns(
+                  Column.name(Column.ID).value(1),
+                  Column.name(Column.PATIENTEN_ID).value(42),
+                  Column.name("patient_id").value(42),
+                  PropcatColumn.name("icd10").value("C00.0"),
+                  PropcatColumn.name("icdo3lokalisation").value("8000/0"),
+                  Column.name("consentmv64e").value(10)));
+
+      when(patientCatalogue.getById(anyInt()))
+          .thenReturn(TestResultSet.withColumns(Column.name(Column.ID).value(42)));
+
+      when(consentMvVerlaufCatalogue.getAllByParentId(anyInt()))
+          .thenReturn(
+              List.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(10),
+                      Column.name("sequencing").value("permit"),
+                      Column.name("caseidentification").value("deny"),
+                      Column.name("reidentification").value("deny"))));
+
+      var sequential = out.getById(1);
+
+      var executor = Executors.newFixedThreadPool(4);
+      try {
+        var concurrent = out.executor(executor, 3).getById(1);
+
+        assertThat(concurrent).usingRecursiveComparison().isEqualTo(sequential);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    void shouldMapSameMtbUsingOneInstanceInConcurrentThreads() throws Exception {
+      when(kpaCatalogue.getById(anyInt()))
+          .thenAnswer(
+              invocationOnMock -> {
+                int kpaId = invocationOnMock.getArgument(0);
+                return TestResultSet.withColumns(
+                    Column.name(Column.ID).value(kpaId),
+                    Column.name(Column.PATIENTEN_ID).value(40 + kpaId),
+                    Column.name("patient_id").value(40 + kpaId),
+                    PropcatColumn.name("icd10").value("C00.0"),
+                    PropcatColumn.name("icdo3lokalisation").value("8000/0"));
+              });
+
+      when(patientCatalogue.getById(anyInt()))
+          .thenAnswer(
+              invocationOnMock ->
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(invocationOnMock.getArgument(0))));
+
+      var kpaIds = List.of(1, 2, 3, 4, 5, 6, 7, 8);
+      var sequential = new HashMap<Integer, Mtb>();
+      for (var kpaId : kpaIds) {
+        sequential.put(kpaId, out.getById(kpaId));
+      }
+
+      var executor = Executors.newFixedThreadPool(8);
+      try {
+        var tasks = new ArrayList<Callable<Mtb>>();
+        var expected = new ArrayList<Mtb>();
+        for (var i = 0; i < 200; i++) {
+          var kpaId = kpaIds.get(i % kpaIds.size());
+          tasks.add(() -> out.getById(kpaId));
+          expected.add(sequential.get(kpaId));
+        }
+
+        var futures = executor.invokeAll(tasks);
+        for (var i = 0; i < futures.size(); i++) {
+          assertThat(futures.get(i).get()).usingRecursiveComparison().isEqualTo(expected.get(i));
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+
+      // Sub-mappers have been created once
+      verify(dataCatalogueFactory, times(1)).catalogue(PatientCatalogue.class);
+    }
   }
 }
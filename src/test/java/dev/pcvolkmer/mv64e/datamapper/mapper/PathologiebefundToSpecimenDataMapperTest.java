@@ -27,7 +27,6 @@ import static org.mockito.Mockito.when;
 
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.HistologieCatalogue;
 import dev.pcvolkmer.mv64e.datamapper.datacatalogues.PathologiebefundCatalogue;
-import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
 import dev.pcvolkmer.mv64e.datamapper.test.Column;
 import dev.pcvolkmer.mv64e.datamapper.test.DateColumn;
 import dev.pcvolkmer.mv64e.datamapper.test.PropcatColumn;
@@ -36,6 +35,7 @@ import dev.pcvolkmer.mv64e.mtb.*;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -81,18 +81,18 @@ class PathologiebefundToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Pathologiebefund
-    when(this.catalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("Praeparat").value("B"),
-                  PropcatColumn.name("EntnahmestellederBiopsie").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("Praeparat").value("B"),
+                      PropcatColumn.name("EntnahmestellederBiopsie").value("T")));
             })
         .when(catalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -121,24 +121,21 @@ class PathologiebefundToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Pathologiebefund - only "42" is available
-    doAnswer(invocationOnMock -> invocationOnMock.getArgument(0, Integer.class) == 42)
-        .when(catalogue)
-        .isAvailable(anyInt());
-
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
               if (id == 42) {
-                return TestResultSet.withColumns(
-                    Column.name(Column.ID).value(id),
-                    Column.name(Column.PATIENTEN_ID).value(4711),
-                    PropcatColumn.name("Praeparat").value("B"),
-                    PropcatColumn.name("EntnahmestellederBiopsie").value("T"));
+                return Optional.of(
+                    TestResultSet.withColumns(
+                        Column.name(Column.ID).value(id),
+                        Column.name(Column.PATIENTEN_ID).value(4711),
+                        PropcatColumn.name("Praeparat").value("B"),
+                        PropcatColumn.name("EntnahmestellederBiopsie").value("T")));
               }
-              throw new DataAccessException("Unexpected test id: " + id);
+              return Optional.empty();
             })
         .when(catalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -164,18 +161,18 @@ class PathologiebefundToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Pathologiebefund
-    when(this.catalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("Praeparat").value(value),
-                  PropcatColumn.name("EntnahmestellederBiopsie").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("Praeparat").value(value),
+                      PropcatColumn.name("EntnahmestellederBiopsie").value("T")));
             })
         .when(catalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -225,18 +222,18 @@ class PathologiebefundToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Pathologiebefund
-    when(this.catalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("Praeparat").value("B"),
-                  PropcatColumn.name("EntnahmestellederBiopsie").value(value));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("Praeparat").value("B"),
+                      PropcatColumn.name("EntnahmestellederBiopsie").value(value)));
             })
         .when(catalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -256,19 +253,19 @@ class PathologiebefundToSpecimenDataMapperTest {
         .getAllByParentId(anyInt());
 
     // Mock OS.Pathologiebefund
-    when(this.catalogue.isAvailable(anyInt())).thenReturn(true);
     doAnswer(
             invocationOnMock -> {
               var id = invocationOnMock.getArgument(0, Integer.class);
-              return TestResultSet.withColumns(
-                  Column.name(Column.ID).value(id),
-                  Column.name(Column.PATIENTEN_ID).value(4711),
-                  PropcatColumn.name("Praeparat").value("B"),
-                  DateColumn.name("HistologieDatum").value("2025-06-28"),
-                  PropcatColumn.name("EntnahmestellederBiopsie").value("T"));
+              return Optional.of(
+                  TestResultSet.withColumns(
+                      Column.name(Column.ID).value(id),
+                      Column.name(Column.PATIENTEN_ID).value(4711),
+                      PropcatColumn.name("Praeparat").value("B"),
+                      DateColumn.name("HistologieDatum").value("2025-06-28"),
+                      PropcatColumn.name("EntnahmestellederBiopsie").value("T")));
             })
         .when(catalogue)
-        .getById(anyInt());
+        .findById(anyInt());
 
     var actual = this.mapper.getAllByKpaId(1, Reference.builder().build());
 
@@ -0,0 +1,213 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import dev.pcvolkmer.mv64e.datamapper.datacatalogues.CatalogueCache;
+import dev.pcvolkmer.mv64e.datamapper.exceptions.DataAccessException;
+import dev.pcvolkmer.mv64e.datamapper.tracing.RecordingExportTracer;
+import dev.pcvolkmer.mv64e.datamapper.tracing.RecordingExportTracer.RecordedSpan;
+import dev.pcvolkmer.mv64e.datamapper.tracing.Tracing;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SectionsTest {
+
+  ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    this.executor = Executors.newFixedThreadPool(8);
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void shouldRunSequentialSectionsOnCallingThread() {
+    var sections = Sections.sequential();
+    var thread = Thread.currentThread();
+
+    var section = sections.submit("thread", Thread::currentThread);
+
+    assertThat(section.get()).isSameAs(thread);
+  }
+
+  @Test
+  void shouldThrowExceptionOfSequentialSectionOnSubmission() {
+    var sections = Sections.sequential();
+
+    assertThrows(
+        DataAccessException.class,
+        () ->
+            sections.submit(
+                "failure",
+                () -> {
+                  throw new DataAccessException("Test");
+                }));
+  }
+
+  @Test
+  void shouldThrowExceptionOfConcurrentSectionOnRequest() {
+    var sections = Sections.concurrent(executor, 2);
+
+    var section =
+        sections.submit(
+            "failure",
+            () -> {
+              throw new DataAccessException("Test");
+            });
+    sections.await();
+
+    assertThrows(DataAccessException.class, section::get);
+  }
+
+  @Test
+  void shouldLimitParallelism() {
+    var sections = Sections.concurrent(executor, 2);
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    var submitted = new ArrayList<Sections.Section<Integer>>();
+    for (var i = 0; i < 20; i++) {
+      var value = i;
+      submitted.add(
+          sections.submit(
+              "section" + i,
+              () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                  TimeUnit.MILLISECONDS.sleep(5);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return value;
+              }));
+    }
+    sections.await();
+
+    assertThat(maxRunning.get()).isBetween(1, 2);
+    for (var i = 0; i < 20; i++) {
+      assertThat(submitted.get(i).get()).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void shouldShareOpenCatalogueCacheWithSections() throws Exception {
+    var singleThreadExecutor = Executors.newSingleThreadExecutor();
+    try {
+      var sections = Sections.concurrent(singleThreadExecutor, 1);
+
+      try (var cache = CatalogueCache.open()) {
+        var section = sections.submit("cache", CatalogueCache::isOpen);
+        assertThat(section.get()).isTrue();
+      }
+
+      // The worker thread must not keep the cache
+      assertThat(singleThreadExecutor.submit(CatalogueCache::isOpen).get()).isFalse();
+    } finally {
+      singleThreadExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldTraceSectionsAsChildSpans() {
+    var tracer = RecordingExportTracer.create();
+    var sections = Sections.concurrent(executor, 2);
+
+    try (var tracing = Tracing.start(tracer, "Mtb")) {
+      var first = sections.submit("first", () -> Tracing.span("stage", () -> 1));
+      var second = sections.submit("second", () -> 2);
+      sections.await();
+
+      assertThat(first.get()).isEqualTo(1);
+      assertThat(second.get()).isEqualTo(2);
+    }
+
+    assertThat(tracer.getSpans())
+        .singleElement()
+        .satisfies(
+            span -> {
+              assertThat(span.getName()).isEqualTo("Mtb");
+              assertThat(span.getChildren())
+                  .extracting(RecordedSpan::getName)
+                  .containsExactlyInAnyOrder("first", "second");
+              assertThat(span.getChildren())
+                  .filteredOn(child -> child.getName().equals("first"))
+                  .flatExtracting(RecordedSpan::getChildren)
+                  .extracting(RecordedSpan::getName)
+                  .containsExactly("stage");
+            });
+  }
+
+  @Test
+  void shouldRunRejectedSectionsOnCallingThread() {
+    var sections =
+        Sections.concurrent(
+            runnable -> {
+              throw new RejectedExecutionException();
+            },
+            2);
+    var thread = Thread.currentThread();
+
+    var section = sections.submit("thread", Thread::currentThread);
+
+    assertThat(section.get()).isSameAs(thread);
+  }
+
+  @Test
+  void shouldNotDeadlockIfCalledFromWithinExecutor() throws Exception {
+    var singleThreadExecutor = Executors.newSingleThreadExecutor();
+    try {
+      var result =
+          singleThreadExecutor.submit(
+              () -> {
+                var sections = Sections.concurrent(singleThreadExecutor, 1);
+                var first = sections.submit("first", () -> 1);
+                var second = sections.submit("second", () -> 2);
+                var third = sections.submit("third", () -> 3);
+                sections.await();
+                return first.get() + second.get() + third.get();
+              });
+
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(6);
+    } finally {
+      singleThreadExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldNotAcceptInvalidParallelism() {
+    assertThrows(IllegalArgumentException.class, () -> Sections.concurrent(executor, 0));
+  }
+}
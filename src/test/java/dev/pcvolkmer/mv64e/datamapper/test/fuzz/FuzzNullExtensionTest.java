@@ -93,26 +93,32 @@ class FuzzNullExtensionTest {
 
   @FuzzNullTest(initMethod = "testData", maxNullColumns = -2)
   void testDefaultMaxNullColumnsPermutations(ResultSet resultSet) {
-    assertThat(resultSet)
+    assertThat(resultSet.getRawData())
         .isIn(
             TestResultSet.withColumns(
-                Column.name(Column.ID).value(1), Column.name("value").value("Test")),
+                    Column.name(Column.ID).value(1), Column.name("value").value("Test"))
+                .getRawData(),
             TestResultSet.withColumns(
-                Column.name(Column.ID).value(1), DateColumn.name("date").value("2025-07-11")));
-    assertThat(resultSet)
-        .isNotIn(testData(), TestResultSet.withColumns(Column.name(Column.ID).value(1)));
+                    Column.name(Column.ID).value(1), DateColumn.name("date").value("2025-07-11"))
+                .getRawData());
+    assertThat(resultSet.getRawData())
+        .isNotIn(
+            testData().getRawData(),
+            TestResultSet.withColumns(Column.name(Column.ID).value(1)).getRawData());
   }
 
   @FuzzNullTest(initMethod = "testData", maxNullColumns = 2)
   void testAllPermutations(ResultSet resultSet) {
-    assertThat(resultSet)
+    assertThat(resultSet.getRawData())
         .isIn(
             TestResultSet.withColumns(
-                Column.name(Column.ID).value(1), Column.name("value").value("Test")),
+                    Column.name(Column.ID).value(1), Column.name("value").value("Test"))
+                .getRawData(),
             TestResultSet.withColumns(
-                Column.name(Column.ID).value(1), DateColumn.name("date").value("2025-07-11")),
-            TestResultSet.withColumns(Column.name(Column.ID).value(1)));
-    assertThat(resultSet).isNotIn(testData());
+                    Column.name(Column.ID).value(1), DateColumn.name("date").value("2025-07-11"))
+                .getRawData(),
+            TestResultSet.withColumns(Column.name(Column.ID).value(1)).getRawData());
+    assertThat(resultSet.getRawData()).isNotIn(testData().getRawData());
   }
 
   @FuzzNullTest(
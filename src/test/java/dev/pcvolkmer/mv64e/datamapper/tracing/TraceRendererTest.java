@@ -0,0 +1,64 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TraceRendererTest {
+
+  RecordingExportTracer tracer;
+
+  @BeforeEach
+  void setUp() {
+    this.tracer = RecordingExportTracer.create();
+
+    try (var tracing = Tracing.start(tracer, "Mtb 1")) {
+      Tracing.span("Mtb.patient", () -> Tracing.span("KpaCatalogue.getById", () -> 42));
+    }
+  }
+
+  @Test
+  void shouldRenderIndentedText() {
+    var actual = TraceRenderer.toText(tracer.getSpans());
+
+    assertThat(actual.lines())
+        .satisfiesExactly(
+            line -> assertThat(line).startsWith("Mtb 1: "),
+            line -> assertThat(line).startsWith("  Mtb.patient: "),
+            line -> assertThat(line).startsWith("    KpaCatalogue.getById: "));
+  }
+
+  @Test
+  void shouldRenderJson() throws Exception {
+    var actual = new ObjectMapper().readTree(TraceRenderer.toJson(tracer.getSpans()));
+
+    assertThat(actual.isArray()).isTrue();
+    assertThat(actual.get(0).get("name").asText()).isEqualTo("Mtb 1");
+    assertThat(actual.get(0).get("durationMillis").isNumber()).isTrue();
+    assertThat(actual.at("/0/children/0/name").asText()).isEqualTo("Mtb.patient");
+    assertThat(actual.at("/0/children/0/children/0/name").asText())
+        .isEqualTo("KpaCatalogue.getById");
+  }
+}
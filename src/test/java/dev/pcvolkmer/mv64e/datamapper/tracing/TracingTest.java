@@ -0,0 +1,119 @@
+/*
+ * This file is part of mv64e-onkostar-data
+ *
+ * Copyright (C) 2026  Paul-Christian Volkmer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ */
+
+package dev.pcvolkmer.mv64e.datamapper.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.pcvolkmer.mv64e.datamapper.tracing.RecordingExportTracer.RecordedSpan;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class TracingTest {
+
+  @Test
+  void shouldRecordNestedSpans() {
+    var tracer = RecordingExportTracer.create();
+
+    try (var tracing = Tracing.start(tracer, "Mtb")) {
+      var actual =
+          Tracing.span(
+              TracingTest.class, "section", () -> Tracing.span("KpaCatalogue.getById", () -> 42));
+      assertThat(actual).isEqualTo(42);
+    }
+
+    assertThat(tracer.getSpans())
+        .singleElement()
+        .satisfies(
+            span -> {
+              assertThat(span.getName()).isEqualTo("Mtb");
+              assertThat(span.getDuration()).isNotNull();
+              assertThat(span.getChildren())
+                  .singleElement()
+                  .satisfies(
+                      child -> {
+                        assertThat(child.getName()).isEqualTo("TracingTest.section");
+                        assertThat(child.getChildren())
+                            .extracting(RecordedSpan::getName)
+                            .containsExactly("KpaCatalogue.getById");
+                      });
+            });
+    assertThat(Tracing.current()).isNull();
+  }
+
+  @Test
+  void shouldNotRecordSpansWithoutStartedTracing() {
+    var tracer = RecordingExportTracer.create();
+
+    var actual = Tracing.span("KpaCatalogue.getById", () -> 42);
+
+    assertThat(actual).isEqualTo(42);
+    assertThat(tracer.getSpans()).isEmpty();
+  }
+
+  @Test
+  void shouldRecordSpansOfAttachedWorkerThreads() throws Exception {
+    var tracer = RecordingExportTracer.create();
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      try (var tracing = Tracing.start(tracer, "Mtb")) {
+        executor
+            .submit(
+                () -> {
+                  try (var attached = tracing.attach()) {
+                    return Tracing.span("worker", () -> 42);
+                  }
+                })
+            .get();
+      }
+
+      // The worker thread must not keep the tracing
+      assertThat(executor.submit(Tracing::current).get()).isNull();
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(tracer.getSpans())
+        .singleElement()
+        .satisfies(
+            span ->
+                assertThat(span.getChildren())
+                    .singleElement()
+                    .satisfies(
+                        child -> {
+                          assertThat(child.getName()).isEqualTo("worker");
+                          assertThat(child.getThread())
+                              .isNotEqualTo(Thread.currentThread().getName());
+                        }));
+  }
+
+  @Test
+  void shouldStartRootSpanForOtherTracer() {
+    var tracer = RecordingExportTracer.create();
+
+    try (var outer = Tracing.start(ExportTracer.noop(), "Outer");
+        var inner = Tracing.start(tracer, "Mtb")) {
+      Tracing.span("stage", () -> 42);
+    }
+
+    assertThat(tracer.getSpans()).extracting(RecordedSpan::getName).containsExactly("Mtb");
+  }
+}